@@ -1,33 +1,145 @@
 package br.com.montreal.ai.llmontreal.config;
 
+import br.com.montreal.ai.llmontreal.service.extraction.ExtractionExecutors;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.aop.interceptor.AsyncUncaughtExceptionHandler;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.core.task.SyncTaskExecutor;
+import org.springframework.core.task.TaskExecutor;
 import org.springframework.scheduling.annotation.AsyncConfigurer;
 import org.springframework.scheduling.annotation.EnableAsync;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
 import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadPoolExecutor;
 
 @Configuration
 @EnableAsync
 @Slf4j
 public class AsyncConfig implements AsyncConfigurer {
 
-    @Bean(name = "documentExtractionExecutor")
-    public Executor documentExtractionExecutor() {
+    // Document extraction is split into bulkheads (see ExtractionExecutors): OCR and structured parsing get
+    // their own bounded pools. A full queue never fails the document: the IO thread handing it over waits for
+    // room, and new documents in turn wait for admission (extraction.executors.io.max-pending-starts), which
+    // pushes back on the uploads
+    @Bean(name = "extractionOcrExecutor")
+    public Executor extractionOcrExecutor(
+            @Value("${extraction.executors.ocr.workers:0}") int workers,
+            @Value("${extraction.executors.ocr.queue-capacity:500}") int queueCapacity) {
+        int poolSize = workers > 0 ? workers : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        return extractionLane("extract-ocr-", poolSize, queueCapacity, ExtractionExecutors.waitForRoom());
+    }
+
+    @Bean(name = "extractionParseExecutor")
+    public Executor extractionParseExecutor(
+            @Value("${extraction.executors.parse.workers:0}") int workers,
+            @Value("${extraction.executors.parse.queue-capacity:500}") int queueCapacity) {
+        int poolSize = workers > 0 ? workers : Runtime.getRuntime().availableProcessors();
+        return extractionLane("extract-parse-", poolSize, queueCapacity, ExtractionExecutors.waitForRoom());
+    }
+
+    // The I/O lane never blocks or runs work on its caller: OCR and parse workers hand their results back to it,
+    // and a worker waiting on it while I/O threads wait on that worker's full lane would deadlock. Only new
+    // documents are throttled, by the admission in ExtractionExecutors, so the queue stays bounded in practice
+    @Bean(name = "extractionIoExecutor")
+    public Executor extractionIoExecutor(
+            @Value("${extraction.executors.io.workers:8}") int workers,
+            @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+        if (virtualThreads) {
+            return virtualExecutor("extract-io-", SimpleAsyncTaskExecutor.UNBOUNDED_CONCURRENCY);
+        }
+        return extractionLane("extract-io-", Math.max(1, workers), Integer.MAX_VALUE,
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    private ThreadPoolTaskExecutor extractionLane(String threadNamePrefix, int poolSize, int queueCapacity,
+                                                  RejectedExecutionHandler rejectedExecutionHandler) {
         ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
-        executor.setCorePoolSize(2);
-        executor.setMaxPoolSize(5);
-        executor.setKeepAliveSeconds(45);
-        executor.setQueueCapacity(100);
-        executor.setThreadNamePrefix("doc-extraction-");
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix(threadNamePrefix);
+        executor.setRejectedExecutionHandler(rejectedExecutionHandler);
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(60);
+        executor.initialize();
+
+        log.info("Extraction executor {} initialized: core={}, max={}, queue={}", threadNamePrefix,
+                executor.getCorePoolSize(), executor.getMaxPoolSize(), executor.getQueueCapacity());
+
+        return executor;
+    }
+
+    // Chunking and embedding after extraction. Fails fast when full: a skipped document keeps ingested_at
+    // empty and is picked up by the backfill job, so extraction is never slowed down by embedding
+    @Bean(name = "ingestionExecutor")
+    public Executor ingestionExecutor(
+            @Value("${ingestion.workers:2}") int workers,
+            @Value("${ingestion.queue-capacity:200}") int queueCapacity) {
+        return extractionLane("ingestion-", Math.max(1, workers), queueCapacity, new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    @Bean(name = "zipEntryExecutor")
+    public Executor zipEntryExecutor(
+            @Value("${file.upload.zip.workers:0}") int workers,
+            @Value("${file.upload.zip.queue-capacity:50}") int queueCapacity) {
+        int poolSize = workers > 0 ? workers : Runtime.getRuntime().availableProcessors();
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("zip-entry-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(60);
+        executor.initialize();
+
+        log.info("ZIP entry executor initialized: core={}, max={}, queue={}",
+                executor.getCorePoolSize(), executor.getMaxPoolSize(), executor.getQueueCapacity());
+
+        return executor;
+    }
+
+    @Bean(name = "pdfOcrExecutor")
+    public Executor pdfOcrExecutor(@Value("${extraction.pdf-ocr.workers:0}") int workers) {
+        int poolSize = workers > 0 ? workers : Runtime.getRuntime().availableProcessors();
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(poolSize * 4);
+        executor.setThreadNamePrefix("pdf-ocr-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(60);
+        executor.initialize();
+
+        log.info("PDF OCR executor initialized: core={}, max={}, queue={}",
+                executor.getCorePoolSize(), executor.getMaxPoolSize(), executor.getQueueCapacity());
+
+        return executor;
+    }
+
+    @Bean(name = "pdfTextExecutor")
+    public Executor pdfTextExecutor(@Value("${extraction.pdf-parallel.workers:0}") int workers) {
+        int poolSize = workers > 0 ? workers : Runtime.getRuntime().availableProcessors();
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(poolSize * 4);
+        executor.setThreadNamePrefix("pdf-text-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
         executor.setWaitForTasksToCompleteOnShutdown(true);
         executor.setAwaitTerminationSeconds(60);
         executor.initialize();
 
-        log.info("Document extraction executor initialized: core={}, max={}, queue={}",
+        log.info("PDF text executor initialized: core={}, max={}, queue={}",
                 executor.getCorePoolSize(), executor.getMaxPoolSize(), executor.getQueueCapacity());
 
         return executor;
@@ -41,7 +153,13 @@ public class AsyncConfig implements AsyncConfigurer {
     }
 
     @Bean(name = "logApiCallExecutor")
-    public Executor logApiCallExecutor() {
+    public Executor logApiCallExecutor(
+            @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads,
+            @Value("${async.log-api-call.virtual-concurrency:32}") int virtualConcurrency) {
+        if (virtualThreads) {
+            return virtualExecutor("log-api-call-", virtualConcurrency);
+        }
+
         ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
         executor.setCorePoolSize(2);
         executor.setMaxPoolSize(5);
@@ -56,4 +174,31 @@ public class AsyncConfig implements AsyncConfigurer {
 
         return executor;
     }
+
+    // Ollama calls wait up to minutes on the network: in virtual-thread mode each one gets its own virtual thread
+    // (bounded by max-concurrent-calls); otherwise they keep running on the Kafka listener thread
+    @Bean(name = "ollamaCallExecutor")
+    public TaskExecutor ollamaCallExecutor(
+            @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads,
+            @Value("${ollama.max-concurrent-calls:200}") int maxConcurrentCalls) {
+        if (virtualThreads) {
+            return virtualExecutor("ollama-call-", maxConcurrentCalls);
+        }
+        return new SyncTaskExecutor();
+    }
+
+    // Blocking I/O only: CPU-bound OCR and parsing stay on the bounded platform pools above. When a limit is
+    // set and reached the submitting thread waits for a slot, which is the back-pressure CallerRunsPolicy gives
+    // the pools
+    private SimpleAsyncTaskExecutor virtualExecutor(String threadNamePrefix, int concurrencyLimit) {
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor(threadNamePrefix);
+        executor.setVirtualThreads(true);
+        executor.setConcurrencyLimit(concurrencyLimit);
+        executor.setTaskTerminationTimeout(60_000);
+
+        log.info("Virtual thread executor {} initialized: concurrency limit={}", threadNamePrefix,
+                concurrencyLimit < 0 ? "unbounded" : concurrencyLimit);
+
+        return executor;
+    }
 }
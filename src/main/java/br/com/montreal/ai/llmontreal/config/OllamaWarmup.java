@@ -42,29 +42,26 @@ public class OllamaWarmup {
 
         logger.info("Warming up Ollama model: {}", defaultModel);
 
-        try {
-            OllamaRequestDTO warmupRequest = new OllamaRequestDTO(defaultModel, "hello", false);
+        // Fire-and-forget: loading the model can take minutes and must not hold up ApplicationReadyEvent
+        OllamaRequestDTO warmupRequest = new OllamaRequestDTO(defaultModel, "hello", false);
 
-            webClient.post()
-                    .uri("/api/generate")
-                    .body(Mono.just(warmupRequest), OllamaRequestDTO.class)
-                    .retrieve()
-                    .bodyToMono(ChatMessageResponseDTO.class)
-                    .timeout(Duration.ofMinutes(2))
-                    .doOnSuccess(res -> logger.info("Ollama model warmed up successfully."))
-                    .doOnError(WebClientResponseException.class, ex -> {
-                        logger.error("Failed to warm up Ollama model: {}. Status: {}, Response: {}",
-                                defaultModel, ex.getStatusCode(), ex.getResponseBodyAsString());
-                    })
-                    .doOnError(e -> !(e instanceof WebClientResponseException), e -> {
-                        logger.error("An unexpected error occurred while warming up model: {}", defaultModel, e);
-                    })
-                    .block();
-
-        } catch (Exception e) {
-            logger.warn("Failed to warmup Ollama model '{}'. The application will continue, but Ollama may not be available: {}",
-                    defaultModel, e.getMessage());
-        }
+        webClient.post()
+                .uri("/api/generate")
+                .body(Mono.just(warmupRequest), OllamaRequestDTO.class)
+                .retrieve()
+                .bodyToMono(ChatMessageResponseDTO.class)
+                .timeout(Duration.ofMinutes(2))
+                .subscribe(
+                        res -> logger.info("Ollama model warmed up successfully."),
+                        e -> {
+                            if (e instanceof WebClientResponseException ex) {
+                                logger.error("Failed to warm up Ollama model: {}. Status: {}, Response: {}",
+                                        defaultModel, ex.getStatusCode(), ex.getResponseBodyAsString());
+                            } else {
+                                logger.warn("Failed to warmup Ollama model '{}'. The application will continue, but Ollama may not be available: {}",
+                                        defaultModel, e.getMessage());
+                            }
+                        });
     }
 
 }
@@ -0,0 +1,111 @@
+package br.com.montreal.ai.llmontreal.config;
+
+import br.com.montreal.ai.llmontreal.service.extraction.EngineInitializer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
+import org.springframework.boot.context.metrics.buffering.StartupTimeline;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.metrics.ApplicationStartup;
+import org.springframework.core.metrics.StartupStep;
+import org.springframework.stereotype.Component;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// Summarizes the steps recorded by the BufferingApplicationStartup installed in main(); step durations are
+// inclusive, so a bean's time also covers the dependencies it triggered
+@Slf4j
+@Component
+public class StartupTimingReport {
+
+    private static final String BEAN_INSTANTIATE_STEP = "spring.beans.instantiate";
+
+    private final EngineInitializer engineInitializer;
+    private final int topSteps;
+    private volatile Report report;
+
+    public record Phase(String name, int count, long totalMs) {
+    }
+
+    public record BeanTiming(String beanName, long durationMs) {
+    }
+
+    public record Report(boolean recorded, long startupMs, List<Phase> phases, List<BeanTiming> slowestBeans,
+                         boolean enginesReady, List<EngineInitializer.TaskStats> engines) {
+    }
+
+    public StartupTimingReport(EngineInitializer engineInitializer,
+                               @Value("${startup.report.top-steps:10}") int topSteps) {
+        this.engineInitializer = engineInitializer;
+        this.topSteps = topSteps;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady(ApplicationReadyEvent event) {
+        long startupMs = event.getTimeTaken() != null ? event.getTimeTaken().toMillis() : 0;
+        ApplicationStartup applicationStartup = event.getApplicationContext().getApplicationStartup();
+
+        if (!(applicationStartup instanceof BufferingApplicationStartup buffering)) {
+            report = new Report(false, startupMs, List.of(), List.of(), false, List.of());
+            log.info("Aplicação pronta em {}ms (timeline de startup não registrada)", startupMs);
+            return;
+        }
+
+        // Drained: the buffer is only needed once and would otherwise keep every step in memory
+        List<StartupTimeline.TimelineEvent> events = buffering.drainBufferedTimeline().getEvents();
+        report = new Report(true, startupMs, phases(events), slowestBeans(events), false, List.of());
+
+        log.info("Aplicação pronta em {}ms ({} etapas registradas)", startupMs, events.size());
+        report.phases().forEach(phase -> log.info("  fase {}: {}ms ({}x)", phase.name(), phase.totalMs(), phase.count()));
+        report.slowestBeans().forEach(bean -> log.info("  bean {}: {}ms", bean.beanName(), bean.durationMs()));
+        if (!engineInitializer.isReady()) {
+            log.info("Engines de extração ainda inicializando em background: {}", engineInitializer.stats());
+        }
+    }
+
+    public Report report() {
+        Report current = report;
+        if (current == null) {
+            return new Report(false, 0, List.of(), List.of(), engineInitializer.isReady(), engineInitializer.stats());
+        }
+        return new Report(current.recorded(), current.startupMs(), current.phases(), current.slowestBeans(),
+                engineInitializer.isReady(), engineInitializer.stats());
+    }
+
+    private List<Phase> phases(List<StartupTimeline.TimelineEvent> events) {
+        Map<String, long[]> totals = new HashMap<>();
+        for (StartupTimeline.TimelineEvent event : events) {
+            long[] total = totals.computeIfAbsent(event.getStartupStep().getName(), name -> new long[2]);
+            total[0]++;
+            total[1] += event.getDuration().toMillis();
+        }
+
+        return totals.entrySet().stream()
+                .map(entry -> new Phase(entry.getKey(), (int) entry.getValue()[0], entry.getValue()[1]))
+                .sorted(Comparator.comparingLong(Phase::totalMs).reversed())
+                .limit(topSteps)
+                .toList();
+    }
+
+    private List<BeanTiming> slowestBeans(List<StartupTimeline.TimelineEvent> events) {
+        return events.stream()
+                .filter(event -> BEAN_INSTANTIATE_STEP.equals(event.getStartupStep().getName()))
+                .map(event -> new BeanTiming(beanName(event.getStartupStep()), event.getDuration().toMillis()))
+                .sorted(Comparator.comparingLong(BeanTiming::durationMs).reversed())
+                .limit(topSteps)
+                .toList();
+    }
+
+    private static String beanName(StartupStep step) {
+        for (StartupStep.Tag tag : step.getTags()) {
+            if ("beanName".equals(tag.getKey())) {
+                return tag.getValue();
+            }
+        }
+        return "?";
+    }
+}
@@ -0,0 +1,118 @@
+package br.com.montreal.ai.llmontreal.config;
+
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+// A virtual thread that blocks inside synchronized code (or a native frame) pins its carrier thread; with few
+// carriers that silently serializes the I/O paths. JFR reports those as jdk.VirtualThreadPinned, grouped here
+// by the first application frame so the offending call site is obvious.
+@Slf4j
+@Component
+public class VirtualThreadDiagnostics {
+
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    private static final String APPLICATION_PACKAGE = "br.com.montreal.ai.llmontreal.";
+    private static final int TOP_SITES = 10;
+
+    private final boolean virtualThreads;
+    private final LongAdder pinnedEvents = new LongAdder();
+    private final LongAdder pinnedNanos = new LongAdder();
+    private final AtomicLong maxPinnedNanos = new AtomicLong();
+    private final Map<String, LongAdder> pinnedSites = new ConcurrentHashMap<>();
+    private RecordingStream recordingStream;
+
+    public record Stats(boolean virtualThreads, boolean pinningMonitorActive, long pinnedEvents, double totalPinnedMs,
+                        double maxPinnedMs, Map<String, Long> topPinnedSites) {
+    }
+
+    public VirtualThreadDiagnostics(
+            @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads,
+            @Value("${diagnostics.virtual-threads.pinning-monitor:true}") boolean pinningMonitor,
+            @Value("${diagnostics.virtual-threads.pinned-threshold-ms:20}") long pinnedThresholdMs
+    ) {
+        this.virtualThreads = virtualThreads;
+
+        if (virtualThreads && pinningMonitor) {
+            startPinningMonitor(Duration.ofMillis(pinnedThresholdMs));
+        }
+    }
+
+    private void startPinningMonitor(Duration threshold) {
+        try {
+            RecordingStream stream = new RecordingStream();
+            stream.enable(PINNED_EVENT).withThreshold(threshold).withStackTrace();
+            stream.onEvent(PINNED_EVENT, this::onPinned);
+            stream.startAsync();
+            recordingStream = stream;
+            log.info("Virtual thread pinning monitor started (threshold {}ms)", threshold.toMillis());
+        } catch (RuntimeException | LinkageError e) {
+            log.warn("Virtual thread pinning monitor unavailable (JFR disabled?): {}", e.getMessage());
+        }
+    }
+
+    private void onPinned(RecordedEvent event) {
+        String site = pinnedSite(event.getStackTrace());
+        record(site, event.getDuration());
+
+        log.warn("Virtual thread pinned its carrier for {}ms at {}", event.getDuration().toMillis(), site);
+    }
+
+    void record(String site, Duration duration) {
+        long nanos = duration.toNanos();
+        pinnedEvents.increment();
+        pinnedNanos.add(nanos);
+        maxPinnedNanos.accumulateAndGet(nanos, Math::max);
+        pinnedSites.computeIfAbsent(site, key -> new LongAdder()).increment();
+    }
+
+    public Stats stats() {
+        Map<String, Long> topSites = new LinkedHashMap<>();
+        pinnedSites.entrySet().stream()
+                .sorted((a, b) -> Long.compare(b.getValue().sum(), a.getValue().sum()))
+                .limit(TOP_SITES)
+                .forEach(entry -> topSites.put(entry.getKey(), entry.getValue().sum()));
+
+        return new Stats(virtualThreads, recordingStream != null, pinnedEvents.sum(), pinnedNanos.sum() / 1_000_000.0,
+                maxPinnedNanos.get() / 1_000_000.0, topSites);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (recordingStream != null) {
+            recordingStream.close();
+        }
+    }
+
+    private static String pinnedSite(RecordedStackTrace stackTrace) {
+        if (stackTrace == null) {
+            return "unknown";
+        }
+
+        List<RecordedFrame> frames = stackTrace.getFrames();
+        for (RecordedFrame frame : frames) {
+            String type = frame.getMethod().getType().getName();
+            if (type.startsWith(APPLICATION_PACKAGE)) {
+                return describe(frame);
+            }
+        }
+        return frames.isEmpty() ? "unknown" : describe(frames.get(0));
+    }
+
+    private static String describe(RecordedFrame frame) {
+        return frame.getMethod().getType().getName() + "." + frame.getMethod().getName() + ":" + frame.getLineNumber();
+    }
+}
@@ -3,9 +3,12 @@ package br.com.montreal.ai.llmontreal.controller;
 import br.com.montreal.ai.llmontreal.dto.OllamaRequestDTO;
 import br.com.montreal.ai.llmontreal.dto.ChatMessageResponseDTO;
 import br.com.montreal.ai.llmontreal.service.ollama.OllamaProducerService;
+import br.com.montreal.ai.llmontreal.service.ollama.OllamaStreamingService;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 import reactor.core.publisher.Mono;
 
 import javax.validation.Valid;
@@ -17,6 +20,7 @@ import java.util.concurrent.CompletableFuture;
 public class ChatController {
 
     private final OllamaProducerService ollamaProducerService;
+    private final OllamaStreamingService ollamaStreamingService;
 
     @PostMapping("/{documentId}")
     public Mono<ChatMessageResponseDTO> sendMessageToOllama(
@@ -29,4 +33,14 @@ public class ChatController {
                 ollamaProducerService.sendChatRequest(requestDTO, documentId, correlationId);
         return Mono.fromFuture(responseFuture);
     }
+
+    @PostMapping(value = "/{documentId}/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamMessageFromOllama(
+            @RequestBody @Valid OllamaRequestDTO requestDTO,
+            @PathVariable Long documentId,
+            HttpServletRequest request
+    ) {
+        String correlationId = (String) request.getAttribute("requestId");
+        return ollamaStreamingService.streamChat(requestDTO, documentId, correlationId);
+    }
 }
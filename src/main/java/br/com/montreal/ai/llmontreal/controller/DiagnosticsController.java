@@ -0,0 +1,27 @@
+package br.com.montreal.ai.llmontreal.controller;
+
+import br.com.montreal.ai.llmontreal.config.VirtualThreadDiagnostics;
+import br.com.montreal.ai.llmontreal.service.ollama.OllamaStreamingService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/diagnostics")
+@RequiredArgsConstructor
+@CrossOrigin(origins = "*")
+public class DiagnosticsController {
+
+    private final VirtualThreadDiagnostics virtualThreadDiagnostics;
+    private final OllamaStreamingService ollamaStreamingService;
+
+    @GetMapping("/virtual-threads")
+    public ResponseEntity<VirtualThreadDiagnostics.Stats> getVirtualThreadStats() {
+        return ResponseEntity.ok(virtualThreadDiagnostics.stats());
+    }
+
+    @GetMapping("/chat-stream")
+    public ResponseEntity<OllamaStreamingService.StreamStats> getChatStreamStats() {
+        return ResponseEntity.ok(ollamaStreamingService.stats());
+    }
+}
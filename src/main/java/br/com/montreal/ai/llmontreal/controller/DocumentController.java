@@ -1,9 +1,11 @@
 package br.com.montreal.ai.llmontreal.controller;
 
 import br.com.montreal.ai.llmontreal.dto.DocumentDTO;
+import br.com.montreal.ai.llmontreal.dto.DocumentStatusDTO;
 import br.com.montreal.ai.llmontreal.dto.DocumentUploadResponse;
 import br.com.montreal.ai.llmontreal.entity.enums.DocumentStatus;
 import br.com.montreal.ai.llmontreal.service.DocumentService;
+import br.com.montreal.ai.llmontreal.service.DocumentStatusStreamService;
 import jakarta.servlet.http.HttpServletRequest;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -12,6 +14,7 @@ import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import javax.validation.constraints.NotNull;
 
@@ -20,9 +23,11 @@ import javax.validation.constraints.NotNull;
 public class DocumentController {
 
     private final DocumentService documentService;
+    private final DocumentStatusStreamService statusStreamService;
 
-    public DocumentController(DocumentService documentService) {
+    public DocumentController(DocumentService documentService, DocumentStatusStreamService statusStreamService) {
         this.documentService = documentService;
+        this.statusStreamService = statusStreamService;
     }
 
     @GetMapping
@@ -40,11 +45,35 @@ public class DocumentController {
             HttpServletRequest request) {
         String correlationId = (String) request.getAttribute("requestId");
         DocumentUploadResponse response = documentService.uploadFile(file, correlationId);
+        HttpStatus status = response.status() == DocumentStatus.COMPLETED
+                ? HttpStatus.CREATED
+                : HttpStatus.ACCEPTED;
         return ResponseEntity
-                .status(HttpStatus.CREATED)
+                .status(status)
                 .body(response);
     }
 
+    @GetMapping("/{id}/status")
+    public ResponseEntity<DocumentStatusDTO> getDocumentStatus(@PathVariable Long id) {
+        return documentService.getDocumentStatus(id)
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
+
+    @GetMapping(value = "/{id}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> streamDocumentStatus(@PathVariable Long id) {
+        return statusStreamService.subscribeToDocument(id)
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
+
+    @GetMapping(value = "/uploads/{uploadId}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> streamUploadStatus(@PathVariable String uploadId) {
+        return statusStreamService.subscribeToUpload(uploadId)
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
+
     @GetMapping("/{id}/content")
     public ResponseEntity<String> getExtractedContent(@PathVariable Long id) {
         return documentService.getExtractedContent(id)
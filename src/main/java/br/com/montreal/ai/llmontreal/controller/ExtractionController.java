@@ -0,0 +1,50 @@
+package br.com.montreal.ai.llmontreal.controller;
+
+import br.com.montreal.ai.llmontreal.service.extraction.ExtractionExecutors;
+import br.com.montreal.ai.llmontreal.service.extraction.ExtractionWatchdog;
+import br.com.montreal.ai.llmontreal.service.extraction.ExtractorRegistry;
+import br.com.montreal.ai.llmontreal.service.extraction.OcrLanguageSelector;
+import br.com.montreal.ai.llmontreal.service.extraction.worker.ExtractionWorkerPool;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/extraction")
+@RequiredArgsConstructor
+@CrossOrigin(origins = "*")
+public class ExtractionController {
+
+    private final ExtractorRegistry extractorRegistry;
+    private final ExtractionWatchdog extractionWatchdog;
+    private final ExtractionWorkerPool extractionWorkerPool;
+    private final OcrLanguageSelector ocrLanguageSelector;
+    private final ExtractionExecutors extractionExecutors;
+
+    @GetMapping("/routes")
+    public ResponseEntity<List<ExtractorRegistry.RouteStats>> getRouteStats() {
+        return ResponseEntity.ok(extractorRegistry.stats());
+    }
+
+    @GetMapping("/timeouts")
+    public ResponseEntity<ExtractionWatchdog.Stats> getTimeoutStats() {
+        return ResponseEntity.ok(extractionWatchdog.stats());
+    }
+
+    @GetMapping("/workers")
+    public ResponseEntity<ExtractionWorkerPool.Stats> getWorkerStats() {
+        return ResponseEntity.ok(extractionWorkerPool.stats());
+    }
+
+    @GetMapping("/ocr-languages")
+    public ResponseEntity<OcrLanguageSelector.Stats> getOcrLanguageStats() {
+        return ResponseEntity.ok(ocrLanguageSelector.stats());
+    }
+
+    @GetMapping("/executors")
+    public ResponseEntity<List<ExtractionExecutors.LaneStats>> getExecutorStats() {
+        return ResponseEntity.ok(extractionExecutors.stats());
+    }
+}
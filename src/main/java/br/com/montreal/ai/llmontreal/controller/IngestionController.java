@@ -0,0 +1,20 @@
+package br.com.montreal.ai.llmontreal.controller;
+
+import br.com.montreal.ai.llmontreal.service.ingestion.DocumentIngestionService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/ingestion")
+@RequiredArgsConstructor
+@CrossOrigin(origins = "*")
+public class IngestionController {
+
+    private final DocumentIngestionService documentIngestionService;
+
+    @GetMapping("/stats")
+    public ResponseEntity<DocumentIngestionService.IngestionStats> getIngestionStats() {
+        return ResponseEntity.ok(documentIngestionService.stats());
+    }
+}
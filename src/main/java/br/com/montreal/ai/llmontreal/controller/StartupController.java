@@ -0,0 +1,20 @@
+package br.com.montreal.ai.llmontreal.controller;
+
+import br.com.montreal.ai.llmontreal.config.StartupTimingReport;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/startup")
+@RequiredArgsConstructor
+@CrossOrigin(origins = "*")
+public class StartupController {
+
+    private final StartupTimingReport startupTimingReport;
+
+    @GetMapping
+    public ResponseEntity<StartupTimingReport.Report> getStartupReport() {
+        return ResponseEntity.ok(startupTimingReport.report());
+    }
+}
@@ -0,0 +1,6 @@
+package br.com.montreal.ai.llmontreal.dto;
+
+public record ChatTokenDTO(
+        String token
+) {
+}
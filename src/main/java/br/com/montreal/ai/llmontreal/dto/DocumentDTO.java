@@ -2,12 +2,14 @@ package br.com.montreal.ai.llmontreal.dto;
 
 import br.com.montreal.ai.llmontreal.entity.Document;
 import br.com.montreal.ai.llmontreal.entity.enums.DocumentStatus;
+import br.com.montreal.ai.llmontreal.entity.enums.ProcessingStage;
 
 import java.time.LocalDateTime;
 
 public record DocumentDTO(
         Long id,
         DocumentStatus status,
+        ProcessingStage processingStage,
         LocalDateTime createdAt,
         LocalDateTime updatedAt,
         String fileName,
@@ -18,6 +20,7 @@ public record DocumentDTO(
         this(
                 doc.getId(),
                 doc.getStatus(),
+                doc.getProcessingStage(),
                 doc.getCreatedAt(),
                 doc.getUpdatedAt(),
                 doc.getFileName(),
@@ -0,0 +1,21 @@
+package br.com.montreal.ai.llmontreal.dto;
+
+import br.com.montreal.ai.llmontreal.entity.enums.DocumentStatus;
+import br.com.montreal.ai.llmontreal.entity.enums.ProcessingStage;
+
+import java.time.LocalDateTime;
+
+public record DocumentStatusDTO(
+        Long id,
+        String uploadId,
+        DocumentStatus status,
+        ProcessingStage stage,
+        LocalDateTime updatedAt,
+        String failureReason,
+        Integer pagesDone,
+        Integer pagesTotal
+) {
+    public boolean isTerminal() {
+        return stage == ProcessingStage.DONE || stage == ProcessingStage.FAILED;
+    }
+}
@@ -14,7 +14,8 @@ public record DocumentUploadResponse(
         LocalDateTime uploadedAt,
         String message,
         Integer totalDocuments,
-        List<Long> documentIds
+        List<Long> documentIds,
+        String uploadId
 ) {
     public DocumentUploadResponse(Document doc) {
         this(
@@ -25,7 +26,8 @@ public record DocumentUploadResponse(
                 doc.getCreatedAt(),
                 "Documento enviado com sucesso e aguardando processamento",
                 1,
-                List.of(doc.getId())
+                List.of(doc.getId()),
+                doc.getUploadId()
         );
     }
 
@@ -38,7 +40,8 @@ public record DocumentUploadResponse(
                 firstDoc.getCreatedAt(),
                 String.format("ZIP processado com sucesso: %d documentos criados e aguardando processamento", totalDocuments),
                 totalDocuments,
-                allDocumentIds
+                allDocumentIds,
+                firstDoc.getUploadId()
         );
     }
 }
@@ -0,0 +1,12 @@
+package br.com.montreal.ai.llmontreal.dto;
+
+import lombok.Builder;
+
+import java.util.List;
+
+@Builder
+public record OllamaEmbedRequestDTO(
+        String model,
+        List<String> input
+) {
+}
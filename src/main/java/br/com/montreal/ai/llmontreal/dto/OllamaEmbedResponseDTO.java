@@ -0,0 +1,9 @@
+package br.com.montreal.ai.llmontreal.dto;
+
+import java.util.List;
+
+public record OllamaEmbedResponseDTO(
+        String model,
+        List<List<Float>> embeddings
+) {
+}
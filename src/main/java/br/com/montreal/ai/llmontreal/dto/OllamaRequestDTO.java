@@ -12,6 +12,7 @@ public record OllamaRequestDTO(
     public OllamaRequestDTO(String model, String prompt, Boolean stream) {
         this.model = model;
         this.prompt = prompt;
-        this.stream = false;
+        // Streaming is opt-in: only the SSE chat endpoint asks Ollama for incremental chunks
+        this.stream = Boolean.TRUE.equals(stream);
     }
 }
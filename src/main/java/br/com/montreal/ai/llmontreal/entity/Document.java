@@ -1,6 +1,7 @@
 package br.com.montreal.ai.llmontreal.entity;
 
 import br.com.montreal.ai.llmontreal.entity.enums.DocumentStatus;
+import br.com.montreal.ai.llmontreal.entity.enums.ProcessingStage;
 import jakarta.persistence.*;
 import lombok.*;
 import org.springframework.data.annotation.CreatedDate;
@@ -24,6 +25,10 @@ public class Document {
     @Enumerated(EnumType.STRING)
     @Column(nullable = false)
     private DocumentStatus status;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "processing_stage")
+    private ProcessingStage processingStage;
     
     @CreatedDate
     @Column(name = "created_at", nullable = false, updatable = false)
@@ -42,12 +47,34 @@ public class Document {
     @Column(columnDefinition = "TEXT")
     private String summary;
 
-    @Column(name = "file_data", nullable = false)
-    private byte[] fileData;
+    @Column(name = "blob_key", length = 64)
+    private String blobKey;
+
+    @Column(name = "file_size")
+    private Long fileSize;
+
+    @Column(name = "content_hash", length = 64)
+    private String contentHash;
+
+    @Column(name = "upload_id", length = 36)
+    private String uploadId;
+
+    @Column(name = "failure_reason", length = 500)
+    private String failureReason;
+
+    @Column(name = "pages_done")
+    private Integer pagesDone;
+
+    @Column(name = "pages_total")
+    private Integer pagesTotal;
 
     @OneToOne(cascade = CascadeType.ALL)
     private ChatSession chatSession;
 
     @Column(name = "extracted_content", columnDefinition = "TEXT")
     private String extractedContent;
+
+    // Written only by DocumentRepository.markIngested, so saving a stale entity never clears it
+    @Column(name = "ingested_at", insertable = false, updatable = false)
+    private LocalDateTime ingestedAt;
 }
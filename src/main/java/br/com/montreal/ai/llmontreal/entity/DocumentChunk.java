@@ -0,0 +1,74 @@
+package br.com.montreal.ai.llmontreal.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "document_chunks")
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DocumentChunk {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "document_id", nullable = false)
+    private Long documentId;
+
+    @Column(name = "chunk_index", nullable = false)
+    private Integer chunkIndex;
+
+    // Character offsets of the chunk in Document.extractedContent (end exclusive)
+    @Column(name = "start_offset", nullable = false)
+    private Integer startOffset;
+
+    @Column(name = "end_offset", nullable = false)
+    private Integer endOffset;
+
+    @Column(nullable = false, columnDefinition = "TEXT")
+    private String content;
+
+    // float32 little-endian; the compose Postgres image has no pgvector
+    @Column(name = "embedding")
+    private byte[] embedding;
+
+    @Column(name = "embedding_model")
+    private String embeddingModel;
+
+    @Column(name = "embedding_dimensions")
+    private Integer embeddingDimensions;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    public float[] getEmbeddingVector() {
+        if (embedding == null) {
+            return null;
+        }
+        float[] vector = new float[embedding.length / Float.BYTES];
+        ByteBuffer.wrap(embedding).order(ByteOrder.LITTLE_ENDIAN).asFloatBuffer().get(vector);
+        return vector;
+    }
+
+    public void setEmbeddingVector(float[] vector, String model) {
+        if (vector == null) {
+            embedding = null;
+            embeddingModel = null;
+            embeddingDimensions = null;
+            return;
+        }
+        ByteBuffer buffer = ByteBuffer.allocate(vector.length * Float.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        buffer.asFloatBuffer().put(vector);
+        embedding = buffer.array();
+        embeddingModel = model;
+        embeddingDimensions = vector.length;
+    }
+}
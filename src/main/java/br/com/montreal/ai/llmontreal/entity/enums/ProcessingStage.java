@@ -0,0 +1,10 @@
+package br.com.montreal.ai.llmontreal.entity.enums;
+
+public enum ProcessingStage {
+    UPLOADED,
+    EXTRACTING,
+    QUEUED_FOR_SUMMARY,
+    SUMMARIZING,
+    DONE,
+    FAILED
+}
@@ -0,0 +1,59 @@
+package br.com.montreal.ai.llmontreal.event;
+
+import br.com.montreal.ai.llmontreal.dto.DocumentStatusDTO;
+import br.com.montreal.ai.llmontreal.entity.Document;
+import br.com.montreal.ai.llmontreal.entity.enums.DocumentStatus;
+import br.com.montreal.ai.llmontreal.entity.enums.ProcessingStage;
+import lombok.Getter;
+import org.springframework.context.ApplicationEvent;
+
+import java.time.LocalDateTime;
+
+@Getter
+public class DocumentStatusChangedEvent extends ApplicationEvent {
+
+    private final Long documentId;
+    private final String uploadId;
+    private final DocumentStatus status;
+    private final ProcessingStage stage;
+    private final LocalDateTime changedAt;
+    private final String failureReason;
+    private final Integer pagesDone;
+    private final Integer pagesTotal;
+
+    public DocumentStatusChangedEvent(Object source, Long documentId, String uploadId,
+                                      DocumentStatus status, ProcessingStage stage, LocalDateTime changedAt) {
+        this(source, documentId, uploadId, status, stage, changedAt, null, null, null);
+    }
+
+    public DocumentStatusChangedEvent(Object source, Long documentId, String uploadId, DocumentStatus status,
+                                      ProcessingStage stage, LocalDateTime changedAt, String failureReason,
+                                      Integer pagesDone, Integer pagesTotal) {
+        super(source);
+        this.documentId = documentId;
+        this.uploadId = uploadId;
+        this.status = status;
+        this.stage = stage;
+        this.changedAt = changedAt;
+        this.failureReason = failureReason;
+        this.pagesDone = pagesDone;
+        this.pagesTotal = pagesTotal;
+    }
+
+    public static DocumentStatusChangedEvent of(Object source, Document document) {
+        LocalDateTime changedAt = document.getUpdatedAt() != null ? document.getUpdatedAt() : LocalDateTime.now();
+        return new DocumentStatusChangedEvent(source, document.getId(), document.getUploadId(),
+                document.getStatus(), document.getProcessingStage(), changedAt, document.getFailureReason(),
+                document.getPagesDone(), document.getPagesTotal());
+    }
+
+    public static DocumentStatusChangedEvent of(Object source, DocumentStatusDTO status) {
+        return new DocumentStatusChangedEvent(source, status.id(), status.uploadId(), status.status(),
+                status.stage(), LocalDateTime.now(), status.failureReason(), status.pagesDone(), status.pagesTotal());
+    }
+
+    public DocumentStatusDTO toStatusDTO() {
+        return new DocumentStatusDTO(documentId, uploadId, status, stage, changedAt, failureReason,
+                pagesDone, pagesTotal);
+    }
+}
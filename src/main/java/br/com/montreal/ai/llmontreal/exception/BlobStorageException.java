@@ -0,0 +1,11 @@
+package br.com.montreal.ai.llmontreal.exception;
+
+public class BlobStorageException extends RuntimeException {
+    public BlobStorageException(String message) {
+        super(message);
+    }
+
+    public BlobStorageException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,8 @@
+package br.com.montreal.ai.llmontreal.exception;
+
+public class ExtractionTimeoutException extends ExtractionException {
+
+    public ExtractionTimeoutException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -2,10 +2,13 @@ package br.com.montreal.ai.llmontreal.listener;
 
 import br.com.montreal.ai.llmontreal.entity.Document;
 import br.com.montreal.ai.llmontreal.entity.enums.DocumentStatus;
+import br.com.montreal.ai.llmontreal.entity.enums.ProcessingStage;
 import br.com.montreal.ai.llmontreal.event.DocumentExtractionCompletedEvent;
+import br.com.montreal.ai.llmontreal.event.DocumentStatusChangedEvent;
 import br.com.montreal.ai.llmontreal.repository.DocumentRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
@@ -17,7 +20,10 @@ import java.util.Optional;
 @RequiredArgsConstructor
 public class DocumentExtractionEventListener {
 
+    private static final int MAX_FAILURE_REASON_LENGTH = 500;
+
     private final DocumentRepository documentRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @EventListener
     @Transactional
@@ -38,6 +44,8 @@ public class DocumentExtractionEventListener {
             if (event.isSuccess()) {
                 document.setExtractedContent(event.getExtractedContent());
                 document.setStatus(DocumentStatus.COMPLETED);
+                document.setProcessingStage(ProcessingStage.QUEUED_FOR_SUMMARY);
+                document.setFailureReason(null);
 
                 log.info("Document {} ({}) extraction completed successfully. Content length: {} characters",
                         event.getDocumentId(),
@@ -46,6 +54,8 @@ public class DocumentExtractionEventListener {
 
             } else {
                 document.setStatus(DocumentStatus.FAILED);
+                document.setProcessingStage(ProcessingStage.FAILED);
+                document.setFailureReason(truncate(event.getErrorMessage()));
 
                 log.error("Document {} ({}) extraction failed: {}",
                         event.getDocumentId(),
@@ -53,7 +63,8 @@ public class DocumentExtractionEventListener {
                         event.getErrorMessage());
             }
 
-            documentRepository.save(document);
+            Document savedDocument = documentRepository.save(document);
+            eventPublisher.publishEvent(DocumentStatusChangedEvent.of(this, savedDocument));
 
             log.debug("Document {} status updated to {}", event.getDocumentId(), document.getStatus());
 
@@ -62,4 +73,11 @@ public class DocumentExtractionEventListener {
                     event.getDocumentId(), e.getMessage(), e);
         }
     }
-}
\ No newline at end of file
+
+    private String truncate(String reason) {
+        if (reason == null || reason.length() <= MAX_FAILURE_REASON_LENGTH) {
+            return reason;
+        }
+        return reason.substring(0, MAX_FAILURE_REASON_LENGTH);
+    }
+}
@@ -0,0 +1,86 @@
+package br.com.montreal.ai.llmontreal.repository;
+
+import br.com.montreal.ai.llmontreal.entity.Document;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.List;
+import java.util.Map;
+
+@Repository
+@RequiredArgsConstructor
+public class DocumentBatchRepository {
+
+    private static final String INSERT_DOCUMENT_SQL = """
+            INSERT INTO documents (file_name, file_type, blob_key, file_size, content_hash, upload_id,
+                                   status, processing_stage, extracted_content, summary, created_at, updated_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Transactional
+    public List<Document> insertAll(List<Document> documents) {
+        if (documents.isEmpty()) {
+            return documents;
+        }
+
+        // Naming the key column keeps PostgreSQL from returning every column of each inserted row
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.batchUpdate(
+                connection -> connection.prepareStatement(INSERT_DOCUMENT_SQL, new String[]{"id"}),
+                new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(PreparedStatement ps, int i) throws SQLException {
+                        bindDocument(ps, documents.get(i));
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return documents.size();
+                    }
+                },
+                keyHolder);
+
+        List<Map<String, Object>> generatedKeys = keyHolder.getKeyList();
+        if (generatedKeys.size() != documents.size()) {
+            throw new IllegalStateException(String.format(
+                    "Expected %d generated ids but got %d", documents.size(), generatedKeys.size()));
+        }
+
+        for (int i = 0; i < documents.size(); i++) {
+            Number id = (Number) generatedKeys.get(i).get("id");
+            documents.get(i).setId(id.longValue());
+        }
+
+        return documents;
+    }
+
+    private void bindDocument(PreparedStatement ps, Document document) throws SQLException {
+        ps.setString(1, document.getFileName());
+        ps.setString(2, document.getFileType());
+        ps.setString(3, document.getBlobKey());
+        if (document.getFileSize() != null) {
+            ps.setLong(4, document.getFileSize());
+        } else {
+            ps.setNull(4, Types.BIGINT);
+        }
+        ps.setString(5, document.getContentHash());
+        ps.setString(6, document.getUploadId());
+        ps.setString(7, document.getStatus().name());
+        ps.setString(8, document.getProcessingStage() != null ? document.getProcessingStage().name() : null);
+        ps.setString(9, document.getExtractedContent());
+        ps.setString(10, document.getSummary());
+        ps.setTimestamp(11, Timestamp.valueOf(document.getCreatedAt()));
+        ps.setTimestamp(12, document.getUpdatedAt() != null ? Timestamp.valueOf(document.getUpdatedAt()) : null);
+    }
+}
@@ -0,0 +1,22 @@
+package br.com.montreal.ai.llmontreal.repository;
+
+import br.com.montreal.ai.llmontreal.entity.DocumentChunk;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+public interface DocumentChunkRepository extends JpaRepository<DocumentChunk, Long> {
+
+    List<DocumentChunk> findByDocumentIdOrderByChunkIndex(Long documentId);
+
+    long countByDocumentId(Long documentId);
+
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM DocumentChunk c WHERE c.documentId = :documentId")
+    int deleteByDocumentId(@Param("documentId") Long documentId);
+}
@@ -1,11 +1,57 @@
 package br.com.montreal.ai.llmontreal.repository;
 
+import br.com.montreal.ai.llmontreal.dto.DocumentStatusDTO;
 import br.com.montreal.ai.llmontreal.entity.Document;
 import br.com.montreal.ai.llmontreal.entity.enums.DocumentStatus;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
 
 public interface DocumentRepository extends JpaRepository<Document, Long> {
     Page<Document> findAllByStatus(Pageable pageable, DocumentStatus status);
+
+    Optional<Document> findFirstByContentHashAndStatusAndSummaryIsNotNullOrderByIdDesc(
+            String contentHash, DocumentStatus status);
+
+    @Query("SELECT new br.com.montreal.ai.llmontreal.dto.DocumentStatusDTO(" +
+            "d.id, d.uploadId, d.status, d.processingStage, d.updatedAt, d.failureReason, d.pagesDone, d.pagesTotal) " +
+            "FROM Document d WHERE d.id = :id")
+    Optional<DocumentStatusDTO> findStatusById(@Param("id") Long id);
+
+    @Query("SELECT new br.com.montreal.ai.llmontreal.dto.DocumentStatusDTO(" +
+            "d.id, d.uploadId, d.status, d.processingStage, d.updatedAt, d.failureReason, d.pagesDone, d.pagesTotal) " +
+            "FROM Document d WHERE d.uploadId = :uploadId ORDER BY d.id")
+    List<DocumentStatusDTO> findStatusesByUploadId(@Param("uploadId") String uploadId);
+
+    @Modifying
+    @Transactional
+    @Query("UPDATE Document d SET d.pagesDone = :pagesDone, d.pagesTotal = :pagesTotal " +
+            "WHERE d.id = :id AND d.status = :status")
+    int updateExtractionProgress(@Param("id") Long id,
+                                 @Param("status") DocumentStatus status,
+                                 @Param("pagesDone") int pagesDone,
+                                 @Param("pagesTotal") int pagesTotal);
+
+    @Query("SELECT d.id FROM Document d WHERE d.ingestedAt IS NULL AND d.status = :status " +
+            "AND d.extractedContent IS NOT NULL AND d.id > :afterId ORDER BY d.id")
+    List<Long> findIdsPendingIngestion(@Param("status") DocumentStatus status,
+                                       @Param("afterId") long afterId,
+                                       Pageable pageable);
+
+    @Query("SELECT COUNT(d) FROM Document d WHERE d.ingestedAt IS NULL AND d.status = :status " +
+            "AND d.extractedContent IS NOT NULL")
+    long countPendingIngestion(@Param("status") DocumentStatus status);
+
+    @Modifying
+    @Transactional
+    @Query("UPDATE Document d SET d.ingestedAt = :ingestedAt WHERE d.id = :id")
+    int markIngested(@Param("id") Long id, @Param("ingestedAt") LocalDateTime ingestedAt);
 }
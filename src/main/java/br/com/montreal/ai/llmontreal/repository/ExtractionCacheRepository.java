@@ -0,0 +1,7 @@
+package br.com.montreal.ai.llmontreal.repository;
+
+import br.com.montreal.ai.llmontreal.entity.ExtractionCacheEntry;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface ExtractionCacheRepository extends JpaRepository<ExtractionCacheEntry, String> {
+}
@@ -0,0 +1,26 @@
+package br.com.montreal.ai.llmontreal.repository;
+
+import br.com.montreal.ai.llmontreal.entity.ExtractionCheckpoint;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface ExtractionCheckpointRepository extends JpaRepository<ExtractionCheckpoint, Long> {
+
+    List<ExtractionCheckpoint> findByCheckpointKey(String checkpointKey);
+
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM ExtractionCheckpoint c WHERE c.checkpointKey = :checkpointKey")
+    int deleteByCheckpointKey(@Param("checkpointKey") String checkpointKey);
+
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM ExtractionCheckpoint c WHERE c.createdAt < :cutoff")
+    int deleteOlderThan(@Param("cutoff") LocalDateTime cutoff);
+}
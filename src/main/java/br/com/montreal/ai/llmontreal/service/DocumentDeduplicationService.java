@@ -0,0 +1,49 @@
+package br.com.montreal.ai.llmontreal.service;
+
+import br.com.montreal.ai.llmontreal.entity.Document;
+import br.com.montreal.ai.llmontreal.entity.enums.DocumentStatus;
+import br.com.montreal.ai.llmontreal.entity.enums.ProcessingStage;
+import br.com.montreal.ai.llmontreal.repository.DocumentRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class DocumentDeduplicationService {
+
+    private final DocumentRepository documentRepository;
+
+    public Optional<Document> findCompletedDuplicate(String contentHash) {
+        if (contentHash == null || contentHash.isBlank()) {
+            return Optional.empty();
+        }
+
+        return documentRepository.findFirstByContentHashAndStatusAndSummaryIsNotNullOrderByIdDesc(
+                contentHash, DocumentStatus.COMPLETED);
+    }
+
+    public boolean reuseCompletedResults(Document document) {
+        Optional<Document> duplicate = findCompletedDuplicate(document.getContentHash());
+
+        if (duplicate.isEmpty()) {
+            return false;
+        }
+
+        Document source = duplicate.get();
+        document.setExtractedContent(source.getExtractedContent());
+        document.setSummary(source.getSummary());
+        document.setStatus(DocumentStatus.COMPLETED);
+        document.setProcessingStage(ProcessingStage.DONE);
+        document.setUpdatedAt(LocalDateTime.now());
+
+        log.info("Reusing extraction and summary of document {} for duplicate upload {} (hash: {})",
+                source.getId(), document.getFileName(), document.getContentHash());
+
+        return true;
+    }
+}
@@ -2,108 +2,188 @@ package br.com.montreal.ai.llmontreal.service;
 
 import br.com.montreal.ai.llmontreal.entity.Document;
 import br.com.montreal.ai.llmontreal.entity.enums.DocumentStatus;
+import br.com.montreal.ai.llmontreal.entity.enums.ProcessingStage;
 import br.com.montreal.ai.llmontreal.event.DocumentExtractionCompletedEvent;
 import br.com.montreal.ai.llmontreal.exception.ExtractionException;
 import br.com.montreal.ai.llmontreal.repository.DocumentRepository;
 import br.com.montreal.ai.llmontreal.service.extraction.ContentExtractor;
+import br.com.montreal.ai.llmontreal.service.extraction.ExtractionCache;
+import br.com.montreal.ai.llmontreal.service.extraction.ExtractionExecutors;
+import br.com.montreal.ai.llmontreal.service.extraction.ExtractionProgressTracker;
+import br.com.montreal.ai.llmontreal.service.extraction.ExtractionWatchdog;
+import br.com.montreal.ai.llmontreal.service.extraction.ExtractorRegistry;
+import br.com.montreal.ai.llmontreal.service.extraction.worker.ExtractionWorkerPool;
 import br.com.montreal.ai.llmontreal.service.ollama.OllamaProducerService;
+import br.com.montreal.ai.llmontreal.service.storage.BlobStore;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.ApplicationEventPublisher;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
+import org.springframework.util.ClassUtils;
 
-import java.io.ByteArrayInputStream;
 import java.io.InputStream;
-import java.util.List;
-import java.util.Optional;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Predicate;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class DocumentExtractionService {
 
-    private final List<ContentExtractor> extractors;
+    private final ExtractorRegistry extractorRegistry;
     private final DocumentRepository documentRepository;
     private final ApplicationEventPublisher eventPublisher;
     private final OllamaProducerService ollamaProducerService;
+    private final BlobStore blobStore;
+    private final ExtractionCache extractionCache;
+    private final ExtractionWatchdog extractionWatchdog;
+    private final ExtractionWorkerPool extractionWorkerPool;
+    private final ExtractionExecutors extractionExecutors;
 
-    @Async("documentExtractionExecutor")
     public void extractContentAsync(Long documentId, String correlationId) {
+        try {
+            extractionExecutors.admit(() -> startExtraction(documentId, correlationId));
+        } catch (RejectedExecutionException e) {
+            publishFailure(documentId, String.format(
+                    "Fila de extração %s indisponível, tente novamente mais tarde.", ExtractionExecutors.Lane.IO));
+        }
+    }
+
+    private void startExtraction(Long documentId, String correlationId) {
         log.info("Starting extraction of document with id {}", documentId);
-        long startTime = System.currentTimeMillis();
 
+        Document document;
         try {
-            Document document = documentRepository.findById(documentId)
+            document = documentRepository.findById(documentId)
                     .orElseThrow(() -> new EntityNotFoundException("Document with id " + documentId + " not found"));
 
             log.info("Processing document: {} (type: {})", document.getFileName(), document.getFileType());
 
             document.setStatus(DocumentStatus.PROCESSING);
+            document.setProcessingStage(ProcessingStage.EXTRACTING);
+            document.setPagesDone(null);
+            document.setPagesTotal(null);
             documentRepository.save(document);
+        } catch (Exception e) {
+            log.error("Unexpected error preparing extraction for document {}", documentId, e);
+            publishFailure(documentId, "Unexpected error: " + e.getMessage());
+            return;
+        }
 
-            String extractedContent = extractContent(
-                    document.getFileData(),
-                    document.getFileType()
-            );
+        ExtractionExecutors.Lane lane = extractionExecutors.laneFor(document.getFileType());
+        submit(lane, documentId, () -> runExtraction(document, correlationId, lane, 0, 0));
+    }
 
-            long duration = System.currentTimeMillis() - startTime;
+    // from/spentMs resume a route that was suspended on the parse lane before its OCR fallback
+    private void runExtraction(Document document, String correlationId, ExtractionExecutors.Lane lane,
+                               int from, long spentMs) {
+        Long documentId = document.getId();
+        long startTime = System.currentTimeMillis();
 
-            if(extractedContent == null || extractedContent.isBlank()) {
-                log.warn("Extraction for document {} returned empty content.", documentId);
+        try {
+            Predicate<ContentExtractor> suspendBefore = lane == ExtractionExecutors.Lane.OCR
+                    ? extractor -> false
+                    : ContentExtractor::requiresOcr;
+            ExtractorRegistry.Outcome outcome = extractContent(document, from, suspendBefore, spentMs);
+            long duration = spentMs + System.currentTimeMillis() - startTime;
+
+            if (outcome.suspended()) {
+                // No text layer (scanned PDF): the OCR fallback continues on the OCR lane. The hand-off goes
+                // through the IO lane, which queues without limit and never runs tasks on its caller, so an IO
+                // thread rather than this parse worker waits for room on a full OCR lane
+                log.info("Document {} falls back to OCR after {}ms, moving it to the OCR lane", documentId, duration);
+                submit(ExtractionExecutors.Lane.IO, documentId, () -> submit(ExtractionExecutors.Lane.OCR, documentId,
+                        () -> runExtraction(document, correlationId, ExtractionExecutors.Lane.OCR,
+                                outcome.resumeAt(), duration)));
+                return;
+            }
 
-                document.setStatus(DocumentStatus.FAILED);
-                documentRepository.save(document);
+            String extractedContent = outcome.content();
+            submit(ExtractionExecutors.Lane.IO, documentId,
+                    () -> completeExtraction(documentId, extractedContent, correlationId, duration));
+        } catch (ExtractionException e) {
+            long duration = spentMs + System.currentTimeMillis() - startTime;
+            log.error("Extraction failed for document {} after {}ms: {}", documentId, duration, e.getMessage());
 
-                eventPublisher.publishEvent(
-                    DocumentExtractionCompletedEvent.failure(
-                            this,
-                            documentId,
-                            "Nenhum conteúdo pôde ser extraído do documento."
-                    )
-                );
+            submit(ExtractionExecutors.Lane.IO, documentId, () -> publishFailure(documentId, e.getMessage()));
+        } catch (Exception e) {
+            long duration = spentMs + System.currentTimeMillis() - startTime;
+            log.error("Unexpected error during extraction for document {} after {}ms", documentId, duration, e);
+
+            submit(ExtractionExecutors.Lane.IO, documentId,
+                    () -> publishFailure(documentId, "Unexpected error: " + e.getMessage()));
+        }
+    }
+
+    // Runs after the extraction lanes, so the Document loaded in startExtraction is stale by now (page progress
+    // and other columns are updated meanwhile): status changes go through the event listener, which reloads it
+    private void completeExtraction(Long documentId, String extractedContent, String correlationId, long duration) {
+        try {
+            if(extractedContent == null || extractedContent.isBlank()) {
+                log.warn("Extraction for document {} returned empty content.", documentId);
+                publishFailure(documentId, "Nenhum conteúdo pôde ser extraído do documento.");
                 return;
             }
 
             log.info("Extraction completed successfully for document {} in {}ms. Content length: {} characters",
-                    documentId, duration, extractedContent != null ? extractedContent.length() : 0);
+                    documentId, duration, extractedContent.length());
 
             eventPublisher.publishEvent(
                     DocumentExtractionCompletedEvent.success(this, documentId, extractedContent)
             );
 
+            Document document = documentRepository.findById(documentId)
+                    .orElseThrow(() -> new EntityNotFoundException("Document with id " + documentId + " not found"));
             ollamaProducerService.sendSummarizeRequest(document, correlationId);
-        } catch (ExtractionException e) {
-            long duration = System.currentTimeMillis() - startTime;
-            log.error("Extraction failed for document {} after {}ms: {}", documentId, duration, e.getMessage());
-
-            eventPublisher.publishEvent(
-                    DocumentExtractionCompletedEvent.failure(this, documentId, e.getMessage())
-            );
-
         } catch (Exception e) {
-            long duration = System.currentTimeMillis() - startTime;
-            log.error("Unexpected error during extraction for document {} after {}ms", documentId, duration, e);
+            log.error("Unexpected error completing extraction for document {}", documentId, e);
+            publishFailure(documentId, "Unexpected error: " + e.getMessage());
+        }
+    }
 
-            eventPublisher.publishEvent(
-                    DocumentExtractionCompletedEvent.failure(this, documentId,
-                            "Unexpected error: " + e.getMessage())
-            );
+    // Lanes apply back-pressure (OCR/parse) or queue without limit (I/O) instead of rejecting, so this only
+    // happens while shutting down; the document is failed rather than dropped silently
+    private void submit(ExtractionExecutors.Lane lane, Long documentId, Runnable task) {
+        try {
+            extractionExecutors.execute(lane, task);
+        } catch (RejectedExecutionException e) {
+            publishFailure(documentId, String.format(
+                    "Fila de extração %s indisponível, tente novamente mais tarde.", lane));
         }
     }
 
-    private String extractContent(byte[] fileData, String contentType) throws ExtractionException {
-        Optional<ContentExtractor> extractor = findExtractor(contentType);
+    private void publishFailure(Long documentId, String message) {
+        eventPublisher.publishEvent(DocumentExtractionCompletedEvent.failure(this, documentId, message));
+    }
 
-        if (extractor.isEmpty()) {
-            throw new ExtractionException("No extractor found for content type " + contentType);
-        }
+    private String extractContent(Document document) throws ExtractionException {
+        return extractContent(document, 0, extractor -> false, 0).content();
+    }
 
-        try (InputStream inputStream = new ByteArrayInputStream(fileData)) {
-            ContentExtractor selectedExtractor = extractor.get();
+    private ExtractorRegistry.Outcome extractContent(Document document, int from,
+                                                     Predicate<ContentExtractor> suspendBefore,
+                                                     long spentMs) throws ExtractionException {
+        String blobKey = document.getBlobKey();
+        String contentType = document.getFileType();
+
+        return extractionWatchdog.runWithDeadline(contentType, spentMs, () -> ExtractionProgressTracker.forDocument(
+                document.getId(),
+                () -> extractorRegistry.extract(contentType, from, suspendBefore, extractor -> extractionCache.getOrExtract(
+                        document.getContentHash(),
+                        contentType,
+                        ClassUtils.getUserClass(extractor).getName(),
+                        extractor.getConfigFingerprint(),
+                        () -> runExtractor(extractor, blobKey, contentType)
+                ))));
+    }
 
-            return selectedExtractor.extractContent(inputStream, contentType);
+    private String runExtractor(ContentExtractor extractor, String blobKey, String contentType) throws ExtractionException {
+        try (InputStream inputStream = blobStore.open(blobKey)) {
+            if (extractionWorkerPool.isEnabled()) {
+                return extractionWorkerPool.extract(extractor, inputStream, contentType);
+            }
+            return extractor.extractContent(inputStream, contentType);
         } catch (ExtractionException e) {
             throw e;
         } catch (Exception e) {
@@ -111,12 +191,6 @@ public class DocumentExtractionService {
         }
     }
 
-    private Optional<ContentExtractor> findExtractor(String contentType) {
-        return extractors.stream()
-                .filter(ex -> ex.supportsThisContentType(contentType))
-                .findFirst();
-    }
-
     public String extractContentSync(Long documentId) throws ExtractionException {
         log.info("Starting synchronous extraction of document with id {}", documentId);
         long startTime = System.currentTimeMillis();
@@ -126,18 +200,19 @@ public class DocumentExtractionService {
                     .orElseThrow(() -> new EntityNotFoundException("Document with id " + documentId + " not found"));
 
             document.setStatus(DocumentStatus.PROCESSING);
+            document.setProcessingStage(ProcessingStage.EXTRACTING);
+            document.setPagesDone(null);
+            document.setPagesTotal(null);
             documentRepository.save(document);
 
-            String extractedContent = extractContent(
-                    document.getFileData(),
-                    document.getFileType()
-            );
+            String extractedContent = extractContent(document);
 
             long duration = System.currentTimeMillis() - startTime;
 
             if(extractedContent == null || extractedContent.isBlank()) {
                 log.warn("Extraction for document {} returned empty content.", documentId);
                 document.setStatus(DocumentStatus.FAILED);
+                document.setProcessingStage(ProcessingStage.FAILED);
                 documentRepository.save(document);
                 throw new ExtractionException("Nenhum conteúdo pôde ser extraído do documento.");
             }
@@ -146,6 +221,7 @@ public class DocumentExtractionService {
                     documentId, duration, extractedContent != null ? extractedContent.length() : 0);
 
             document.setExtractedContent(extractedContent);
+            document.setProcessingStage(ProcessingStage.QUEUED_FOR_SUMMARY);
             documentRepository.save(document);
 
             return extractedContent;
@@ -157,6 +233,8 @@ public class DocumentExtractionService {
             Document document = documentRepository.findById(documentId).orElse(null);
             if (document != null) {
                 document.setStatus(DocumentStatus.FAILED);
+                document.setProcessingStage(ProcessingStage.FAILED);
+                document.setFailureReason(e.getMessage());
                 documentRepository.save(document);
             }
 
@@ -168,6 +246,7 @@ public class DocumentExtractionService {
             Document document = documentRepository.findById(documentId).orElse(null);
             if (document != null) {
                 document.setStatus(DocumentStatus.FAILED);
+                document.setProcessingStage(ProcessingStage.FAILED);
                 documentRepository.save(document);
             }
 
@@ -1,18 +1,23 @@
 package br.com.montreal.ai.llmontreal.service;
 
 import br.com.montreal.ai.llmontreal.config.KafkaTopicConfig;
+import br.com.montreal.ai.llmontreal.dto.DocumentStatusDTO;
 import br.com.montreal.ai.llmontreal.dto.DocumentUploadResponse;
 import br.com.montreal.ai.llmontreal.dto.kafka.KafkaSummaryRequestDTO;
 import br.com.montreal.ai.llmontreal.dto.kafka.KafkaSummaryResponseDTO;
 import br.com.montreal.ai.llmontreal.entity.Document;
 import br.com.montreal.ai.llmontreal.entity.enums.DocumentStatus;
+import br.com.montreal.ai.llmontreal.entity.enums.ProcessingStage;
 import br.com.montreal.ai.llmontreal.exception.FileUploadException;
 import br.com.montreal.ai.llmontreal.exception.FileValidationException;
 import br.com.montreal.ai.llmontreal.repository.DocumentRepository;
 import br.com.montreal.ai.llmontreal.service.ollama.OllamaProducerService;
+import br.com.montreal.ai.llmontreal.service.storage.BlobStore;
+import br.com.montreal.ai.llmontreal.service.storage.StoredBlob;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -20,10 +25,12 @@ import org.springframework.web.multipart.MultipartFile;
 import org.springframework.kafka.core.KafkaTemplate;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
+import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
 
@@ -37,6 +44,8 @@ public class DocumentService {
     private final ZipProcessingService zipProcessingService;
     private final KafkaTemplate<String, KafkaSummaryRequestDTO> kafkaSummaryTemplate;
     private final OllamaProducerService ollamaProducerService;
+    private final BlobStore blobStore;
+    private final DocumentDeduplicationService deduplicationService;
 
     private static final long MAX_FILE_SIZE = 25L * 1024 * 1024;
     private static final String ZIP_CONTENT_TYPE = "application/zip";
@@ -50,6 +59,9 @@ public class DocumentService {
             "application/x-zip-compressed",
             "text/plain");
 
+    @Value("${file.upload.synchronous-processing:false}")
+    private boolean synchronousProcessing;
+
     public Page<Document> getAllDocuments(Pageable pageable, DocumentStatus documentStatus) {
         if (documentStatus == null) {
             return documentRepository.findAll(pageable);
@@ -70,15 +82,20 @@ public class DocumentService {
         validateFile(file);
 
         try {
-            byte[] fileData = file.getBytes();
             String contentType = file.getContentType();
             String fileName = file.getOriginalFilename();
+            String uploadId = UUID.randomUUID().toString();
 
             if (ZIP_CONTENT_TYPE.equalsIgnoreCase(contentType) || ZIP_CONTENT_TYPE_ALT.equalsIgnoreCase(contentType))  {
-                return processZipFile(fileData, fileName, correlationId);
+                return processZipFile(file, fileName, correlationId, uploadId);
+            }
+
+            StoredBlob blob;
+            try (InputStream inputStream = file.getInputStream()) {
+                blob = blobStore.store(inputStream);
             }
 
-            return processSingleFile(fileName, contentType, fileData, correlationId);
+            return processSingleFile(fileName, contentType, blob, correlationId, uploadId);
 
         } catch (IOException e) {
             String errorMessage = String.format(
@@ -88,10 +105,11 @@ public class DocumentService {
         }
     }
 
-    private DocumentUploadResponse processZipFile(byte[] zipData, String fileName, String correlationId) {
+    private DocumentUploadResponse processZipFile(MultipartFile file, String fileName, String correlationId,
+            String uploadId) {
         log.info("Processing ZIP file: {}", fileName);
 
-        List<Long> documentIds = zipProcessingService.processZipFile(zipData, fileName, correlationId);
+        List<Long> documentIds = zipProcessingService.processZipUpload(file, correlationId, uploadId);
 
         if (documentIds.isEmpty()) {
             log.warn("No valid documents found in ZIP: {}", fileName);
@@ -106,21 +124,41 @@ public class DocumentService {
         return new DocumentUploadResponse(firstDocument, documentIds.size(), documentIds);
     }
 
-    private DocumentUploadResponse processSingleFile(String fileName, String contentType, byte[] fileData,
-            String correlationId) {
+    private DocumentUploadResponse processSingleFile(String fileName, String contentType, StoredBlob blob,
+            String correlationId, String uploadId) {
         Document document = Document.builder()
                 .fileName(fileName)
                 .fileType(contentType)
-                .fileData(fileData)
+                .blobKey(blob.key())
+                .fileSize(blob.size())
+                .contentHash(blob.sha256())
+                .uploadId(uploadId)
                 .status(DocumentStatus.PENDING)
+                .processingStage(ProcessingStage.UPLOADED)
                 .createdAt(LocalDateTime.now())
                 .updatedAt(LocalDateTime.now())
                 .build();
 
+        if (deduplicationService.reuseCompletedResults(document)) {
+            Document duplicateDocument = documentRepository.save(document);
+            log.info("Arquivo duplicado carregado: {} (ID: {}) - resultados reaproveitados",
+                    duplicateDocument.getFileName(), duplicateDocument.getId());
+            return new DocumentUploadResponse(duplicateDocument);
+        }
+
         Document savedDocument = documentRepository.save(document);
         log.info("Arquivo carregado com sucesso: {} (ID: {})",
                 savedDocument.getFileName(), savedDocument.getId());
 
+        if (!synchronousProcessing) {
+            extractionService.extractContentAsync(savedDocument.getId(), correlationId);
+            return new DocumentUploadResponse(savedDocument);
+        }
+
+        return processSingleFileSynchronously(savedDocument, correlationId);
+    }
+
+    private DocumentUploadResponse processSingleFileSynchronously(Document savedDocument, String correlationId) {
         try {
             extractionService.extractContentSync(savedDocument.getId());
 
@@ -135,6 +173,7 @@ public class DocumentService {
             savedDocument = documentRepository.findById(savedDocument.getId())
                     .orElseThrow(() -> new FileUploadException("Documento não encontrado após geração de resumo"));
             savedDocument.setStatus(DocumentStatus.COMPLETED);
+            savedDocument.setProcessingStage(ProcessingStage.DONE);
             savedDocument.setUpdatedAt(LocalDateTime.now());
             savedDocument = documentRepository.save(savedDocument);
 
@@ -147,6 +186,7 @@ public class DocumentService {
 
             savedDocument = documentRepository.findById(savedDocument.getId()).orElse(savedDocument);
             savedDocument.setStatus(DocumentStatus.FAILED);
+            savedDocument.setProcessingStage(ProcessingStage.FAILED);
             savedDocument.setUpdatedAt(LocalDateTime.now());
             documentRepository.save(savedDocument);
 
@@ -186,6 +226,10 @@ public class DocumentService {
                 .map(Document::getExtractedContent);
     }
 
+    public Optional<DocumentStatusDTO> getDocumentStatus(Long documentId) {
+        return documentRepository.findStatusById(documentId);
+    }
+
     public Optional<String> getSummary(Long documentId) {
         return documentRepository.findById(documentId)
                 .map(Document::getSummary);
@@ -201,6 +245,7 @@ public class DocumentService {
 
         document.setSummary(null);
         document.setStatus(DocumentStatus.PROCESSING);
+        document.setProcessingStage(ProcessingStage.QUEUED_FOR_SUMMARY);
         document.setUpdatedAt(LocalDateTime.now());
         documentRepository.save(document);
 
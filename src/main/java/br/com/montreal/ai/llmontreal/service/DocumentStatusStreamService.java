@@ -0,0 +1,176 @@
+package br.com.montreal.ai.llmontreal.service;
+
+import br.com.montreal.ai.llmontreal.dto.DocumentStatusDTO;
+import br.com.montreal.ai.llmontreal.event.DocumentStatusChangedEvent;
+import br.com.montreal.ai.llmontreal.repository.DocumentRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.locks.ReentrantLock;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class DocumentStatusStreamService {
+
+    static final String STATUS_EVENT_NAME = "status";
+
+    private final DocumentRepository documentRepository;
+
+    private final Map<Long, List<StatusSubscription>> documentSubscriptions = new ConcurrentHashMap<>();
+    private final Map<String, List<StatusSubscription>> uploadSubscriptions = new ConcurrentHashMap<>();
+
+    @Value("${document.status-stream.timeout-ms:1800000}")
+    private long emitterTimeoutMs;
+
+    public Optional<SseEmitter> subscribeToDocument(Long documentId) {
+        if (!documentRepository.existsById(documentId)) {
+            return Optional.empty();
+        }
+
+        StatusSubscription subscription = new StatusSubscription(createEmitter());
+        register(documentSubscriptions, documentId, subscription);
+
+        subscription.sendSnapshot(documentRepository.findStatusById(documentId).stream().toList());
+        return Optional.of(subscription.emitter);
+    }
+
+    public Optional<SseEmitter> subscribeToUpload(String uploadId) {
+        StatusSubscription subscription = new StatusSubscription(createEmitter());
+        register(uploadSubscriptions, uploadId, subscription);
+
+        List<DocumentStatusDTO> snapshot = documentRepository.findStatusesByUploadId(uploadId);
+        if (snapshot.isEmpty()) {
+            unregister(uploadSubscriptions, uploadId, subscription);
+            return Optional.empty();
+        }
+
+        subscription.sendSnapshot(snapshot);
+        return Optional.of(subscription.emitter);
+    }
+
+    SseEmitter createEmitter() {
+        return new SseEmitter(emitterTimeoutMs);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onStatusChanged(DocumentStatusChangedEvent event) {
+        DocumentStatusDTO status = event.toStatusDTO();
+
+        log.debug("Document {} moved to {} / {}", status.id(), status.status(), status.stage());
+
+        notifySubscribers(documentSubscriptions.get(status.id()), status);
+        if (status.uploadId() != null) {
+            notifySubscribers(uploadSubscriptions.get(status.uploadId()), status);
+        }
+    }
+
+    private void notifySubscribers(List<StatusSubscription> subscriptions, DocumentStatusDTO status) {
+        if (subscriptions == null) {
+            return;
+        }
+
+        for (StatusSubscription subscription : subscriptions) {
+            subscription.send(status);
+        }
+    }
+
+    private <K> void register(Map<K, List<StatusSubscription>> subscriptions, K key, StatusSubscription subscription) {
+        subscriptions.computeIfAbsent(key, k -> new CopyOnWriteArrayList<>()).add(subscription);
+
+        Runnable cleanup = () -> unregister(subscriptions, key, subscription);
+        subscription.emitter.onCompletion(cleanup);
+        subscription.emitter.onTimeout(cleanup);
+        subscription.emitter.onError(e -> cleanup.run());
+    }
+
+    private <K> void unregister(Map<K, List<StatusSubscription>> subscriptions, K key, StatusSubscription subscription) {
+        subscriptions.computeIfPresent(key, (k, list) -> {
+            list.remove(subscription);
+            return list.isEmpty() ? null : list;
+        });
+    }
+
+    private static final class StatusSubscription {
+
+        private final SseEmitter emitter;
+        private final Set<Long> pendingDocumentIds = ConcurrentHashMap.newKeySet();
+        private final Set<Long> updatedDocumentIds = ConcurrentHashMap.newKeySet();
+        // A lock rather than synchronized: emit() writes to the socket, which would pin a virtual thread's carrier
+        private final ReentrantLock lock = new ReentrantLock();
+        private volatile boolean snapshotSent;
+
+        private StatusSubscription(SseEmitter emitter) {
+            this.emitter = emitter;
+        }
+
+        private void sendSnapshot(List<DocumentStatusDTO> snapshot) {
+            lock.lock();
+            try {
+                for (DocumentStatusDTO status : snapshot) {
+                    if (updatedDocumentIds.contains(status.id())) {
+                        continue;
+                    }
+                    if (!status.isTerminal()) {
+                        pendingDocumentIds.add(status.id());
+                    }
+                    if (!emit(status)) {
+                        return;
+                    }
+                }
+
+                snapshotSent = true;
+                completeIfFinished();
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private void send(DocumentStatusDTO status) {
+            lock.lock();
+            try {
+                updatedDocumentIds.add(status.id());
+                if (status.isTerminal()) {
+                    pendingDocumentIds.remove(status.id());
+                }
+
+                if (emit(status) && snapshotSent) {
+                    completeIfFinished();
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private boolean emit(DocumentStatusDTO status) {
+            try {
+                emitter.send(SseEmitter.event()
+                        .id(status.id() + "-" + status.stage())
+                        .name(STATUS_EVENT_NAME)
+                        .data(status));
+                return true;
+            } catch (IOException | IllegalStateException e) {
+                log.debug("Status stream closed by client: {}", e.getMessage());
+                emitter.completeWithError(e);
+                return false;
+            }
+        }
+
+        private void completeIfFinished() {
+            if (pendingDocumentIds.isEmpty()) {
+                emitter.complete();
+            }
+        }
+    }
+}
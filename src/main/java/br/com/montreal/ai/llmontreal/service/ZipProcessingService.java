@@ -2,98 +2,428 @@ package br.com.montreal.ai.llmontreal.service;
 
 import br.com.montreal.ai.llmontreal.entity.Document;
 import br.com.montreal.ai.llmontreal.entity.enums.DocumentStatus;
+import br.com.montreal.ai.llmontreal.entity.enums.ProcessingStage;
 import br.com.montreal.ai.llmontreal.exception.FileUploadException;
-import br.com.montreal.ai.llmontreal.repository.DocumentRepository;
-import lombok.RequiredArgsConstructor;
+import br.com.montreal.ai.llmontreal.repository.DocumentBatchRepository;
+import br.com.montreal.ai.llmontreal.service.storage.BlobStore;
+import br.com.montreal.ai.llmontreal.service.storage.StoredBlob;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.tika.Tika;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
 
-import java.io.ByteArrayOutputStream;
+import java.io.BufferedInputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Enumeration;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
 import java.util.zip.ZipInputStream;
 
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class ZipProcessingService {
 
     private static final int BUFFER_SIZE = 8192;
+    private static final String UNKNOWN_CONTENT_TYPE = "application/octet-stream";
 
-    private final DocumentRepository documentRepository;
+    public enum ProcessingMode {
+        STREAMING,
+        RANDOM_ACCESS
+    }
+
+    private final DocumentBatchRepository documentBatchRepository;
     private final DocumentExtractionService extractionService;
+    private final BlobStore blobStore;
+    private final DocumentDeduplicationService deduplicationService;
+    private final Executor zipEntryExecutor;
     private final Tika tika = new Tika();
     
     @Value("${file.upload.zip.max-entry-size:104857600}")
     private long maxEntrySize;
 
-    public List<Long> processZipFile(byte[] zipData, String originalZipFileName, String correlationId) {
-        List<Long> createdDocumentIds = new ArrayList<>();
+    @Value("${file.upload.zip.batch-size:100}")
+    private int batchSize;
+
+    @Value("${file.upload.zip.max-entries:1000}")
+    private int maxEntries;
+
+    @Value("${file.upload.zip.max-total-size:524288000}")
+    private long maxTotalSize;
+
+    @Value("${file.upload.zip.processing-mode:STREAMING}")
+    private ProcessingMode processingMode;
+
+    public ZipProcessingService(DocumentBatchRepository documentBatchRepository,
+                                DocumentExtractionService extractionService,
+                                BlobStore blobStore,
+                                DocumentDeduplicationService deduplicationService,
+                                @Qualifier("zipEntryExecutor") Executor zipEntryExecutor) {
+        this.documentBatchRepository = documentBatchRepository;
+        this.extractionService = extractionService;
+        this.blobStore = blobStore;
+        this.deduplicationService = deduplicationService;
+        this.zipEntryExecutor = zipEntryExecutor;
+    }
+
+    public List<Long> processZipUpload(MultipartFile file, String correlationId, String uploadId) {
+        String originalZipFileName = file.getOriginalFilename();
+
+        if (processingMode == ProcessingMode.RANDOM_ACCESS) {
+            Path spooledArchive = null;
+            try {
+                spooledArchive = Files.createTempFile("zip-upload-", ".zip");
+                file.transferTo(spooledArchive);
+                return processZipArchive(spooledArchive, originalZipFileName, correlationId, uploadId);
+            } catch (IOException e) {
+                log.error("Error spooling ZIP file {}: {}", originalZipFileName, e.getMessage(), e);
+                throw new FileUploadException("Erro ao processar arquivo ZIP: " + e.getMessage(), e);
+            } finally {
+                if (spooledArchive != null) {
+                    deleteSpooledEntry(spooledArchive);
+                }
+            }
+        }
+
+        try (InputStream zipStream = file.getInputStream()) {
+            return processZipFile(zipStream, originalZipFileName, correlationId, uploadId);
+        } catch (IOException e) {
+            log.error("Error reading ZIP file {}: {}", originalZipFileName, e.getMessage(), e);
+            throw new FileUploadException("Erro ao processar arquivo ZIP: " + e.getMessage(), e);
+        }
+    }
+
+    public List<Long> processZipArchive(Path archive, String originalZipFileName, String correlationId,
+                                        String uploadId) {
+        int[] stats = {0, 0, 0};
+
+        try (ZipFile zipFile = new ZipFile(archive.toFile())) {
+            List<ZipEntry> candidates = selectCandidateEntries(zipFile, originalZipFileName, stats);
+
+            // Declared sizes only pre-filter: the total is enforced again on the bytes actually inflated, shared by
+            // the parallel entries, and nothing is persisted before every entry has been read within it
+            InflationBudget budget = new InflationBudget();
+            List<CompletableFuture<PreparedEntry>> pendingEntries = new ArrayList<>(candidates.size());
+            for (ZipEntry entry : candidates) {
+                pendingEntries.add(CompletableFuture.supplyAsync(
+                        () -> prepareArchiveEntry(zipFile, entry, originalZipFileName, uploadId, budget),
+                        zipEntryExecutor));
+            }
+            awaitQuietly(pendingEntries);
+            budget.verify();
+
+            List<Long> createdDocumentIds = persistInEntryOrder(pendingEntries, correlationId, stats);
+
+            log.info("ZIP processing completed: {} - Processed={} Skipped={} Errors={}",
+                    originalZipFileName, stats[0], stats[1], stats[2]);
+
+            return createdDocumentIds;
+        } catch (FileUploadException e) {
+            throw e;
+        } catch (Exception e) {
+            log.error("Error reading ZIP file {}: {}", originalZipFileName, e.getMessage(), e);
+            throw new FileUploadException("Erro ao processar arquivo ZIP: " + e.getMessage(), e);
+        }
+    }
+
+    public List<Long> processZipFile(InputStream zipStream, String originalZipFileName, String correlationId,
+                                     String uploadId) {
+        List<CompletableFuture<PreparedEntry>> pendingEntries = new ArrayList<>();
         int[] stats = {0, 0, 0};
 
-        try (ZipInputStream zis = new ZipInputStream(new java.io.ByteArrayInputStream(zipData))) {
+        // Without the central directory the limits RANDOM_ACCESS checks up front are enforced as entries go
+        // by, on the bytes actually inflated, since declared sizes can lie
+        InflationBudget budget = new InflationBudget();
+
+        try (ZipInputStream zis = new ZipInputStream(new BufferedInputStream(zipStream, BUFFER_SIZE))) {
             ZipEntry entry;
             while ((entry = zis.getNextEntry()) != null) {
+                budget.countEntry();
                 try {
-                    processZipEntry(zis, entry, originalZipFileName, createdDocumentIds, stats, correlationId);
+                    Path spooledEntry = spoolZipEntry(zis, entry, stats, budget);
+                    if (spooledEntry != null) {
+                        pendingEntries.add(submitSpooledEntry(spooledEntry, entry.getName(), originalZipFileName,
+                                correlationId, uploadId));
+                    }
+                } catch (FileUploadException e) {
+                    throw e;
                 } catch (Exception e) {
                     log.error("Error processing ZIP entry {}: {}", entry.getName(), e.getMessage());
                     stats[2]++;
-                } finally {
-                    zis.closeEntry();
                 }
+                // Skipped and oversized entries are inflated too when moving to the next one, so drain them here
+                drainEntry(zis, entry.getName(), budget);
             }
-
-            log.info("ZIP processing completed: {} - Processed={} Skipped={} Errors={}", 
-                    originalZipFileName, stats[0], stats[1], stats[2]);
-
-            return createdDocumentIds;
-
+        } catch (FileUploadException e) {
+            awaitQuietly(pendingEntries);
+            log.warn("ZIP file {} rejected: {}", originalZipFileName, e.getMessage());
+            throw e;
         } catch (Exception e) {
+            awaitQuietly(pendingEntries);
             log.error("Error reading ZIP file {}: {}", originalZipFileName, e.getMessage(), e);
             throw new FileUploadException("Erro ao processar arquivo ZIP: " + e.getMessage(), e);
         }
+
+        List<Long> createdDocumentIds = persistInEntryOrder(pendingEntries, correlationId, stats);
+
+        log.info("ZIP processing completed: {} - Processed={} Skipped={} Errors={}", 
+                originalZipFileName, stats[0], stats[1], stats[2]);
+
+        return createdDocumentIds;
     }
 
-    private void processZipEntry(ZipInputStream zis, ZipEntry entry, String zipFileName,
-                                  List<Long> createdDocumentIds, int[] stats, String correlationId) throws Exception {
+    private Path spoolZipEntry(ZipInputStream zis, ZipEntry entry, int[] stats, InflationBudget budget)
+            throws IOException {
         String entryName = entry.getName();
 
         if (shouldSkipEntry(entry, entryName)) {
             stats[1]++;
             log.debug("Skipping entry: {}", entryName);
-            return;
+            return null;
         }
 
-        byte[] entryData = readZipEntryContent(zis, entry);
-        if (entryData.length == 0) {
+        if (entry.getSize() > maxEntrySize) {
             stats[1]++;
-            log.debug("Skipping empty entry: {}", entryName);
-            return;
+            log.warn("Skipping large file: {} ({}MB)", entryName, entry.getSize() / (1024 * 1024));
+            return null;
         }
 
-        String contentType = detectContentType(entryData, entryName);
-        
+        Path spooledEntry = Files.createTempFile("zip-entry-", ".tmp");
+        try {
+            long size = Files.copy(new EntryInputStream(zis, entryName, maxEntrySize, budget), spooledEntry,
+                    StandardCopyOption.REPLACE_EXISTING);
+
+            if (size == 0) {
+                stats[1]++;
+                log.debug("Skipping empty entry: {}", entryName);
+                Files.deleteIfExists(spooledEntry);
+                return null;
+            }
+
+            return spooledEntry;
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(spooledEntry);
+            throw e;
+        }
+    }
+
+    private void drainEntry(ZipInputStream zis, String entryName, InflationBudget budget) throws IOException {
+        InputStream remaining = new EntryInputStream(zis, entryName, Long.MAX_VALUE, budget);
+        byte[] buffer = new byte[BUFFER_SIZE];
+        while (remaining.read(buffer) != -1) {
+            // only counted against the budget
+        }
+        zis.closeEntry();
+    }
+
+    private List<ZipEntry> selectCandidateEntries(ZipFile zipFile, String zipFileName, int[] stats) {
+        if (zipFile.size() > maxEntries) {
+            throw tooManyEntries();
+        }
+
+        List<ZipEntry> candidates = new ArrayList<>();
+        long declaredTotalSize = 0;
+
+        Enumeration<? extends ZipEntry> entries = zipFile.entries();
+        while (entries.hasMoreElements()) {
+            ZipEntry entry = entries.nextElement();
+            String entryName = entry.getName();
+
+            if (shouldSkipEntry(entry, entryName)) {
+                stats[1]++;
+                log.debug("Skipping entry: {}", entryName);
+                continue;
+            }
+
+            if (entry.getSize() == 0) {
+                stats[1]++;
+                log.debug("Skipping empty entry: {}", entryName);
+                continue;
+            }
+
+            if (entry.getSize() > maxEntrySize) {
+                stats[1]++;
+                log.warn("Skipping large file: {} ({}MB)", entryName, entry.getSize() / (1024 * 1024));
+                continue;
+            }
+
+            String declaredType = tika.detect(entryName);
+            if (!UNKNOWN_CONTENT_TYPE.equals(declaredType) && !isSupportedContentType(declaredType)) {
+                stats[1]++;
+                log.debug("Skipping unsupported type {} for entry: {}", declaredType, entryName);
+                continue;
+            }
+
+            declaredTotalSize += Math.max(entry.getSize(), 0);
+            if (declaredTotalSize > maxTotalSize) {
+                throw tooLarge();
+            }
+
+            candidates.add(entry);
+        }
+
+        log.debug("ZIP {}: {} of {} entries selected from the central directory",
+                zipFileName, candidates.size(), zipFile.size());
+
+        return candidates;
+    }
+
+    private FileUploadException tooManyEntries() {
+        return new FileUploadException(String.format(
+                "O arquivo ZIP excede o número máximo de %d entradas", maxEntries));
+    }
+
+    private FileUploadException tooLarge() {
+        return new FileUploadException(String.format(
+                "O conteúdo do arquivo ZIP excede o tamanho máximo de %d MB", maxTotalSize / (1024 * 1024)));
+    }
+
+    private PreparedEntry prepareArchiveEntry(ZipFile zipFile, ZipEntry entry, String zipFileName, String uploadId,
+                                              InflationBudget budget) {
+        String entryName = entry.getName();
+
+        try (InputStream rawStream = zipFile.getInputStream(entry);
+             InputStream entryStream = new BufferedInputStream(
+                     new EntryInputStream(rawStream, entryName, maxEntrySize, budget), BUFFER_SIZE)) {
+            return prepareEntry(entryStream, entryName, zipFileName, uploadId);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Error processing ZIP entry " + entryName, e);
+        }
+    }
+
+    private CompletableFuture<PreparedEntry> submitSpooledEntry(Path spooledEntry, String entryName, String zipFileName,
+                                                       String correlationId, String uploadId) {
+        try {
+            return CompletableFuture.supplyAsync(
+                    () -> prepareSpooledEntry(spooledEntry, entryName, zipFileName, uploadId),
+                    zipEntryExecutor);
+        } catch (RuntimeException e) {
+            deleteSpooledEntry(spooledEntry);
+            throw e;
+        }
+    }
+
+    private PreparedEntry prepareSpooledEntry(Path spooledEntry, String entryName, String zipFileName,
+                                              String uploadId) {
+        try (InputStream entryStream = new BufferedInputStream(Files.newInputStream(spooledEntry), BUFFER_SIZE)) {
+            return prepareEntry(entryStream, entryName, zipFileName, uploadId);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Error processing ZIP entry " + entryName, e);
+        } finally {
+            deleteSpooledEntry(spooledEntry);
+        }
+    }
+
+    private PreparedEntry prepareEntry(InputStream entryStream, String entryName, String zipFileName,
+                                       String uploadId) throws IOException {
+        String contentType = detectContentType(entryStream, entryName);
+
         if (!isSupportedContentType(contentType)) {
-            stats[1]++;
             log.debug("Skipping unsupported type {} for entry: {}", contentType, entryName);
+            return null;
+        }
+
+        StoredBlob blob = blobStore.store(entryStream);
+        Document document = createDocumentFromZipEntry(entryName, zipFileName, contentType, blob, uploadId);
+        boolean duplicate = deduplicationService.reuseCompletedResults(document);
+
+        return new PreparedEntry(document, duplicate);
+    }
+
+    private List<Long> persistInEntryOrder(List<CompletableFuture<PreparedEntry>> pendingEntries,
+                                           String correlationId, int[] stats) {
+        List<Long> createdDocumentIds = new ArrayList<>(pendingEntries.size());
+        List<PreparedEntry> batch = new ArrayList<>(batchSize);
+
+        for (CompletableFuture<PreparedEntry> pendingEntry : pendingEntries) {
+            try {
+                PreparedEntry preparedEntry = pendingEntry.join();
+                if (preparedEntry == null) {
+                    stats[1]++;
+                    continue;
+                }
+
+                batch.add(preparedEntry);
+                if (batch.size() >= batchSize) {
+                    flushBatch(batch, createdDocumentIds, correlationId, stats);
+                }
+            } catch (CompletionException e) {
+                Throwable cause = e.getCause() != null ? e.getCause() : e;
+                log.error("Error processing ZIP entry: {}", cause.getMessage());
+                stats[2]++;
+            }
+        }
+
+        flushBatch(batch, createdDocumentIds, correlationId, stats);
+        return createdDocumentIds;
+    }
+
+    private void flushBatch(List<PreparedEntry> batch, List<Long> createdDocumentIds,
+                            String correlationId, int[] stats) {
+        if (batch.isEmpty()) {
             return;
         }
 
-        Document document = createDocumentFromZipEntry(entryName, zipFileName, contentType, entryData);
-        Document savedDocument = documentRepository.save(document);
-        
-        log.info("Created document from ZIP: {} (ID: {}, Type: {})", 
-                entryName, savedDocument.getId(), contentType);
+        try {
+            List<Document> savedDocuments = documentBatchRepository.insertAll(
+                    batch.stream().map(PreparedEntry::document).toList());
 
-        extractionService.extractContentAsync(savedDocument.getId(), correlationId);
-        
-        createdDocumentIds.add(savedDocument.getId());
-        stats[0]++;
+            log.info("Created {} documents from ZIP in one batch", savedDocuments.size());
+
+            for (int i = 0; i < batch.size(); i++) {
+                Document savedDocument = savedDocuments.get(i);
+                createdDocumentIds.add(savedDocument.getId());
+                stats[0]++;
+
+                log.debug("Created document from ZIP: {} (ID: {}, Type: {}, Duplicate: {})",
+                        savedDocument.getFileName(), savedDocument.getId(), savedDocument.getFileType(),
+                        batch.get(i).duplicate());
+            }
+
+            for (int i = 0; i < batch.size(); i++) {
+                if (!batch.get(i).duplicate()) {
+                    extractionService.extractContentAsync(savedDocuments.get(i).getId(), correlationId);
+                }
+            }
+        } catch (Exception e) {
+            log.error("Error persisting batch of {} ZIP entries: {}", batch.size(), e.getMessage(), e);
+            stats[2] += batch.size();
+        } finally {
+            batch.clear();
+        }
+    }
+
+    private void awaitQuietly(List<CompletableFuture<PreparedEntry>> pendingEntries) {
+        for (CompletableFuture<PreparedEntry> pendingEntry : pendingEntries) {
+            try {
+                pendingEntry.join();
+            } catch (CompletionException e) {
+                log.debug("ZIP entry failed while aborting: {}", e.getMessage());
+            }
+        }
+    }
+
+    private void deleteSpooledEntry(Path spooledEntry) {
+        try {
+            Files.deleteIfExists(spooledEntry);
+        } catch (IOException e) {
+            log.warn("Failed to delete spooled ZIP entry {}: {}", spooledEntry, e.getMessage());
+        }
     }
 
     private boolean shouldSkipEntry(ZipEntry entry, String entryName) {
@@ -111,36 +441,12 @@ public class ZipProcessingService {
                 || baseName.startsWith(".");
     }
 
-    private byte[] readZipEntryContent(ZipInputStream zis, ZipEntry entry) throws Exception {
-        long size = entry.getSize();
-        if (size > 0 && size > maxEntrySize) {
-            log.warn("Skipping large file: {} ({}MB)", entry.getName(), size / (1024 * 1024));
-            return new byte[0];
-        }
-
-        ByteArrayOutputStream out = new ByteArrayOutputStream();
-        byte[] buffer = new byte[BUFFER_SIZE];
-        int bytesRead;
-        long total = 0;
-
-        while ((bytesRead = zis.read(buffer)) != -1) {
-            total += bytesRead;
-            if (total > maxEntrySize) {
-                log.warn("Truncating large file: {}", entry.getName());
-                break;
-            }
-            out.write(buffer, 0, bytesRead);
-        }
-
-        return out.toByteArray();
-    }
-
-    private String detectContentType(byte[] data, String fileName) {
+    private String detectContentType(InputStream entryStream, String fileName) {
         try {
-            return tika.detect(data, fileName);
+            return tika.detect(entryStream, fileName);
         } catch (Exception e) {
             log.debug("Content type detection failed for {}", fileName);
-            return "application/octet-stream";
+            return UNKNOWN_CONTENT_TYPE;
         }
     }
 
@@ -158,14 +464,18 @@ public class ZipProcessingService {
     }
 
     private Document createDocumentFromZipEntry(String entryName, String zipFileName, 
-                                                 String contentType, byte[] data) {
+                                                 String contentType, StoredBlob blob, String uploadId) {
         String fileName = extractFileName(zipFileName) + "/" + entryName;
 
         return Document.builder()
                 .fileName(fileName)
                 .fileType(contentType)
-                .fileData(data)
+                .blobKey(blob.key())
+                .fileSize(blob.size())
+                .contentHash(blob.sha256())
+                .uploadId(uploadId)
                 .status(DocumentStatus.PENDING)
+                .processingStage(ProcessingStage.UPLOADED)
                 .createdAt(LocalDateTime.now())
                 .updatedAt(LocalDateTime.now())
                 .build();
@@ -181,5 +491,79 @@ public class ZipProcessingService {
         }
         return fullPath;
     }
-}
 
+    private record PreparedEntry(Document document, boolean duplicate) {
+    }
+
+    // Entry count and inflated bytes of one archive, shared by the entries of a random-access archive read in
+    // parallel. Once exceeded every further read fails too, so the remaining entries stop early
+    private final class InflationBudget {
+
+        private final AtomicInteger entries = new AtomicInteger();
+        private final AtomicLong inflatedBytes = new AtomicLong();
+
+        void countEntry() {
+            if (entries.incrementAndGet() > maxEntries) {
+                throw tooManyEntries();
+            }
+        }
+
+        void countBytes(long n) {
+            if (inflatedBytes.addAndGet(n) > maxTotalSize) {
+                throw tooLarge();
+            }
+        }
+
+        void verify() {
+            if (inflatedBytes.get() > maxTotalSize) {
+                throw tooLarge();
+            }
+        }
+    }
+
+    private static final class EntryInputStream extends FilterInputStream {
+
+        private final String entryName;
+        private final long maxSize;
+        private final InflationBudget budget;
+        private long bytesRead;
+
+        private EntryInputStream(InputStream in, String entryName, long maxSize, InflationBudget budget) {
+            super(in);
+            this.entryName = entryName;
+            this.maxSize = maxSize;
+            this.budget = budget;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = super.read();
+            if (b != -1) {
+                count(1);
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            int n = super.read(b, off, len);
+            if (n > 0) {
+                count(n);
+            }
+            return n;
+        }
+
+        @Override
+        public void close() {
+            // the ZipInputStream is closed by the caller after the last entry
+        }
+
+        private void count(int n) throws IOException {
+            budget.countBytes(n);
+            bytesRead += n;
+            if (bytesRead > maxSize) {
+                throw new IOException("Entry " + entryName + " exceeds the maximum size of " + maxSize + " bytes");
+            }
+        }
+    }
+}
@@ -3,6 +3,7 @@ package br.com.montreal.ai.llmontreal.service.extraction;
 import br.com.montreal.ai.llmontreal.exception.ExtractionException;
 
 import java.io.InputStream;
+import java.util.Set;
 
 public interface ContentExtractor {
 
@@ -10,7 +11,20 @@ public interface ContentExtractor {
 
     boolean supportsThisContentType(String contentType);
 
+    default Set<String> getSupportedContentTypes() {
+        return Set.of();
+    }
+
     default int getPriority() {
         return 100;
     }
+
+    default String getConfigFingerprint() {
+        return "";
+    }
+
+    // CPU-heavy OCR work that belongs on the OCR lane even when the document started on the parse lane
+    default boolean requiresOcr() {
+        return false;
+    }
 }
\ No newline at end of file
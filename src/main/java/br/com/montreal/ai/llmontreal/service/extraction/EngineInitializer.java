@@ -0,0 +1,177 @@
+package br.com.montreal.ai.llmontreal.service.extraction;
+
+import br.com.montreal.ai.llmontreal.exception.ExtractionException;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.lang.management.ManagementFactory;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// Builds the expensive extraction engines (Tika parsers, Tesseract pool and tessdata) off the startup path.
+// Extractors hold a Handle and block on it only when the first document actually needs the engine.
+@Slf4j
+@Component
+public class EngineInitializer {
+
+    private final boolean background;
+    private final long awaitTimeoutMs;
+    private final ExecutorService executor;
+    private final Map<String, Task> tasks = new ConcurrentHashMap<>();
+    private final AtomicInteger pending = new AtomicInteger();
+
+    public record TaskStats(String name, String state, long durationMs, String error) {
+    }
+
+    public EngineInitializer(
+            @Value("${startup.background-init.enabled:true}") boolean background,
+            @Value("${startup.background-init.await-timeout-ms:120000}") long awaitTimeoutMs
+    ) {
+        this.background = background;
+        this.awaitTimeoutMs = awaitTimeoutMs;
+        AtomicInteger threads = new AtomicInteger();
+        this.executor = background ? Executors.newFixedThreadPool(2, runnable -> {
+            Thread thread = new Thread(runnable, "engine-init-" + threads.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }) : null;
+    }
+
+    public static EngineInitializer inline() {
+        return new EngineInitializer(false, 0);
+    }
+
+    public <T> Handle<T> submit(String name, Callable<T> initializer) {
+        Task task = new Task();
+        tasks.put(name, task);
+        pending.incrementAndGet();
+
+        CompletableFuture<T> future = new CompletableFuture<>();
+        Runnable run = () -> {
+            long startTime = System.nanoTime();
+            try {
+                T engine = initializer.call();
+                task.finish(startTime, null);
+                log.info("Engine '{}' initialized in {}ms", name, task.durationMs);
+                future.complete(engine);
+            } catch (Throwable e) {
+                task.finish(startTime, e);
+                log.error("Engine '{}' failed to initialize: {}", name, e.getMessage(), e);
+                future.completeExceptionally(e);
+            } finally {
+                if (pending.decrementAndGet() == 0 && background) {
+                    log.info("All extraction engines ready {}ms after JVM start",
+                            System.currentTimeMillis() - ManagementFactory.getRuntimeMXBean().getStartTime());
+                }
+            }
+        };
+
+        if (executor != null) {
+            executor.execute(run);
+        } else {
+            run.run();
+        }
+        return new Handle<>(name, future);
+    }
+
+    public boolean isReady() {
+        return pending.get() == 0;
+    }
+
+    public List<TaskStats> stats() {
+        return tasks.entrySet().stream()
+                .sorted(Map.Entry.comparingByKey())
+                .map(entry -> entry.getValue().toStats(entry.getKey()))
+                .toList();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+    }
+
+    public final class Handle<T> {
+
+        private final String name;
+        private final CompletableFuture<T> future;
+
+        private Handle(String name, CompletableFuture<T> future) {
+            this.name = name;
+            this.future = future;
+        }
+
+        public T get() throws ExtractionException {
+            if (future.isDone()) {
+                return join();
+            }
+
+            long startTime = System.currentTimeMillis();
+            try {
+                T engine = future.get(awaitTimeoutMs, TimeUnit.MILLISECONDS);
+                log.info("Waited {}ms for engine '{}' to finish initializing", System.currentTimeMillis() - startTime, name);
+                return engine;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new ExtractionException("Interrupted while waiting for engine '" + name + "'", e);
+            } catch (TimeoutException e) {
+                throw new ExtractionException(String.format(
+                        "Engine '%s' not ready after %dms", name, awaitTimeoutMs), e);
+            } catch (ExecutionException e) {
+                throw failure(e.getCause());
+            }
+        }
+
+        public T getIfReady() {
+            return future.isDone() && !future.isCompletedExceptionally() ? future.join() : null;
+        }
+
+        public boolean isReady() {
+            return future.isDone();
+        }
+
+        private T join() throws ExtractionException {
+            try {
+                return future.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new ExtractionException("Interrupted while waiting for engine '" + name + "'", e);
+            } catch (ExecutionException e) {
+                throw failure(e.getCause());
+            }
+        }
+
+        private ExtractionException failure(Throwable cause) {
+            return new ExtractionException("Engine '" + name + "' failed to initialize: " + cause.getMessage(), cause);
+        }
+    }
+
+    private static final class Task {
+
+        private volatile String state = "PENDING";
+        private volatile long durationMs;
+        private volatile String error;
+
+        void finish(long startNanos, Throwable failure) {
+            durationMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+            error = failure != null ? failure.getMessage() : null;
+            state = failure != null ? "FAILED" : "READY";
+        }
+
+        TaskStats toStats(String name) {
+            return new TaskStats(name, state, durationMs, error);
+        }
+    }
+}
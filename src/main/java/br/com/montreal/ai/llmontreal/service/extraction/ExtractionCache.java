@@ -0,0 +1,198 @@
+package br.com.montreal.ai.llmontreal.service.extraction;
+
+import br.com.montreal.ai.llmontreal.entity.ExtractionCacheEntry;
+import br.com.montreal.ai.llmontreal.exception.ExtractionException;
+import br.com.montreal.ai.llmontreal.repository.ExtractionCacheRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Slf4j
+@Component
+public class ExtractionCache {
+
+    // Bump when text cleaning changes so stale entries stop matching
+    private static final int CACHE_VERSION = 1;
+
+    private final ExtractionCacheRepository repository;
+    private final boolean enabled;
+    private final int memoryMaxEntries;
+    private final int memoryMaxEntryChars;
+    private final long memoryMaxTotalChars;
+    private final Map<String, String> memoryTier = new LinkedHashMap<>(16, 0.75f, true);
+    private long memoryChars;
+    private final Map<String, CompletableFuture<String>> inFlight = new ConcurrentHashMap<>();
+
+    private final AtomicLong memoryHits = new AtomicLong();
+    private final AtomicLong persistentHits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+
+    @FunctionalInterface
+    public interface ExtractionCall {
+        String extract() throws ExtractionException;
+    }
+
+    public record Stats(long memoryHits, long persistentHits, long misses, int memoryEntries, long memoryChars) {
+    }
+
+    public ExtractionCache(
+            ExtractionCacheRepository repository,
+            @Value("${extraction.cache.enabled:true}") boolean enabled,
+            @Value("${extraction.cache.memory-max-entries:200}") int memoryMaxEntries,
+            @Value("${extraction.cache.memory-max-entry-chars:1000000}") int memoryMaxEntryChars,
+            @Value("${extraction.cache.memory-max-total-chars:10000000}") long memoryMaxTotalChars
+    ) {
+        this.repository = repository;
+        this.enabled = enabled;
+        this.memoryMaxEntries = memoryMaxEntries;
+        this.memoryMaxEntryChars = memoryMaxEntryChars;
+        this.memoryMaxTotalChars = memoryMaxTotalChars;
+    }
+
+    public String getOrExtract(String contentHash, String contentType, String extractor,
+                               String configFingerprint, ExtractionCall call) throws ExtractionException {
+        if (!enabled || contentHash == null || contentHash.isBlank()) {
+            return call.extract();
+        }
+
+        String fingerprint = configFingerprint != null ? configFingerprint : "";
+        String cacheKey = cacheKey(contentHash, contentType, extractor, fingerprint);
+
+        String cached = readMemory(cacheKey);
+        if (cached != null) {
+            memoryHits.incrementAndGet();
+            log.debug("Extraction cache hit (memory) for {} with {}", contentHash, extractor);
+            return cached;
+        }
+
+        Optional<ExtractionCacheEntry> persisted = readPersistent(cacheKey);
+        if (persisted.isPresent()) {
+            persistentHits.incrementAndGet();
+            log.info("Extraction cache hit (persistent) for {} with {}", contentHash, extractor);
+            String content = persisted.get().getExtractedContent();
+            writeMemory(cacheKey, content);
+            return content;
+        }
+
+        CompletableFuture<String> pending = new CompletableFuture<>();
+        CompletableFuture<String> running = inFlight.putIfAbsent(cacheKey, pending);
+        if (running != null) {
+            log.info("Waiting for in-flight extraction of {} with {}", contentHash, extractor);
+            return await(running);
+        }
+
+        try {
+            misses.incrementAndGet();
+            String content = call.extract();
+
+            if (content != null && !content.isBlank()) {
+                writeMemory(cacheKey, content);
+                writePersistent(cacheKey, contentHash, contentType, extractor, fingerprint, content);
+            }
+
+            pending.complete(content);
+            return content;
+        } catch (ExtractionException | RuntimeException e) {
+            pending.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(cacheKey, pending);
+        }
+    }
+
+    public Stats stats() {
+        synchronized (memoryTier) {
+            return new Stats(memoryHits.get(), persistentHits.get(), misses.get(), memoryTier.size(), memoryChars);
+        }
+    }
+
+    private String await(CompletableFuture<String> running) throws ExtractionException {
+        try {
+            return running.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ExtractionException("Interrupted while waiting for a concurrent extraction", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause() != null ? e.getCause() : e;
+            if (cause instanceof ExtractionException extractionException) {
+                throw extractionException;
+            }
+            throw new ExtractionException("Extraction failed: " + cause.getMessage(), cause);
+        }
+    }
+
+    private String readMemory(String cacheKey) {
+        synchronized (memoryTier) {
+            return memoryTier.get(cacheKey);
+        }
+    }
+
+    private void writeMemory(String cacheKey, String content) {
+        if (content.length() > memoryMaxEntryChars || content.length() > memoryMaxTotalChars) {
+            return;
+        }
+        synchronized (memoryTier) {
+            String replaced = memoryTier.put(cacheKey, content);
+            memoryChars += content.length() - (replaced != null ? replaced.length() : 0);
+
+            // Weighted LRU: a few large documents evict as many small ones as it takes to stay under the char budget
+            Iterator<String> eldest = memoryTier.values().iterator();
+            while (memoryChars > memoryMaxTotalChars || memoryTier.size() > memoryMaxEntries) {
+                memoryChars -= eldest.next().length();
+                eldest.remove();
+            }
+        }
+    }
+
+    private Optional<ExtractionCacheEntry> readPersistent(String cacheKey) {
+        try {
+            return repository.findById(cacheKey);
+        } catch (Exception e) {
+            log.warn("Failed to read extraction cache entry {}: {}", cacheKey, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    private void writePersistent(String cacheKey, String contentHash, String contentType,
+                                 String extractor, String fingerprint, String content) {
+        try {
+            repository.save(ExtractionCacheEntry.builder()
+                    .cacheKey(cacheKey)
+                    .contentHash(contentHash)
+                    .contentType(contentType)
+                    .extractor(extractor)
+                    .configFingerprint(fingerprint)
+                    .extractedContent(content)
+                    .createdAt(LocalDateTime.now())
+                    .build());
+        } catch (Exception e) {
+            log.warn("Failed to persist extraction cache entry for {}: {}", contentHash, e.getMessage());
+        }
+    }
+
+    private String cacheKey(String contentHash, String contentType, String extractor, String fingerprint) {
+        String source = String.join("|",
+                "v" + CACHE_VERSION, contentHash, String.valueOf(contentType), extractor, fingerprint);
+
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(source.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 algorithm not available", e);
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package br.com.montreal.ai.llmontreal.service.extraction;
+
+import br.com.montreal.ai.llmontreal.entity.ExtractionCheckpoint;
+import br.com.montreal.ai.llmontreal.repository.ExtractionCheckpointRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.Map;
+
+@Slf4j
+@Component
+public class ExtractionCheckpointStore {
+
+    private final ExtractionCheckpointRepository repository;
+    private final boolean enabled;
+    private final long retentionHours;
+
+    public ExtractionCheckpointStore(
+            ExtractionCheckpointRepository repository,
+            @Value("${extraction.checkpoint.enabled:true}") boolean enabled,
+            @Value("${extraction.checkpoint.retention-hours:72}") long retentionHours
+    ) {
+        this.repository = repository;
+        this.enabled = enabled;
+        this.retentionHours = retentionHours;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public String checkpointKey(String contentHash, String extractor, String configFingerprint) {
+        String source = String.join("|", contentHash, extractor, String.valueOf(configFingerprint));
+
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(source.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 algorithm not available", e);
+        }
+    }
+
+    public Map<Integer, String> completedPages(String checkpointKey) {
+        Map<Integer, String> pages = new HashMap<>();
+
+        try {
+            repository.findByCheckpointKey(checkpointKey)
+                    .forEach(checkpoint -> pages.put(checkpoint.getPageNumber(), checkpoint.getContent()));
+        } catch (Exception e) {
+            log.warn("Failed to read extraction checkpoints {}: {}", checkpointKey, e.getMessage());
+        }
+
+        return pages;
+    }
+
+    public void savePage(String checkpointKey, int page, String content) {
+        try {
+            repository.save(ExtractionCheckpoint.builder()
+                    .checkpointKey(checkpointKey)
+                    .pageNumber(page)
+                    .content(content != null ? content : "")
+                    .createdAt(LocalDateTime.now())
+                    .build());
+        } catch (Exception e) {
+            log.warn("Failed to checkpoint page {} of {}: {}", page + 1, checkpointKey, e.getMessage());
+        }
+    }
+
+    public void clear(String checkpointKey) {
+        try {
+            repository.deleteByCheckpointKey(checkpointKey);
+        } catch (Exception e) {
+            log.warn("Failed to clear extraction checkpoints {}: {}", checkpointKey, e.getMessage());
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${extraction.checkpoint.cleanup-interval-ms:3600000}")
+    public void purgeExpired() {
+        if (!enabled) {
+            return;
+        }
+
+        int removed = repository.deleteOlderThan(LocalDateTime.now().minusHours(retentionHours));
+        if (removed > 0) {
+            log.info("Removed {} extraction checkpoint page(s) older than {}h", removed, retentionHours);
+        }
+    }
+}
@@ -0,0 +1,195 @@
+package br.com.montreal.ai.llmontreal.service.extraction;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+// Bulkheads for the extraction pipeline: each document hops IO (load/mark) -> OCR or PARSE (extraction) -> IO
+// (persist/publish), so a backlog of scanned images only ever occupies the OCR lane
+@Slf4j
+@Component
+public class ExtractionExecutors {
+
+    public enum Lane {
+        OCR, PARSE, IO
+    }
+
+    private final Map<Lane, LaneExecutor> lanes = new EnumMap<>(Lane.class);
+    private final List<String> ocrContentTypes;
+    private final Semaphore admissions;
+
+    public record LaneStats(Lane lane, int poolSize, int maxPoolSize, int active, int queued, int queueCapacity,
+                            long submitted, long completed, long rejected, double averageQueueWaitMs,
+                            double maxQueueWaitMs) {
+    }
+
+    public ExtractionExecutors(
+            @Qualifier("extractionOcrExecutor") Executor ocrExecutor,
+            @Qualifier("extractionParseExecutor") Executor parseExecutor,
+            @Qualifier("extractionIoExecutor") Executor ioExecutor,
+            @Value("${extraction.executors.ocr-content-types:image/*}") String ocrContentTypes,
+            @Value("${extraction.executors.io.max-pending-starts:1000}") int maxPendingStarts
+    ) {
+        lanes.put(Lane.OCR, new LaneExecutor(Lane.OCR, ocrExecutor));
+        lanes.put(Lane.PARSE, new LaneExecutor(Lane.PARSE, parseExecutor));
+        lanes.put(Lane.IO, new LaneExecutor(Lane.IO, ioExecutor));
+        this.ocrContentTypes = Arrays.stream(ocrContentTypes.split(","))
+                .map(type -> type.trim().toLowerCase(Locale.ROOT))
+                .filter(type -> !type.isEmpty())
+                .toList();
+        this.admissions = new Semaphore(Math.max(1, maxPendingStarts));
+
+        log.info("Extraction lanes configured, OCR content types: {}, max pending starts: {}", this.ocrContentTypes,
+                Math.max(1, maxPendingStarts));
+    }
+
+    public Lane laneFor(String contentType) {
+        if (contentType == null) {
+            return Lane.PARSE;
+        }
+
+        String type = contentType.toLowerCase(Locale.ROOT);
+        for (String ocrType : ocrContentTypes) {
+            boolean matches = ocrType.endsWith("/*")
+                    ? type.startsWith(ocrType.substring(0, ocrType.length() - 1))
+                    : type.startsWith(ocrType);
+            if (matches) {
+                return Lane.OCR;
+            }
+        }
+        return Lane.PARSE;
+    }
+
+    // Rejection policy for the OCR and parse lanes: the submitting thread blocks until the queue has room
+    // instead of failing the document. Only a shut-down lane (or an interrupted wait) still rejects.
+    public static RejectedExecutionHandler waitForRoom() {
+        return (task, executor) -> {
+            if (executor.isShutdown()) {
+                throw new RejectedExecutionException("Extraction lane is shut down");
+            }
+            try {
+                executor.getQueue().put(task);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new RejectedExecutionException("Interrupted while waiting for room in the extraction lane", e);
+            }
+        };
+    }
+
+    // Entry point for new documents and the only throttled one: the caller (an upload) waits for a permit, held
+    // until the start task on the I/O lane has handed the document to its extraction lane. Hand-offs from the
+    // extraction lanes back to I/O never need a permit, so finishing documents never waits on new ones
+    public void admit(Runnable startTask) {
+        try {
+            admissions.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RejectedExecutionException("Interrupted while waiting to admit a document for extraction", e);
+        }
+
+        AtomicBoolean released = new AtomicBoolean();
+        Runnable release = () -> {
+            if (released.compareAndSet(false, true)) {
+                admissions.release();
+            }
+        };
+        try {
+            execute(Lane.IO, () -> {
+                try {
+                    startTask.run();
+                } finally {
+                    release.run();
+                }
+            });
+        } catch (RuntimeException e) {
+            release.run();
+            throw e;
+        }
+    }
+
+    public void execute(Lane lane, Runnable task) {
+        lanes.get(lane).execute(task);
+    }
+
+    public List<LaneStats> stats() {
+        return lanes.values().stream().map(LaneExecutor::stats).toList();
+    }
+
+    private static final class LaneExecutor {
+
+        private final Lane lane;
+        private final Executor executor;
+        private final LongAdder submitted = new LongAdder();
+        private final LongAdder completed = new LongAdder();
+        private final LongAdder rejected = new LongAdder();
+        private final AtomicInteger running = new AtomicInteger();
+        private final LongAdder totalWaitNanos = new LongAdder();
+        private final AtomicLong maxWaitNanos = new AtomicLong();
+
+        LaneExecutor(Lane lane, Executor executor) {
+            this.lane = lane;
+            this.executor = executor;
+        }
+
+        void execute(Runnable task) {
+            long queuedAt = System.nanoTime();
+            try {
+                executor.execute(() -> {
+                    long waitNanos = System.nanoTime() - queuedAt;
+                    totalWaitNanos.add(waitNanos);
+                    maxWaitNanos.accumulateAndGet(waitNanos, Math::max);
+                    running.incrementAndGet();
+                    try {
+                        task.run();
+                    } finally {
+                        running.decrementAndGet();
+                        completed.increment();
+                    }
+                });
+                submitted.increment();
+            } catch (RejectedExecutionException e) {
+                rejected.increment();
+                log.warn("{} extraction lane rejected a task: {}", lane, describe());
+                throw e;
+            }
+        }
+
+        LaneStats stats() {
+            long done = completed.sum();
+            double averageWaitMs = done == 0 ? 0 : totalWaitNanos.sum() / (double) done / 1_000_000;
+
+            if (executor instanceof ThreadPoolTaskExecutor pool) {
+                return new LaneStats(lane, pool.getPoolSize(), pool.getMaxPoolSize(), pool.getActiveCount(),
+                        pool.getQueueSize(), pool.getQueueCapacity(), submitted.sum(), done, rejected.sum(),
+                        averageWaitMs, maxWaitNanos.get() / 1_000_000.0);
+            }
+            // Virtual-thread lanes have no pool or queue, only a concurrency limit
+            int limit = executor instanceof SimpleAsyncTaskExecutor virtual ? virtual.getConcurrencyLimit() : 0;
+            return new LaneStats(lane, running.get(), limit, running.get(), 0, 0, submitted.sum(), done,
+                    rejected.sum(), averageWaitMs, maxWaitNanos.get() / 1_000_000.0);
+        }
+
+        private String describe() {
+            LaneStats stats = stats();
+            return String.format("active=%d/%d, queued=%d/%d", stats.active(), stats.maxPoolSize(),
+                    stats.queued(), stats.queueCapacity());
+        }
+    }
+}
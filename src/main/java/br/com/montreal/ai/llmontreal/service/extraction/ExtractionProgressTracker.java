@@ -0,0 +1,65 @@
+package br.com.montreal.ai.llmontreal.service.extraction;
+
+import br.com.montreal.ai.llmontreal.entity.enums.DocumentStatus;
+import br.com.montreal.ai.llmontreal.event.DocumentStatusChangedEvent;
+import br.com.montreal.ai.llmontreal.exception.ExtractionException;
+import br.com.montreal.ai.llmontreal.repository.DocumentRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ExtractionProgressTracker {
+
+    private static final ThreadLocal<Long> CURRENT_DOCUMENT = new ThreadLocal<>();
+
+    private final DocumentRepository documentRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @FunctionalInterface
+    public interface TrackedTask<T> {
+        T run() throws ExtractionException;
+    }
+
+    // Extractors only see a stream and a content type: the document whose extraction runs on this thread is
+    // bound here, so progress lands on that document and not on every upload sharing its content hash
+    public static <T> T forDocument(Long documentId, TrackedTask<T> task) throws ExtractionException {
+        Long previous = CURRENT_DOCUMENT.get();
+        CURRENT_DOCUMENT.set(documentId);
+        try {
+            return task.run();
+        } finally {
+            if (previous != null) {
+                CURRENT_DOCUMENT.set(previous);
+            } else {
+                CURRENT_DOCUMENT.remove();
+            }
+        }
+    }
+
+    public static Long currentDocumentId() {
+        return CURRENT_DOCUMENT.get();
+    }
+
+    public void report(Long documentId, int pagesDone, int pagesTotal) {
+        if (documentId == null) {
+            return;
+        }
+
+        try {
+            int updated = documentRepository.updateExtractionProgress(
+                    documentId, DocumentStatus.PROCESSING, pagesDone, pagesTotal);
+
+            if (updated > 0) {
+                documentRepository.findStatusById(documentId)
+                        .ifPresent(status -> eventPublisher.publishEvent(DocumentStatusChangedEvent.of(this, status)));
+            }
+        } catch (Exception e) {
+            log.warn("Failed to record extraction progress {}/{} for document {}: {}",
+                    pagesDone, pagesTotal, documentId, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,138 @@
+package br.com.montreal.ai.llmontreal.service.extraction;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+@Slf4j
+public class ExtractionSink extends Writer {
+
+    private final int memoryThresholdChars;
+    private final long maxChars;
+
+    private StringBuilder buffer = new StringBuilder();
+    private Path spillFile;
+    private Writer spillWriter;
+    private long length;
+    private boolean limitReached;
+    private boolean closed;
+
+    public static class LimitReachedException extends IOException {
+
+        public LimitReachedException(long maxChars) {
+            super("Extracted text exceeded the limit of " + maxChars + " characters");
+        }
+    }
+
+    public ExtractionSink(int memoryThresholdChars, long maxChars) {
+        this.memoryThresholdChars = memoryThresholdChars;
+        this.maxChars = maxChars;
+    }
+
+    @Override
+    public void write(char[] chars, int offset, int count) throws IOException {
+        ensureOpen();
+        if (Thread.currentThread().isInterrupted()) {
+            throw new InterruptedIOException("Extraction interrupted");
+        }
+        if (limitReached) {
+            throw new LimitReachedException(maxChars);
+        }
+
+        int allowed = (int) Math.min(count, maxChars - length);
+        if (allowed > 0) {
+            append(chars, offset, allowed);
+        }
+
+        if (allowed < count) {
+            limitReached = true;
+            throw new LimitReachedException(maxChars);
+        }
+    }
+
+    public Reader openReader() throws IOException {
+        ensureOpen();
+
+        if (spillWriter == null) {
+            return new StringReader(buffer.toString());
+        }
+
+        spillWriter.flush();
+        return Files.newBufferedReader(spillFile, StandardCharsets.UTF_8);
+    }
+
+    public long length() {
+        return length;
+    }
+
+    public long getMaxChars() {
+        return maxChars;
+    }
+
+    public boolean isLimitReached() {
+        return limitReached;
+    }
+
+    public boolean isSpilled() {
+        return spillFile != null;
+    }
+
+    @Override
+    public void flush() throws IOException {
+        if (spillWriter != null) {
+            spillWriter.flush();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        buffer = null;
+
+        if (spillWriter != null) {
+            try {
+                spillWriter.close();
+            } finally {
+                Files.deleteIfExists(spillFile);
+            }
+        }
+    }
+
+    private void append(char[] chars, int offset, int count) throws IOException {
+        if (spillWriter == null && buffer.length() + count > memoryThresholdChars) {
+            spill();
+        }
+
+        if (spillWriter != null) {
+            spillWriter.write(chars, offset, count);
+        } else {
+            buffer.append(chars, offset, count);
+        }
+        length += count;
+    }
+
+    private void spill() throws IOException {
+        spillFile = Files.createTempFile("extraction-", ".txt");
+        spillWriter = Files.newBufferedWriter(spillFile, StandardCharsets.UTF_8);
+        spillWriter.append(buffer);
+        buffer = null;
+
+        log.debug("Extracted text passed {} characters, spilling to {}", memoryThresholdChars, spillFile);
+    }
+
+    private void ensureOpen() throws IOException {
+        if (closed) {
+            throw new IOException("Extraction sink is closed");
+        }
+    }
+}
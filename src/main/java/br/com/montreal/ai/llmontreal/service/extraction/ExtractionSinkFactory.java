@@ -0,0 +1,23 @@
+package br.com.montreal.ai.llmontreal.service.extraction;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+@Component
+public class ExtractionSinkFactory {
+
+    private final int memoryThresholdChars;
+    private final long maxChars;
+
+    public ExtractionSinkFactory(
+            @Value("${extraction.output.memory-threshold-chars:500000}") int memoryThresholdChars,
+            @Value("${extraction.output.max-chars:2000000}") long maxChars
+    ) {
+        this.memoryThresholdChars = memoryThresholdChars;
+        this.maxChars = maxChars;
+    }
+
+    public ExtractionSink create() {
+        return new ExtractionSink(memoryThresholdChars, maxChars);
+    }
+}
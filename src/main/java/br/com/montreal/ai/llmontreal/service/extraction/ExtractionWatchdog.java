@@ -0,0 +1,295 @@
+package br.com.montreal.ai.llmontreal.service.extraction;
+
+import br.com.montreal.ai.llmontreal.exception.ExtractionException;
+import br.com.montreal.ai.llmontreal.exception.ExtractionTimeoutException;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+@Slf4j
+@Component
+public class ExtractionWatchdog {
+
+    private static final ThreadLocal<Deadline> CURRENT = new ThreadLocal<>();
+
+    private final long defaultTimeoutMs;
+    private final Map<String, Long> timeoutsByType;
+    private final int maxStuckRunners;
+    private final ExecutorService runners;
+    private final LongAdder deadlines = new LongAdder();
+    private final LongAdder timeouts = new LongAdder();
+    private final LongAdder abandoned = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final AtomicInteger stuckRunners = new AtomicInteger();
+    private final Map<String, LongAdder> timeoutsByContentType = new ConcurrentHashMap<>();
+
+    @FunctionalInterface
+    public interface DeadlineTask<T> {
+        T run() throws ExtractionException;
+    }
+
+    public record Stats(long defaultTimeoutMs, Map<String, Long> timeoutsByTypeMs, long deadlines, long timeouts,
+                        Map<String, Long> timeoutsByContentType, long abandonedRunners, int stuckRunners,
+                        int maxStuckRunners, long rejectedForStuckRunners) {
+    }
+
+    public ExtractionWatchdog(
+            @Value("${extraction.timeout.default-ms:300000}") long defaultTimeoutMs,
+            @Value("${extraction.timeout.per-type-ms:}") String timeoutsByType,
+            @Value("${extraction.timeout.max-stuck-runners:16}") int maxStuckRunners
+    ) {
+        this.defaultTimeoutMs = defaultTimeoutMs;
+        this.timeoutsByType = parseTimeouts(timeoutsByType);
+        this.maxStuckRunners = maxStuckRunners;
+
+        // Platform threads: a runner stuck in native code would pin a virtual thread's carrier anyway. Live
+        // runners are the lanes' running extractions plus the stuck ones, which maxStuckRunners caps
+        AtomicInteger runnerCount = new AtomicInteger();
+        this.runners = Executors.newCachedThreadPool(runnable -> {
+            Thread thread = new Thread(runnable, "extraction-runner-" + runnerCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        log.info("Extraction deadlines: default {}ms, per type {}, at most {} stuck runner(s)",
+                defaultTimeoutMs, this.timeoutsByType, maxStuckRunners);
+    }
+
+    // The task runs on a runner thread while the caller waits at most the deadline. At the deadline the
+    // caller fails the document and moves on; the runner is interrupted and abandoned, since native
+    // Tesseract calls and some parser loops never check the interrupt and may keep it busy for long.
+    public <T> T runWithDeadline(String contentType, DeadlineTask<T> task) throws ExtractionException {
+        return runWithDeadline(contentType, 0, task);
+    }
+
+    // For an extraction resumed on another lane: spentMs already counts against the same deadline
+    public <T> T runWithDeadline(String contentType, long spentMs, DeadlineTask<T> task) throws ExtractionException {
+        long timeoutMs = timeoutFor(contentType);
+        if (timeoutMs <= 0) {
+            return task.run();
+        }
+
+        // Every abandoned runner still holds a thread (and often native memory); past the limit new work
+        // fails fast instead of growing the pool without bound
+        int stuck = stuckRunners.get();
+        if (stuck >= maxStuckRunners) {
+            rejected.increment();
+            log.warn("Rejecting extraction of {}: {} runner(s) still stuck past their deadline", contentType, stuck);
+            throw new ExtractionException(String.format(
+                    "Extração recusada: %d extração(ões) presa(s) após o prazo (limite %d)", stuck, maxStuckRunners));
+        }
+
+        deadlines.increment();
+        Deadline deadline = new Deadline();
+        Future<T> future = runners.submit(() -> deadline.run(task));
+
+        try {
+            return future.get(Math.max(1, timeoutMs - spentMs), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            if (!abandon(deadline, future)) {
+                // Finished right at the deadline
+                return resultOf(future);
+            }
+            throw timedOut(contentType, timeoutMs);
+        } catch (InterruptedException e) {
+            abandon(deadline, future);
+            Thread.currentThread().interrupt();
+            throw new ExtractionException("Extraction interrupted", e);
+        } catch (ExecutionException e) {
+            throw unwrap(e);
+        }
+    }
+
+    // Lets code running under a deadline hand back resources that an abandoned runner would otherwise keep
+    // (a pooled engine stuck in a native call). The callback runs on the caller's thread once the deadline
+    // expires, and never if the task finishes in time; outside a deadline it is never called.
+    public static void onAbandon(Runnable callback) {
+        Deadline deadline = CURRENT.get();
+        if (deadline != null) {
+            deadline.onAbandon(callback);
+        }
+    }
+
+    // Carries the caller's deadline into a task handed to another executor (PDF OCR page threads), so the
+    // engines it checks out are registered with onAbandon too
+    public static Runnable withCurrentDeadline(Runnable task) {
+        Deadline deadline = CURRENT.get();
+        if (deadline == null) {
+            return task;
+        }
+        return () -> {
+            Deadline previous = CURRENT.get();
+            CURRENT.set(deadline);
+            try {
+                task.run();
+            } finally {
+                if (previous != null) {
+                    CURRENT.set(previous);
+                } else {
+                    CURRENT.remove();
+                }
+            }
+        };
+    }
+
+    public long timeoutFor(String contentType) {
+        if (contentType == null) {
+            return defaultTimeoutMs;
+        }
+
+        String type = contentType.split(";", 2)[0].trim().toLowerCase(Locale.ROOT);
+        Long timeout = timeoutsByType.get(type);
+        if (timeout == null && type.contains("/")) {
+            timeout = timeoutsByType.get(type.substring(0, type.indexOf('/')) + "/*");
+        }
+        return timeout != null ? timeout : defaultTimeoutMs;
+    }
+
+    public Stats stats() {
+        Map<String, Long> byContentType = new TreeMap<>();
+        timeoutsByContentType.forEach((type, count) -> byContentType.put(type, count.sum()));
+        return new Stats(defaultTimeoutMs, timeoutsByType, deadlines.sum(), timeouts.sum(), byContentType,
+                abandoned.sum(), stuckRunners.get(), maxStuckRunners, rejected.sum());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        runners.shutdownNow();
+    }
+
+    // Marks the task abandoned before interrupting it, so cleanup callbacks run even if the interrupt
+    // makes the task return right away
+    private boolean abandon(Deadline deadline, Future<?> future) {
+        if (!deadline.abandon()) {
+            return false;
+        }
+        abandoned.increment();
+        future.cancel(true);
+        return true;
+    }
+
+    private ExtractionTimeoutException timedOut(String contentType, long timeoutMs) {
+        timeouts.increment();
+        timeoutsByContentType.computeIfAbsent(String.valueOf(contentType), key -> new LongAdder()).increment();
+
+        log.warn("Extraction of {} exceeded its {}ms deadline and was abandoned ({} runner(s) still stuck)",
+                contentType, timeoutMs, stuckRunners.get());
+        return new ExtractionTimeoutException(String.format(
+                "Tempo limite de extração excedido (%dms para %s)", timeoutMs, contentType), null);
+    }
+
+    private static <T> T resultOf(Future<T> future) throws ExtractionException {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ExtractionException("Extraction interrupted", e);
+        } catch (ExecutionException e) {
+            throw unwrap(e);
+        }
+    }
+
+    private static ExtractionException unwrap(ExecutionException e) {
+        Throwable cause = e.getCause();
+        if (cause instanceof ExtractionException extractionException) {
+            return extractionException;
+        }
+        if (cause instanceof RuntimeException runtimeException) {
+            throw runtimeException;
+        }
+        if (cause instanceof Error error) {
+            throw error;
+        }
+        return new ExtractionException("Extraction failed: " + cause.getMessage(), cause);
+    }
+
+    private static Map<String, Long> parseTimeouts(String timeouts) {
+        Map<String, Long> parsed = new LinkedHashMap<>();
+        if (timeouts == null || timeouts.isBlank()) {
+            return parsed;
+        }
+
+        for (String entry : timeouts.split(",")) {
+            String[] parts = entry.split("=", 2);
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("Invalid extraction timeout entry: " + entry);
+            }
+            parsed.put(parts[0].trim().toLowerCase(Locale.ROOT), Long.parseLong(parts[1].trim()));
+        }
+        return parsed;
+    }
+
+    private final class Deadline {
+
+        private final List<Runnable> callbacks = new ArrayList<>();
+        private boolean finished;
+        private boolean abandoned;
+
+        <T> T run(DeadlineTask<T> task) throws ExtractionException {
+            CURRENT.set(this);
+            try {
+                return task.run();
+            } finally {
+                CURRENT.remove();
+                synchronized (this) {
+                    finished = true;
+                    if (abandoned) {
+                        stuckRunners.decrementAndGet();
+                    }
+                    callbacks.clear();
+                }
+            }
+        }
+
+        void onAbandon(Runnable callback) {
+            synchronized (this) {
+                if (finished && !abandoned) {
+                    return;
+                }
+                if (!abandoned) {
+                    callbacks.add(callback);
+                    return;
+                }
+            }
+            callback.run();
+        }
+
+        boolean abandon() {
+            List<Runnable> pending;
+            synchronized (this) {
+                if (finished) {
+                    return false;
+                }
+                abandoned = true;
+                stuckRunners.incrementAndGet();
+                pending = List.copyOf(callbacks);
+                callbacks.clear();
+            }
+            for (Runnable callback : pending) {
+                try {
+                    callback.run();
+                } catch (RuntimeException e) {
+                    log.warn("Abandoned extraction cleanup failed: {}", e.getMessage());
+                }
+            }
+            return true;
+        }
+    }
+}
@@ -0,0 +1,173 @@
+package br.com.montreal.ai.llmontreal.service.extraction;
+
+import br.com.montreal.ai.llmontreal.exception.ExtractionException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.util.ClassUtils;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Component
+public class ExtractorRegistry {
+
+    private final List<ContentExtractor> extractors;
+    private final Map<String, List<ContentExtractor>> routes = new ConcurrentHashMap<>();
+    private final Map<String, RouteCounters> counters = new ConcurrentHashMap<>();
+
+    @FunctionalInterface
+    public interface ExtractorCall {
+        String extract(ContentExtractor extractor) throws ExtractionException;
+    }
+
+    // content is null when the route was suspended before the extractor at resumeAt
+    public record Outcome(String content, int resumeAt) {
+
+        public boolean suspended() {
+            return resumeAt >= 0;
+        }
+    }
+
+    public record RouteStats(String contentType, String extractor, int position, long invocations, long hits,
+                             long fallbacks, long failures, double averageLatencyMs, long maxLatencyMs) {
+    }
+
+    public ExtractorRegistry(List<ContentExtractor> extractors) {
+        this.extractors = extractors.stream()
+                .sorted(Comparator.comparingInt(ContentExtractor::getPriority))
+                .toList();
+
+        this.extractors.stream()
+                .flatMap(extractor -> extractor.getSupportedContentTypes().stream())
+                .forEach(this::route);
+
+        routes.forEach((contentType, route) -> log.info("Extraction route {} -> {}", contentType,
+                route.stream().map(ExtractorRegistry::nameOf).collect(Collectors.joining(" -> "))));
+    }
+
+    public List<ContentExtractor> route(String contentType) {
+        if (contentType == null) {
+            return List.of();
+        }
+
+        return routes.computeIfAbsent(contentType.toLowerCase(Locale.ROOT), this::resolveRoute);
+    }
+
+    public String extract(String contentType, ExtractorCall call) throws ExtractionException {
+        return extract(contentType, 0, extractor -> false, call).content();
+    }
+
+    // Runs the route from position `from`. Before falling back to an extractor matched by suspendBefore the
+    // route stops and returns the position to resume from, so the caller can continue on another executor
+    public Outcome extract(String contentType, int from, Predicate<ContentExtractor> suspendBefore,
+                           ExtractorCall call) throws ExtractionException {
+        List<ContentExtractor> route = route(contentType);
+
+        if (route.isEmpty()) {
+            throw new ExtractionException("No extractor found for content type " + contentType);
+        }
+
+        String routeType = contentType.toLowerCase(Locale.ROOT);
+
+        for (int position = from; position < route.size(); position++) {
+            ContentExtractor extractor = route.get(position);
+            if (position > from && suspendBefore.test(extractor)) {
+                return new Outcome(null, position);
+            }
+
+            boolean hasNext = position < route.size() - 1;
+            int routePosition = position;
+            RouteCounters routeCounters = counters.computeIfAbsent(routeType + "#" + position,
+                    key -> new RouteCounters(routeType, nameOf(extractor), routePosition));
+
+            long startTime = System.nanoTime();
+            try {
+                String content = call.extract(extractor);
+                routeCounters.recordLatency(System.nanoTime() - startTime);
+
+                if (content != null && !content.isBlank()) {
+                    routeCounters.hits.increment();
+                    return new Outcome(content, -1);
+                }
+
+                if (!hasNext || Thread.currentThread().isInterrupted()) {
+                    return new Outcome(content, -1);
+                }
+
+                routeCounters.fallbacks.increment();
+                log.info("{} returned no text for {}, falling back to {}",
+                        nameOf(extractor), contentType, nameOf(route.get(position + 1)));
+            } catch (ExtractionException e) {
+                routeCounters.recordLatency(System.nanoTime() - startTime);
+                routeCounters.failures.increment();
+
+                if (!hasNext || Thread.currentThread().isInterrupted()) {
+                    throw e;
+                }
+
+                routeCounters.fallbacks.increment();
+                log.warn("{} failed for {} ({}), falling back to {}",
+                        nameOf(extractor), contentType, e.getMessage(), nameOf(route.get(position + 1)));
+            }
+        }
+
+        return new Outcome("", -1);
+    }
+
+    public List<RouteStats> stats() {
+        return counters.values().stream()
+                .map(RouteCounters::snapshot)
+                .sorted(Comparator.comparing(RouteStats::contentType).thenComparingInt(RouteStats::position))
+                .toList();
+    }
+
+    private List<ContentExtractor> resolveRoute(String contentType) {
+        return extractors.stream()
+                .filter(extractor -> extractor.supportsThisContentType(contentType))
+                .toList();
+    }
+
+    private static String nameOf(ContentExtractor extractor) {
+        return ClassUtils.getUserClass(extractor).getSimpleName();
+    }
+
+    private static final class RouteCounters {
+
+        private final String contentType;
+        private final String extractor;
+        private final int position;
+        private final LongAdder invocations = new LongAdder();
+        private final LongAdder hits = new LongAdder();
+        private final LongAdder fallbacks = new LongAdder();
+        private final LongAdder failures = new LongAdder();
+        private final LongAdder totalLatencyNanos = new LongAdder();
+        private final AtomicLong maxLatencyNanos = new AtomicLong();
+
+        RouteCounters(String contentType, String extractor, int position) {
+            this.contentType = contentType;
+            this.extractor = extractor;
+            this.position = position;
+        }
+
+        void recordLatency(long nanos) {
+            invocations.increment();
+            totalLatencyNanos.add(nanos);
+            maxLatencyNanos.accumulateAndGet(nanos, Math::max);
+        }
+
+        RouteStats snapshot() {
+            long count = invocations.sum();
+            double averageMs = count == 0 ? 0 : totalLatencyNanos.sum() / (double) count / 1_000_000;
+            return new RouteStats(contentType, extractor, position, count, hits.sum(),
+                    fallbacks.sum(), failures.sum(), averageMs, maxLatencyNanos.get() / 1_000_000);
+        }
+    }
+}
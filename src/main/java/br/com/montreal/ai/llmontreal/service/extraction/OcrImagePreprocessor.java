@@ -0,0 +1,250 @@
+package br.com.montreal.ai.llmontreal.service.extraction;
+
+import com.recognition.software.jdeskew.ImageDeskew;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.awt.image.Raster;
+import java.awt.image.WritableRaster;
+
+@Slf4j
+@Component
+public class OcrImagePreprocessor {
+
+    public enum ColorMode {
+        NONE,
+        GRAYSCALE,
+        BINARY
+    }
+
+    private final boolean enabled;
+    private final int targetDpi;
+    private final int maxLongEdgePixels;
+    private final ColorMode colorMode;
+    private final boolean deskewEnabled;
+    private final double deskewMinAngle;
+
+    public OcrImagePreprocessor(
+            @Value("${ocr.preprocess.enabled:true}") boolean enabled,
+            @Value("${ocr.preprocess.target-dpi:300}") int targetDpi,
+            @Value("${ocr.preprocess.page-long-edge-inches:11.7}") double pageLongEdgeInches,
+            @Value("${ocr.preprocess.color-mode:GRAYSCALE}") ColorMode colorMode,
+            @Value("${ocr.preprocess.deskew:false}") boolean deskewEnabled,
+            @Value("${ocr.preprocess.deskew-min-angle:0.5}") double deskewMinAngle
+    ) {
+        this.enabled = enabled;
+        this.targetDpi = targetDpi;
+        this.maxLongEdgePixels = (int) Math.round(targetDpi * pageLongEdgeInches);
+        this.colorMode = colorMode;
+        this.deskewEnabled = deskewEnabled;
+        this.deskewMinAngle = deskewMinAngle;
+    }
+
+    public String getConfigFingerprint() {
+        if (!enabled) {
+            return "pre=off";
+        }
+        return String.format("pre=%d/%d/%s/%s", targetDpi, maxLongEdgePixels, colorMode,
+                deskewEnabled ? "deskew>" + deskewMinAngle : "nodeskew");
+    }
+
+    public BufferedImage process(BufferedImage image) {
+        if (!enabled) {
+            return image;
+        }
+
+        long startTime = System.currentTimeMillis();
+        int originalWidth = image.getWidth();
+        int originalHeight = image.getHeight();
+        StringBuilder timings = new StringBuilder();
+
+        BufferedImage result = image;
+        long stepStart = System.currentTimeMillis();
+
+        if (colorMode != ColorMode.NONE) {
+            result = toGrayscale(result);
+            stepStart = logStep(timings, "grayscale", stepStart);
+        }
+
+        result = downscale(result);
+        stepStart = logStep(timings, "scale", stepStart);
+
+        if (deskewEnabled) {
+            result = deskew(result);
+            stepStart = logStep(timings, "deskew", stepStart);
+        }
+
+        if (colorMode == ColorMode.BINARY) {
+            result = binarize(result);
+            logStep(timings, "binarize", stepStart);
+        }
+
+        log.info("Preprocessed {}x{} image to {}x{} for OCR in {}ms ({})",
+                originalWidth, originalHeight, result.getWidth(), result.getHeight(),
+                System.currentTimeMillis() - startTime, timings);
+
+        return result;
+    }
+
+    private BufferedImage toGrayscale(BufferedImage image) {
+        if (image.getType() == BufferedImage.TYPE_BYTE_GRAY) {
+            return image;
+        }
+
+        BufferedImage gray = new BufferedImage(image.getWidth(), image.getHeight(), BufferedImage.TYPE_BYTE_GRAY);
+        Graphics2D graphics = gray.createGraphics();
+        try {
+            // Transparent pixels would otherwise become black
+            graphics.setColor(Color.WHITE);
+            graphics.fillRect(0, 0, image.getWidth(), image.getHeight());
+            graphics.drawImage(image, 0, 0, null);
+        } finally {
+            graphics.dispose();
+        }
+        return gray;
+    }
+
+    private BufferedImage downscale(BufferedImage image) {
+        int longEdge = Math.max(image.getWidth(), image.getHeight());
+        if (longEdge <= maxLongEdgePixels) {
+            return image;
+        }
+
+        double scale = maxLongEdgePixels / (double) longEdge;
+        int targetWidth = Math.max(1, (int) Math.round(image.getWidth() * scale));
+        int targetHeight = Math.max(1, (int) Math.round(image.getHeight() * scale));
+
+        // Halve step by step so bilinear sampling does not skip detail on large reductions
+        BufferedImage result = image;
+        int width = image.getWidth();
+        int height = image.getHeight();
+        do {
+            width = Math.max(targetWidth, width / 2);
+            height = Math.max(targetHeight, height / 2);
+            result = resize(result, width, height);
+        } while (width != targetWidth || height != targetHeight);
+
+        return result;
+    }
+
+    private BufferedImage resize(BufferedImage image, int width, int height) {
+        int type = image.getType() == BufferedImage.TYPE_BYTE_GRAY
+                ? BufferedImage.TYPE_BYTE_GRAY
+                : BufferedImage.TYPE_INT_RGB;
+
+        BufferedImage resized = new BufferedImage(width, height, type);
+        Graphics2D graphics = resized.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.setColor(Color.WHITE);
+            graphics.fillRect(0, 0, width, height);
+            graphics.drawImage(image, 0, 0, width, height, null);
+        } finally {
+            graphics.dispose();
+        }
+        return resized;
+    }
+
+    private BufferedImage deskew(BufferedImage image) {
+        double angle = new ImageDeskew(image).getSkewAngle();
+        if (Math.abs(angle) < deskewMinAngle) {
+            return image;
+        }
+
+        log.debug("Deskewing image by {} degrees", angle);
+
+        int type = image.getType() == BufferedImage.TYPE_BYTE_GRAY
+                ? BufferedImage.TYPE_BYTE_GRAY
+                : BufferedImage.TYPE_INT_RGB;
+
+        BufferedImage rotated = new BufferedImage(image.getWidth(), image.getHeight(), type);
+        Graphics2D graphics = rotated.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.setColor(Color.WHITE);
+            graphics.fillRect(0, 0, image.getWidth(), image.getHeight());
+            graphics.rotate(Math.toRadians(-angle), image.getWidth() / 2.0, image.getHeight() / 2.0);
+            graphics.drawImage(image, 0, 0, null);
+        } finally {
+            graphics.dispose();
+        }
+        return rotated;
+    }
+
+    private BufferedImage binarize(BufferedImage gray) {
+        Raster source = gray.getRaster();
+        int width = gray.getWidth();
+        int height = gray.getHeight();
+        int[] row = new int[width];
+
+        int[] histogram = new int[256];
+        for (int y = 0; y < height; y++) {
+            source.getSamples(0, y, width, 1, 0, row);
+            for (int value : row) {
+                histogram[value]++;
+            }
+        }
+
+        int threshold = otsuThreshold(histogram, (long) width * height);
+
+        BufferedImage binary = new BufferedImage(width, height, BufferedImage.TYPE_BYTE_BINARY);
+        WritableRaster target = binary.getRaster();
+        for (int y = 0; y < height; y++) {
+            source.getSamples(0, y, width, 1, 0, row);
+            for (int x = 0; x < width; x++) {
+                row[x] = row[x] > threshold ? 1 : 0;
+            }
+            target.setSamples(0, y, width, 1, 0, row);
+        }
+        return binary;
+    }
+
+    private int otsuThreshold(int[] histogram, long total) {
+        long weightedSum = 0;
+        for (int i = 0; i < histogram.length; i++) {
+            weightedSum += (long) i * histogram[i];
+        }
+
+        long backgroundWeight = 0;
+        long backgroundSum = 0;
+        double bestVariance = -1;
+        int threshold = 127;
+
+        for (int i = 0; i < histogram.length; i++) {
+            backgroundWeight += histogram[i];
+            if (backgroundWeight == 0) {
+                continue;
+            }
+            long foregroundWeight = total - backgroundWeight;
+            if (foregroundWeight == 0) {
+                break;
+            }
+
+            backgroundSum += (long) i * histogram[i];
+            double backgroundMean = backgroundSum / (double) backgroundWeight;
+            double foregroundMean = (weightedSum - backgroundSum) / (double) foregroundWeight;
+            double variance = (double) backgroundWeight * foregroundWeight
+                    * (backgroundMean - foregroundMean) * (backgroundMean - foregroundMean);
+
+            if (variance > bestVariance) {
+                bestVariance = variance;
+                threshold = i;
+            }
+        }
+        return threshold;
+    }
+
+    private long logStep(StringBuilder timings, String step, long stepStart) {
+        long now = System.currentTimeMillis();
+        if (!timings.isEmpty()) {
+            timings.append(", ");
+        }
+        timings.append(step).append(' ').append(now - stepStart).append("ms");
+        return now;
+    }
+}
@@ -0,0 +1,239 @@
+package br.com.montreal.ai.llmontreal.service.extraction;
+
+import br.com.montreal.ai.llmontreal.exception.ExtractionException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Pattern;
+
+@Slf4j
+@Component
+public class OcrLanguageSelector {
+
+    private static final Pattern NON_LETTERS = Pattern.compile("[^\\p{L}]+");
+
+    private static final Map<String, Set<String>> STOPWORDS = Map.of(
+            "por", Set.of("de", "que", "não", "uma", "um", "para", "com", "os", "as", "do", "da", "dos", "das",
+                    "em", "no", "na", "nos", "nas", "ao", "aos", "à", "às", "pelo", "pela", "pelos", "pelas",
+                    "são", "também", "mais", "como", "mas", "foi", "ele", "ela", "seu", "sua", "seus", "suas",
+                    "isso", "este", "esta", "está", "estão", "ou", "ser", "tem", "têm", "quando", "muito", "já",
+                    "você", "eles", "elas", "nós", "entre", "sobre", "até", "após", "sem", "pode", "deve"),
+            "eng", Set.of("the", "and", "of", "to", "in", "is", "that", "for", "it", "with", "as", "was", "on",
+                    "are", "be", "this", "by", "at", "from", "or", "an", "have", "not", "which", "but", "they",
+                    "his", "her", "their", "has", "were", "will", "would", "there", "been", "can", "all", "we",
+                    "you", "he", "she", "its", "our", "these", "those", "than", "then", "into", "about", "should"),
+            "spa", Set.of("el", "la", "los", "las", "y", "en", "del", "por", "con", "para", "una", "es", "se",
+                    "lo", "como", "más", "pero", "sus", "le", "ya", "este", "porque", "esta", "entre", "cuando",
+                    "muy", "sin", "sobre", "también", "hasta", "hay", "donde", "desde", "todo", "nos", "durante",
+                    "todos", "uno", "les", "ni", "contra", "otros", "ese", "eso", "ante", "ellos", "esto", "antes",
+                    "unos", "yo", "otro", "otra", "él", "fue", "está", "son", "tiene", "puede", "usted")
+    );
+
+    private final String combinedLanguage;
+    private final List<String> candidates;
+    private final boolean enabled;
+    private final double probeScale;
+    private final int minStopwords;
+    private final double minConfidence;
+
+    private final LongAdder probes = new LongAdder();
+    private final LongAdder fallbacks = new LongAdder();
+    private final LongAdder probeNanos = new LongAdder();
+    private final Map<String, LongAdder> chosen = new ConcurrentHashMap<>();
+    private final Map<String, OcrCost> costs = new ConcurrentHashMap<>();
+
+    @FunctionalInterface
+    public interface ProbeOcr {
+        String ocr(BufferedImage image, String language) throws ExtractionException;
+    }
+
+    public record Choice(String language, boolean detected, double confidence, long probeMs) {
+    }
+
+    public record Stats(boolean active, String combinedLanguage, long probes, long fallbacks,
+                        Map<String, Long> chosenLanguages, double averageProbeMs,
+                        Map<String, Double> msPerMegapixel, long estimatedSavedMs) {
+    }
+
+    public OcrLanguageSelector(
+            @Value("${tesseract.language:por+eng}") String combinedLanguage,
+            @Value("${ocr.language-detection.enabled:true}") boolean enabled,
+            @Value("${ocr.language-detection.probe-scale:0.5}") double probeScale,
+            @Value("${ocr.language-detection.min-stopwords:8}") int minStopwords,
+            @Value("${ocr.language-detection.min-confidence:0.8}") double minConfidence
+    ) {
+        this.combinedLanguage = combinedLanguage;
+        this.candidates = Arrays.stream(combinedLanguage.split("\\+"))
+                .map(String::trim)
+                .filter(language -> !language.isEmpty())
+                .toList();
+        this.enabled = enabled;
+        this.probeScale = probeScale;
+        this.minStopwords = minStopwords;
+        this.minConfidence = minConfidence;
+
+        if (enabled && candidates.size() > 1 && !isActive()) {
+            log.info("OCR language detection disabled: no stopword list for some of {}", candidates);
+        }
+    }
+
+    // Only worth it when there is a choice to make and every candidate can be scored
+    public boolean isActive() {
+        return enabled && candidates.size() > 1 && STOPWORDS.keySet().containsAll(candidates);
+    }
+
+    public String getConfigFingerprint() {
+        return isActive() ? String.format("langdetect=%d/%.2f", minStopwords, minConfidence) : "langdetect=off";
+    }
+
+    public Choice choose(BufferedImage image, ProbeOcr ocr) throws ExtractionException {
+        if (!isActive()) {
+            return new Choice(combinedLanguage, false, 0, 0);
+        }
+
+        long startTime = System.nanoTime();
+        BufferedImage probe = probeImage(image);
+        String text = ocr.ocr(probe, combinedLanguage);
+        long elapsed = System.nanoTime() - startTime;
+
+        probes.increment();
+        probeNanos.add(elapsed);
+        recordOcr(combinedLanguage, (long) probe.getWidth() * probe.getHeight(), elapsed);
+
+        Map<String, Integer> hits = countStopwords(text);
+        int total = hits.values().stream().mapToInt(Integer::intValue).sum();
+        Map.Entry<String, Integer> best = hits.entrySet().stream()
+                .max(Map.Entry.comparingByValue())
+                .orElse(null);
+        double confidence = best == null || total == 0 ? 0 : best.getValue() / (double) total;
+        long probeMs = elapsed / 1_000_000;
+
+        if (best == null || total < minStopwords || confidence < minConfidence) {
+            fallbacks.increment();
+            log.debug("Language probe inconclusive ({} stopwords, confidence {}), using {}",
+                    total, String.format("%.2f", confidence), combinedLanguage);
+            return new Choice(combinedLanguage, false, confidence, probeMs);
+        }
+
+        chosen.computeIfAbsent(best.getKey(), key -> new LongAdder()).increment();
+        log.info("Language probe picked {} (confidence {}, {} stopwords) in {}ms",
+                best.getKey(), String.format("%.2f", confidence), total, probeMs);
+        return new Choice(best.getKey(), true, confidence, probeMs);
+    }
+
+    public void recordOcr(String language, long pixels, long nanos) {
+        costs.computeIfAbsent(language, key -> new OcrCost()).record(pixels, nanos);
+    }
+
+    public Stats stats() {
+        Map<String, Long> chosenLanguages = new TreeMap<>();
+        chosen.forEach((language, count) -> chosenLanguages.put(language, count.sum()));
+
+        Map<String, Double> msPerMegapixel = new TreeMap<>();
+        costs.forEach((language, cost) -> msPerMegapixel.put(language, cost.msPerMegapixel()));
+
+        long probeCount = probes.sum();
+        double averageProbeMs = probeCount == 0 ? 0 : probeNanos.sum() / (double) probeCount / 1_000_000;
+
+        return new Stats(isActive(), combinedLanguage, probeCount, fallbacks.sum(), chosenLanguages,
+                averageProbeMs, msPerMegapixel, estimatedSavedMs());
+    }
+
+    // Savings are estimated from the observed cost per megapixel of the combined set (sampled by every
+    // probe) against each single language, minus the time spent probing
+    private long estimatedSavedMs() {
+        OcrCost combined = costs.get(combinedLanguage);
+        if (combined == null || combined.pixels.sum() == 0) {
+            return 0;
+        }
+
+        double saved = 0;
+        for (String language : candidates) {
+            OcrCost single = costs.get(language);
+            if (single != null && !language.equals(combinedLanguage)) {
+                double megapixels = single.pixels.sum() / 1_000_000.0;
+                saved += megapixels * (combined.msPerMegapixel() - single.msPerMegapixel());
+            }
+        }
+
+        return Math.round(saved - probeNanos.sum() / 1_000_000.0);
+    }
+
+    // A horizontal band through the middle of the page, scaled down: enough words to vote on, a fraction of the pixels
+    private BufferedImage probeImage(BufferedImage image) {
+        int bandTop = image.getHeight() / 3;
+        int bandHeight = Math.max(1, image.getHeight() / 3);
+        int width = Math.max(1, (int) Math.round(image.getWidth() * probeScale));
+        int height = Math.max(1, (int) Math.round(bandHeight * probeScale));
+
+        BufferedImage probe = new BufferedImage(width, height, BufferedImage.TYPE_BYTE_GRAY);
+        Graphics2D graphics = probe.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.drawImage(image, 0, 0, width, height,
+                    0, bandTop, image.getWidth(), bandTop + bandHeight, null);
+        } finally {
+            graphics.dispose();
+        }
+        return probe;
+    }
+
+    // Words shared by several candidates (e.g. "de", "para") say nothing about the language, so they are not counted
+    Map<String, Integer> countStopwords(String text) {
+        Map<String, Integer> hits = new HashMap<>();
+        if (text == null || text.isBlank()) {
+            return hits;
+        }
+
+        for (String token : NON_LETTERS.split(text.toLowerCase(Locale.ROOT))) {
+            if (token.isEmpty()) {
+                continue;
+            }
+
+            String match = null;
+            for (String language : candidates) {
+                if (STOPWORDS.get(language).contains(token)) {
+                    if (match != null) {
+                        match = null;
+                        break;
+                    }
+                    match = language;
+                }
+            }
+
+            if (match != null) {
+                hits.merge(match, 1, Integer::sum);
+            }
+        }
+        return hits;
+    }
+
+    private static final class OcrCost {
+
+        private final LongAdder pixels = new LongAdder();
+        private final LongAdder nanos = new LongAdder();
+
+        void record(long pixelCount, long elapsedNanos) {
+            pixels.add(pixelCount);
+            nanos.add(elapsedNanos);
+        }
+
+        double msPerMegapixel() {
+            long pixelCount = pixels.sum();
+            return pixelCount == 0 ? 0 : nanos.sum() / 1_000_000.0 / (pixelCount / 1_000_000.0);
+        }
+    }
+}
@@ -0,0 +1,272 @@
+package br.com.montreal.ai.llmontreal.service.extraction;
+
+import br.com.montreal.ai.llmontreal.exception.ExtractionException;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.pdfbox.Loader;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.rendering.ImageType;
+import org.apache.pdfbox.rendering.PDFRenderer;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntConsumer;
+import java.util.stream.IntStream;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Component
+public class PdfOcrFallbackExtractor implements ContentExtractor {
+
+    private static final String PDF_CONTENT_TYPE = "application/pdf";
+
+    private final TesseractContentExtractor tesseractExtractor;
+    private final Executor pdfOcrExecutor;
+    private final boolean enabled;
+    private final float renderDpi;
+    private final int maxPages;
+    private final int parallelism;
+    private final ObjectProvider<ExtractionCheckpointStore> checkpointStore;
+    private final ObjectProvider<ExtractionProgressTracker> progressTracker;
+
+    public PdfOcrFallbackExtractor(
+            TesseractContentExtractor tesseractExtractor,
+            @Qualifier("pdfOcrExecutor") Executor pdfOcrExecutor,
+            @Value("${extraction.pdf-ocr.enabled:true}") boolean enabled,
+            @Value("${extraction.pdf-ocr.dpi:300}") float renderDpi,
+            @Value("${extraction.pdf-ocr.max-pages:500}") int maxPages,
+            @Value("${extraction.pdf-ocr.workers:0}") int workers,
+            ObjectProvider<ExtractionCheckpointStore> checkpointStore,
+            ObjectProvider<ExtractionProgressTracker> progressTracker
+    ) {
+        this.tesseractExtractor = tesseractExtractor;
+        this.pdfOcrExecutor = pdfOcrExecutor;
+        this.checkpointStore = checkpointStore;
+        this.progressTracker = progressTracker;
+        this.enabled = enabled;
+        this.renderDpi = renderDpi;
+        this.maxPages = maxPages;
+        this.parallelism = workers > 0 ? workers : Runtime.getRuntime().availableProcessors();
+    }
+
+    @Override
+    public boolean supportsThisContentType(String contentType) {
+        return enabled && contentType != null && PDF_CONTENT_TYPE.equalsIgnoreCase(contentType);
+    }
+
+    @Override
+    public Set<String> getSupportedContentTypes() {
+        return enabled ? Set.of(PDF_CONTENT_TYPE) : Set.of();
+    }
+
+    // Runs after Tika (10) so it only sees PDFs without a text layer
+    @Override
+    public int getPriority() {
+        return 20;
+    }
+
+    @Override
+    public boolean requiresOcr() {
+        return true;
+    }
+
+    @Override
+    public String getConfigFingerprint() {
+        return tesseractExtractor.getConfigFingerprint() + ";dpi=" + renderDpi;
+    }
+
+    @Override
+    public String extractContent(InputStream pdfStream, String contentType) throws ExtractionException {
+        if (!supportsThisContentType(contentType)) {
+            throw new ExtractionException("Content type " + contentType + " not supported by PDF OCR");
+        }
+
+        Path spooledPdf = null;
+
+        try {
+            spooledPdf = Files.createTempFile("pdf-ocr-", ".pdf");
+            MessageDigest digest = newSha256Digest();
+            Files.copy(new DigestInputStream(pdfStream, digest), spooledPdf, StandardCopyOption.REPLACE_EXISTING);
+
+            return extractContent(spooledPdf.toFile(), HexFormat.of().formatHex(digest.digest()));
+        } catch (IOException e) {
+            throw new ExtractionException("Error preparing PDF for OCR: " + e.getMessage(), e);
+        } finally {
+            deleteQuietly(spooledPdf);
+        }
+    }
+
+    private String extractContent(File pdfFile, String contentHash) throws ExtractionException, IOException {
+        long startTime = System.currentTimeMillis();
+
+        int pageCount;
+        try (PDDocument document = Loader.loadPDF(pdfFile)) {
+            pageCount = document.getNumberOfPages();
+        }
+
+        if (pageCount == 0) {
+            return "";
+        }
+
+        if (pageCount > maxPages) {
+            throw new ExtractionException(String.format(
+                    "PDF has %d pages, more than the %d allowed for OCR", pageCount, maxPages));
+        }
+
+        String[] pageTexts = new String[pageCount];
+        ExtractionCheckpointStore checkpoints = checkpointStore.getIfAvailable();
+        ExtractionProgressTracker progress = progressTracker.getIfAvailable();
+        Long documentId = ExtractionProgressTracker.currentDocumentId();
+        String checkpointKey = checkpoints != null && checkpoints.isEnabled()
+                ? checkpoints.checkpointKey(contentHash, PdfOcrFallbackExtractor.class.getName(), getConfigFingerprint())
+                : null;
+
+        if (checkpointKey != null) {
+            checkpoints.completedPages(checkpointKey).forEach((page, text) -> {
+                if (page >= 0 && page < pageCount) {
+                    pageTexts[page] = text;
+                }
+            });
+        }
+
+        List<Integer> pendingPages = IntStream.range(0, pageCount)
+                .filter(page -> pageTexts[page] == null)
+                .boxed()
+                .toList();
+        AtomicInteger pagesDone = new AtomicInteger(pageCount - pendingPages.size());
+
+        if (pendingPages.size() < pageCount) {
+            log.info("Resuming PDF OCR from checkpoint: {}/{} page(s) already done", pagesDone.get(), pageCount);
+        } else {
+            log.info("PDF has no text layer, running OCR on {} page(s) at {} DPI", pageCount, renderDpi);
+        }
+
+        if (progress != null) {
+            progress.report(documentId, pagesDone.get(), pageCount);
+        }
+
+        IntConsumer onPageDone = page -> {
+            if (checkpointKey != null) {
+                checkpoints.savePage(checkpointKey, page, pageTexts[page]);
+            }
+            if (progress != null) {
+                progress.report(documentId, pagesDone.incrementAndGet(), pageCount);
+            }
+        };
+
+        String ocrLanguage = pendingPages.isEmpty() ? null : chooseLanguage(pdfFile, pendingPages.get(0));
+
+        AtomicBoolean cancelled = new AtomicBoolean();
+        List<CompletableFuture<Void>> ranges = new ArrayList<>();
+        int rangeSize = pendingPages.isEmpty()
+                ? 1
+                : (int) Math.ceil(pendingPages.size() / (double) Math.min(parallelism, pendingPages.size()));
+
+        for (int first = 0; first < pendingPages.size(); first += rangeSize) {
+            List<Integer> pages = pendingPages.subList(first, Math.min(first + rangeSize, pendingPages.size()));
+            // Page threads check out Tesseract engines for the caller's deadline, which must replace them on abandon
+            ranges.add(CompletableFuture.runAsync(ExtractionWatchdog.withCurrentDeadline(
+                    () -> ocrPages(pdfFile, pages, ocrLanguage, pageTexts, cancelled, onPageDone)), pdfOcrExecutor));
+        }
+
+        try {
+            CompletableFuture.allOf(ranges.toArray(CompletableFuture[]::new)).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ExtractionException("OCR of PDF pages interrupted", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause() != null ? e.getCause() : e;
+            if (cause instanceof ExtractionException extractionException) {
+                throw extractionException;
+            }
+            throw new ExtractionException("OCR of PDF pages failed: " + cause.getMessage(), cause);
+        } finally {
+            cancelled.set(true);
+        }
+
+        if (checkpointKey != null) {
+            checkpoints.clear(checkpointKey);
+        }
+
+        String content = Arrays.stream(pageTexts)
+                .filter(text -> text != null && !text.isBlank())
+                .collect(Collectors.joining("\n\n"));
+
+        log.info("OCR fallback extracted {} characters from {} page(s) in {}ms using {} range(s)",
+                content.length(), pageCount, System.currentTimeMillis() - startTime, ranges.size());
+
+        return content;
+    }
+
+    // One probe per document: pages of the same PDF are assumed to share a language
+    private String chooseLanguage(File pdfFile, int page) throws ExtractionException, IOException {
+        try (PDDocument document = Loader.loadPDF(pdfFile)) {
+            BufferedImage image = new PDFRenderer(document).renderImageWithDPI(page, renderDpi, ImageType.GRAY);
+            return tesseractExtractor.chooseLanguage(image);
+        }
+    }
+
+    private void ocrPages(File pdfFile, List<Integer> pages, String ocrLanguage, String[] pageTexts,
+                          AtomicBoolean cancelled, IntConsumer onPageDone) {
+        try (PDDocument document = Loader.loadPDF(pdfFile)) {
+            PDFRenderer renderer = new PDFRenderer(document);
+
+            for (int page : pages) {
+                if (cancelled.get()) {
+                    return;
+                }
+                BufferedImage image = renderer.renderImageWithDPI(page, renderDpi, ImageType.GRAY);
+                pageTexts[page] = tesseractExtractor.extractText(image, ocrLanguage);
+                log.debug("OCR of PDF page {} finished: {} characters", page + 1, pageTexts[page].length());
+                onPageDone.accept(page);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Error rendering PDF pages " + (pages.get(0) + 1) + "-"
+                    + (pages.get(pages.size() - 1) + 1), e);
+        } catch (ExtractionException e) {
+            throw new CompletionException(e);
+        }
+    }
+
+    private MessageDigest newSha256Digest() throws ExtractionException {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new ExtractionException("SHA-256 algorithm not available", e);
+        }
+    }
+
+    private void deleteQuietly(Path path) {
+        if (path == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.warn("Failed to delete temporary PDF {}: {}", path, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,200 @@
+package br.com.montreal.ai.llmontreal.service.extraction;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.Resource;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.DigestInputStream;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Properties;
+
+// Keeps the classpath traineddata files in a directory that survives restarts. Each entry is recorded in a
+// manifest with the source size/timestamp and the SHA-256 of the copy, so a restart only re-copies files
+// that changed in the jar or whose cached copy no longer matches its checksum.
+@Slf4j
+public class TessdataCache {
+
+    private static final String MANIFEST = "tessdata.manifest";
+
+    private final Path directory;
+
+    public record SyncResult(Path directory, int reused, int copied, long elapsedMs) {
+    }
+
+    public TessdataCache(Path directory) {
+        this.directory = directory;
+    }
+
+    public synchronized SyncResult sync(Resource[] resources) throws IOException {
+        long startTime = System.currentTimeMillis();
+        Files.createDirectories(directory);
+
+        Properties manifest = loadManifest();
+        int reused = 0;
+        int copied = 0;
+        boolean manifestChanged = false;
+
+        for (Resource resource : resources) {
+            String filename = resource.getFilename();
+            if (filename == null) {
+                continue;
+            }
+
+            String source = sourceFingerprint(resource);
+            Path target = directory.resolve(filename);
+
+            String entry = manifest.getProperty(filename);
+            String validChecksum = validChecksum(target, entry, source);
+            if (validChecksum != null) {
+                String current = manifestEntry(source, validChecksum, target);
+                if (!current.equals(entry)) {
+                    manifest.setProperty(filename, current);
+                    manifestChanged = true;
+                }
+                reused++;
+                continue;
+            }
+
+            String checksum = copy(resource, target);
+            manifest.setProperty(filename, manifestEntry(source, checksum, target));
+            manifestChanged = true;
+            copied++;
+            log.debug("Cached tessdata file {} (sha256 {})", filename, checksum);
+        }
+
+        if (manifestChanged) {
+            storeManifest(manifest);
+        }
+
+        return new SyncResult(directory, reused, copied, System.currentTimeMillis() - startTime);
+    }
+
+    // Unchanged size and mtime since the copy was recorded is trusted as-is; anything else is re-hashed.
+    // Returns the checksum of a valid cached copy, or null when it has to be copied again.
+    private String validChecksum(Path target, String entry, String source) throws IOException {
+        if (entry == null || !Files.isRegularFile(target)) {
+            return null;
+        }
+
+        String[] parts = entry.split(";");
+        if (parts.length != 5 || !source.equals(parts[0] + ";" + parts[1])) {
+            return null;
+        }
+
+        try {
+            if (Files.size(target) != Long.parseLong(parts[3])) {
+                return null;
+            }
+            if (Files.getLastModifiedTime(target).toMillis() == Long.parseLong(parts[4])) {
+                return parts[2];
+            }
+        } catch (NumberFormatException e) {
+            return null;
+        }
+
+        if (!parts[2].equals(checksum(target))) {
+            log.warn("Cached tessdata file {} failed checksum validation, copying it again", target.getFileName());
+            return null;
+        }
+        return parts[2];
+    }
+
+    private static String manifestEntry(String source, String checksum, Path target) throws IOException {
+        return String.join(";", source, checksum,
+                String.valueOf(Files.size(target)), String.valueOf(Files.getLastModifiedTime(target).toMillis()));
+    }
+
+    private String sourceFingerprint(Resource resource) {
+        long length;
+        long lastModified;
+        try {
+            length = resource.contentLength();
+        } catch (IOException e) {
+            length = -1;
+        }
+        try {
+            lastModified = resource.lastModified();
+        } catch (IOException e) {
+            lastModified = -1;
+        }
+        return length + ";" + lastModified;
+    }
+
+    // Written next to the target and moved into place, so a concurrent reader never sees a partial file
+    private String copy(Resource resource, Path target) throws IOException {
+        Path temp = Files.createTempFile(directory, target.getFileName().toString(), ".tmp");
+        try {
+            MessageDigest digest = sha256();
+            try (InputStream inputStream = resource.getInputStream();
+                 OutputStream outputStream = new DigestOutputStream(Files.newOutputStream(temp), digest)) {
+                inputStream.transferTo(outputStream);
+            }
+            move(temp, target);
+            return HexFormat.of().formatHex(digest.digest());
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    private String checksum(Path file) throws IOException {
+        MessageDigest digest = sha256();
+        try (InputStream inputStream = new DigestInputStream(Files.newInputStream(file), digest)) {
+            inputStream.transferTo(OutputStream.nullOutputStream());
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    private Properties loadManifest() {
+        Properties manifest = new Properties();
+        Path file = directory.resolve(MANIFEST);
+        if (Files.isRegularFile(file)) {
+            try (Reader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+                manifest.load(reader);
+            } catch (IOException | IllegalArgumentException e) {
+                log.warn("Ignoring unreadable tessdata manifest {}: {}", file, e.getMessage());
+                manifest.clear();
+            }
+        }
+        return manifest;
+    }
+
+    private void storeManifest(Properties manifest) throws IOException {
+        Path temp = Files.createTempFile(directory, MANIFEST, ".tmp");
+        try {
+            try (Writer writer = Files.newBufferedWriter(temp, StandardCharsets.UTF_8)) {
+                manifest.store(writer, "source-length;source-last-modified;sha256;size;cached-last-modified");
+            }
+            move(temp, directory.resolve(MANIFEST));
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    private static void move(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
@@ -2,6 +2,7 @@ package br.com.montreal.ai.llmontreal.service.extraction;
 
 import br.com.montreal.ai.llmontreal.exception.ExtractionException;
 import lombok.extern.slf4j.Slf4j;
+import net.sourceforge.tess4j.ITesseract;
 import net.sourceforge.tess4j.Tesseract;
 import net.sourceforge.tess4j.TesseractException;
 import org.springframework.beans.factory.annotation.Value;
@@ -20,6 +21,7 @@ import java.nio.file.Path;
 import java.util.Arrays;
 import java.util.Comparator;
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Stream;
 
 @Slf4j
@@ -36,40 +38,71 @@ public class TesseractContentExtractor implements ContentExtractor {
             "image/gif"
     );
 
-    private final Tesseract tesseract;
-    private Path tempTessdataDir;
+    private final EngineInitializer.Handle<TesseractEnginePool> enginePool;
+    private final OcrImagePreprocessor preprocessor;
+    private final OcrLanguageSelector languageSelector;
+    private final String language;
+    private final String configFingerprint;
+    private final String tessdataCacheDir;
+    private volatile Path tempTessdataDir;
 
     public TesseractContentExtractor(
             @Value("${tesseract.data-path:}") String dataPath,
             @Value("${tesseract.language:por+eng}") String language,
             @Value("${tesseract.page-segmentation-mode:3}") int pageSegMode,
-            @Value("${tesseract.oem-mode:3}") int oemMode
-    ) throws TesseractException {
-        this.tesseract = new Tesseract();
+            @Value("${tesseract.oem-mode:3}") int oemMode,
+            @Value("${tesseract.pool.size:0}") int poolSize,
+            @Value("${tesseract.pool.acquire-timeout-ms:120000}") long acquireTimeoutMs,
+            @Value("${tesseract.tessdata-cache-dir:}") String tessdataCacheDir,
+            OcrImagePreprocessor preprocessor,
+            OcrLanguageSelector languageSelector,
+            EngineInitializer engineInitializer
+    ) {
         this.tempTessdataDir = null;
-        
-        try {
+        this.preprocessor = preprocessor;
+        this.languageSelector = languageSelector;
+        this.language = language;
+        this.tessdataCacheDir = tessdataCacheDir;
+        this.configFingerprint = String.format("lang=%s;psm=%d;oem=%d;%s;%s", language, pageSegMode, oemMode,
+                preprocessor.getConfigFingerprint(), languageSelector.getConfigFingerprint());
+
+        this.enginePool = engineInitializer.submit("tesseract", () -> {
             String effectiveDataPath = setupTessdataPath(dataPath);
-            tesseract.setDatapath(effectiveDataPath);
             log.info("Tesseract data path set to: {}", effectiveDataPath);
-            
             log.info("Setting Tesseract language to: {}", language);
-            tesseract.setLanguage(language);
-            tesseract.setPageSegMode(pageSegMode);
             log.info("Setting Tesseract Page Segmentation Mode to: {}", pageSegMode);
-
-            tesseract.setOcrEngineMode(oemMode);
             log.info("Setting Tesseract OCR Engine Mode to: {}", oemMode);
-            
+
+            int effectivePoolSize = poolSize > 0 ? poolSize : Runtime.getRuntime().availableProcessors();
+            TesseractEnginePool pool = new TesseractEnginePool(effectivePoolSize, acquireTimeoutMs,
+                    () -> createEngine(effectiveDataPath, language, pageSegMode, oemMode));
+
             if (tempTessdataDir != null) {
                 Runtime.getRuntime().addShutdownHook(new Thread(this::cleanupTempTessdata));
             }
-            
+
             log.info("TesseractContentExtractor initialized successfully");
-        } catch (IOException e) {
-            log.error("Failed to initialize TesseractContentExtractor", e);
-            throw new TesseractException("Failed to initialize Tesseract", e);
-        }
+            return pool;
+        });
+    }
+
+    private static ITesseract createEngine(String dataPath, String language, int pageSegMode, int oemMode) {
+        Tesseract tesseract = new Tesseract();
+        tesseract.setDatapath(dataPath);
+        tesseract.setLanguage(language);
+        tesseract.setPageSegMode(pageSegMode);
+        tesseract.setOcrEngineMode(oemMode);
+        return tesseract;
+    }
+
+    @Override
+    public String getConfigFingerprint() {
+        return configFingerprint;
+    }
+
+    public TesseractEnginePool.Stats getPoolStats() {
+        TesseractEnginePool pool = enginePool.getIfReady();
+        return pool != null ? pool.stats() : null;
     }
 
     private String setupTessdataPath(String configuredDataPath) throws IOException {
@@ -86,6 +119,12 @@ public class TesseractContentExtractor implements ContentExtractor {
 
         try {
             log.info("Attempting to load tessdata from classpath (resources/tessdata/)...");
+            Path cachedDir = syncTessdataCache();
+            if (cachedDir != null) {
+                tempTessdataDir = null;
+                return cachedDir.toString();
+            }
+
             Path tempDir = extractTessdataFromClasspath();
             if (tempDir != null) {
                 tempTessdataDir = tempDir;
@@ -102,6 +141,23 @@ public class TesseractContentExtractor implements ContentExtractor {
         return "";
     }
 
+    private Path syncTessdataCache() throws IOException {
+        if (tessdataCacheDir == null || tessdataCacheDir.isBlank()) {
+            return null;
+        }
+
+        Resource[] resources = new PathMatchingResourcePatternResolver().getResources("classpath:tessdata/*.traineddata");
+        if (resources.length == 0) {
+            log.debug("No traineddata files found in classpath");
+            return null;
+        }
+
+        TessdataCache.SyncResult result = new TessdataCache(Path.of(tessdataCacheDir)).sync(resources);
+        log.info("Tessdata cache {} ready in {}ms ({} reused, {} copied)",
+                result.directory(), result.elapsedMs(), result.reused(), result.copied());
+        return result.directory();
+    }
+
     private Path extractTessdataFromClasspath() throws IOException {
         PathMatchingResourcePatternResolver resolver = new PathMatchingResourcePatternResolver();
         Resource[] resources = resolver.getResources("classpath:tessdata/*.traineddata");
@@ -145,7 +201,6 @@ public class TesseractContentExtractor implements ContentExtractor {
 
         try {
             log.info("Extracting content using Tesseract OCR for content type: {}", contentType);
-            long startTime = System.currentTimeMillis();
 
             BufferedImage image = ImageIO.read(inputStream);
             
@@ -157,9 +212,60 @@ public class TesseractContentExtractor implements ContentExtractor {
 
             log.debug("Image loaded successfully. Dimensions: {}x{}", image.getWidth(), image.getHeight());
 
-            String extractedText = tesseract.doOCR(image);
-            
-            long duration = System.currentTimeMillis() - startTime;
+            return extractText(image);
+
+        } catch (ExtractionException e) {
+            throw e;
+        } catch (IOException e) {
+            String message = "Error reading image stream: " + e.getMessage();
+            log.error(message, e);
+            throw new ExtractionException(message, e);
+        } catch (Exception e) {
+            String message = "Unexpected error during OCR extraction: " + e.getMessage();
+            log.error(message, e);
+            throw new ExtractionException(message, e);
+        }
+    }
+
+    public String extractText(BufferedImage image) throws ExtractionException {
+        BufferedImage preparedImage = preprocessor.process(image);
+        return recognize(preparedImage, selectLanguage(preparedImage));
+    }
+
+    public String extractText(BufferedImage image, String ocrLanguage) throws ExtractionException {
+        return recognize(preprocessor.process(image), ocrLanguage);
+    }
+
+    public String chooseLanguage(BufferedImage image) throws ExtractionException {
+        return selectLanguage(preprocessor.process(image));
+    }
+
+    public OcrLanguageSelector.Stats getLanguageStats() {
+        return languageSelector.stats();
+    }
+
+    private String selectLanguage(BufferedImage preparedImage) throws ExtractionException {
+        return languageSelector.choose(preparedImage, (probe, probeLanguage) -> {
+            try {
+                return enginePool.get().execute(engine -> doOcr(engine, probe, probeLanguage));
+            } catch (TesseractException e) {
+                throw new ExtractionException("Tesseract language probe failed: " + e.getMessage(), e);
+            }
+        }).language();
+    }
+
+    private String recognize(BufferedImage preparedImage, String ocrLanguage) throws ExtractionException {
+        String effectiveLanguage = ocrLanguage != null ? ocrLanguage : language;
+
+        try {
+            long startTime = System.nanoTime();
+
+            String extractedText = enginePool.get().execute(engine -> doOcr(engine, preparedImage, effectiveLanguage));
+
+            long elapsed = System.nanoTime() - startTime;
+            long duration = elapsed / 1_000_000;
+            languageSelector.recordOcr(effectiveLanguage,
+                    (long) preparedImage.getWidth() * preparedImage.getHeight(), elapsed);
 
             if (extractedText == null || extractedText.trim().isEmpty()) {
                 log.warn("Tesseract OCR returned empty content. This may indicate:");
@@ -170,9 +276,9 @@ public class TesseractContentExtractor implements ContentExtractor {
                 return "";
             }
 
-            String cleanedContent = cleanExtractedText(extractedText);
-            log.info("Successfully extracted {} characters (raw: {}) using Tesseract OCR in {}ms", 
-                    cleanedContent.length(), extractedText.length(), duration);
+            String cleanedContent = TextNormalizer.normalizeDroppingBlankLines(extractedText);
+            log.info("Successfully extracted {} characters (raw: {}) using Tesseract OCR [{}] in {}ms",
+                    cleanedContent.length(), extractedText.length(), effectiveLanguage, duration);
             
             return cleanedContent;
 
@@ -180,14 +286,20 @@ public class TesseractContentExtractor implements ContentExtractor {
             String message = "Tesseract OCR processing error: " + e.getMessage();
             log.error(message, e);
             throw new ExtractionException(message, e);
-        } catch (IOException e) {
-            String message = "Error reading image stream: " + e.getMessage();
-            log.error(message, e);
-            throw new ExtractionException(message, e);
-        } catch (Exception e) {
-            String message = "Unexpected error during OCR extraction: " + e.getMessage();
-            log.error(message, e);
-            throw new ExtractionException(message, e);
+        }
+    }
+
+    // Engines are pooled with the configured language set; switch only for the duration of this call
+    private String doOcr(ITesseract engine, BufferedImage image, String ocrLanguage) throws TesseractException {
+        if (ocrLanguage.equals(language)) {
+            return engine.doOCR(image);
+        }
+
+        engine.setLanguage(ocrLanguage);
+        try {
+            return engine.doOCR(image);
+        } finally {
+            engine.setLanguage(language);
         }
     }
 
@@ -197,28 +309,19 @@ public class TesseractContentExtractor implements ContentExtractor {
                 .anyMatch(type -> contentType.toLowerCase().startsWith(type));
     }
 
+    @Override
+    public Set<String> getSupportedContentTypes() {
+        return Set.copyOf(SUPPORTED_IMAGE_TYPES);
+    }
+
     @Override
     public int getPriority() {
         return 5;
     }
 
-    private String cleanExtractedText(String text) {
-        if (text == null) {
-            return "";
-        }
-
-        return text
-                .replaceAll("[\\p{Cntrl}&&[^\n\r\t]]", "")
-                .replaceAll("[ \\t]+", " ")
-                .replace("\r\n", "\n")
-                .replace("\r", "\n")
-                .replaceAll("\n{3,}", "\n\n")
-                .lines()
-                .map(String::trim)
-                .filter(line -> !line.isEmpty())
-                .reduce((a, b) -> a + "\n" + b)
-                .orElse("")
-                .trim();
+    @Override
+    public boolean requiresOcr() {
+        return true;
     }
 
     private void cleanupTempTessdata() {
@@ -0,0 +1,126 @@
+package br.com.montreal.ai.llmontreal.service.extraction;
+
+import br.com.montreal.ai.llmontreal.exception.ExtractionException;
+import lombok.extern.slf4j.Slf4j;
+import net.sourceforge.tess4j.ITesseract;
+import net.sourceforge.tess4j.TesseractException;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+// tess4j's Tesseract creates and disposes its native TessBaseAPI inside every doOCR call, so a pooled
+// engine holds configuration, not loaded traineddata: the pool bounds concurrent OCR and keeps callers
+// from sharing an instance
+@Slf4j
+public class TesseractEnginePool {
+
+    private static final long SLOW_CHECKOUT_THRESHOLD_MS = 100;
+
+    private final BlockingQueue<ITesseract> engines;
+    private final Supplier<ITesseract> engineFactory;
+    private final int size;
+    private final long acquireTimeoutMs;
+
+    private final LongAdder checkouts = new LongAdder();
+    private final LongAdder timeouts = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+    private final LongAdder totalWaitNanos = new LongAdder();
+    private final AtomicLong maxWaitNanos = new AtomicLong();
+
+    @FunctionalInterface
+    public interface EngineTask<T> {
+        T apply(ITesseract engine) throws TesseractException;
+    }
+
+    public record Stats(int size, int available, long checkouts, long timeouts, double averageWaitMs,
+                        double maxWaitMs, long dropped) {
+    }
+
+    public TesseractEnginePool(int size, long acquireTimeoutMs, Supplier<ITesseract> engineFactory) {
+        if (size < 1) {
+            throw new IllegalArgumentException("Tesseract pool size must be at least 1");
+        }
+
+        this.size = size;
+        this.engineFactory = engineFactory;
+        this.acquireTimeoutMs = acquireTimeoutMs;
+        this.engines = new ArrayBlockingQueue<>(size);
+
+        for (int i = 0; i < size; i++) {
+            engines.add(engineFactory.get());
+        }
+
+        log.info("Tesseract engine pool initialized with {} engine(s)", size);
+    }
+
+    public <T> T execute(EngineTask<T> task) throws TesseractException, ExtractionException {
+        ITesseract engine = acquire();
+        AtomicBoolean released = new AtomicBoolean();
+
+        // An engine still busy when the extraction deadline expires never comes back to the pool: the
+        // watchdog abandons the call and a fresh engine takes its place
+        ExtractionWatchdog.onAbandon(() -> {
+            if (released.compareAndSet(false, true)) {
+                replace();
+            }
+        });
+
+        try {
+            return task.apply(engine);
+        } finally {
+            if (released.compareAndSet(false, true)) {
+                engines.offer(engine);
+            }
+        }
+    }
+
+    public Stats stats() {
+        long count = checkouts.sum();
+        double averageWaitMs = count == 0 ? 0 : totalWaitNanos.sum() / (double) count / 1_000_000;
+        return new Stats(size, engines.size(), count, timeouts.sum(), averageWaitMs, maxWaitNanos.get() / 1_000_000.0,
+                dropped.sum());
+    }
+
+    private void replace() {
+        dropped.increment();
+        log.warn("Dropped a Tesseract engine stuck past the extraction deadline, creating a replacement");
+        engines.offer(engineFactory.get());
+    }
+
+    private ITesseract acquire() throws ExtractionException {
+        long startTime = System.nanoTime();
+
+        try {
+            ITesseract engine = engines.poll(acquireTimeoutMs, TimeUnit.MILLISECONDS);
+            long waitNanos = System.nanoTime() - startTime;
+
+            if (engine == null) {
+                timeouts.increment();
+                throw new ExtractionException(String.format(
+                        "Timed out after %dms waiting for a Tesseract engine (pool size: %d)", acquireTimeoutMs, size));
+            }
+
+            recordCheckout(waitNanos);
+            return engine;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ExtractionException("Interrupted while waiting for a Tesseract engine", e);
+        }
+    }
+
+    private void recordCheckout(long waitNanos) {
+        checkouts.increment();
+        totalWaitNanos.add(waitNanos);
+        maxWaitNanos.accumulateAndGet(waitNanos, Math::max);
+
+        long waitMs = TimeUnit.NANOSECONDS.toMillis(waitNanos);
+        if (waitMs >= SLOW_CHECKOUT_THRESHOLD_MS) {
+            log.debug("Waited {}ms for a Tesseract engine - {}", waitMs, stats());
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package br.com.montreal.ai.llmontreal.service.extraction;
+
+import java.io.IOException;
+import java.io.Reader;
+
+public final class TextNormalizer {
+
+    private static final char DELETE = 0x7F;
+    private static final int READ_BUFFER_SIZE = 8192;
+
+    private TextNormalizer() {
+    }
+
+    public static String normalize(String text) {
+        return normalize(text, false);
+    }
+
+    public static String normalizeDroppingBlankLines(String text) {
+        return normalize(text, true);
+    }
+
+    public static String normalizeFrom(Reader reader) throws IOException {
+        return normalize(reader, false);
+    }
+
+    public static String normalizeDroppingBlankLinesFrom(Reader reader) throws IOException {
+        return normalize(reader, true);
+    }
+
+    private static String normalize(String text, boolean dropBlankLines) {
+        if (text == null || text.isEmpty()) {
+            return "";
+        }
+
+        Normalization normalization = new Normalization(text.length(), dropBlankLines);
+        for (int i = 0; i < text.length(); i++) {
+            normalization.accept(text.charAt(i));
+        }
+        return normalization.finish();
+    }
+
+    private static String normalize(Reader reader, boolean dropBlankLines) throws IOException {
+        Normalization normalization = new Normalization(READ_BUFFER_SIZE, dropBlankLines);
+        char[] buffer = new char[READ_BUFFER_SIZE];
+        int read;
+
+        while ((read = reader.read(buffer)) != -1) {
+            for (int i = 0; i < read; i++) {
+                normalization.accept(buffer[i]);
+            }
+        }
+        return normalization.finish();
+    }
+
+    private static final class Normalization {
+
+        private final StringBuilder out;
+        private final boolean dropBlankLines;
+        private boolean afterCarriageReturn;
+
+        Normalization(int capacity, boolean dropBlankLines) {
+            this.out = new StringBuilder(capacity);
+            this.dropBlankLines = dropBlankLines;
+        }
+
+        void accept(char c) {
+            if (c == '\n' && afterCarriageReturn) {
+                afterCarriageReturn = false;
+                return;
+            }
+
+            if (c == '\r' || c == '\n') {
+                afterCarriageReturn = c == '\r';
+                appendNewline();
+            } else if (c == ' ' || c == '\t') {
+                afterCarriageReturn = false;
+                appendSpace();
+            } else if (c < ' ' || c == DELETE) {
+                // Removed characters do not break a \r\n pair or a whitespace run
+            } else {
+                afterCarriageReturn = false;
+                out.append(c);
+            }
+        }
+
+        String finish() {
+            int end = out.length();
+            while (end > 0 && (out.charAt(end - 1) == ' ' || out.charAt(end - 1) == '\n')) {
+                end--;
+            }
+            out.setLength(end);
+
+            return out.toString();
+        }
+
+        private void appendSpace() {
+            int length = out.length();
+            if (length == 0) {
+                return;
+            }
+
+            char last = out.charAt(length - 1);
+            if (last == ' ' || (dropBlankLines && last == '\n')) {
+                return;
+            }
+            out.append(' ');
+        }
+
+        private void appendNewline() {
+            int length = out.length();
+            if (length == 0) {
+                return;
+            }
+
+            if (dropBlankLines) {
+                if (out.charAt(length - 1) == ' ') {
+                    out.setLength(--length);
+                }
+                if (length > 0 && out.charAt(length - 1) != '\n') {
+                    out.append('\n');
+                }
+                return;
+            }
+
+            if (length >= 2 && out.charAt(length - 1) == '\n' && out.charAt(length - 2) == '\n') {
+                return;
+            }
+            out.append('\n');
+        }
+    }
+}
@@ -3,6 +3,7 @@ package br.com.montreal.ai.llmontreal.service.extraction;
 import br.com.montreal.ai.llmontreal.exception.ExtractionException;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.tika.exception.TikaException;
+import org.apache.tika.io.TikaInputStream;
 import org.apache.tika.metadata.Metadata;
 import org.apache.tika.parser.AutoDetectParser;
 import org.apache.tika.parser.ParseContext;
@@ -11,11 +12,16 @@ import org.apache.tika.sax.BodyContentHandler;
 import org.springframework.stereotype.Component;
 import org.xml.sax.SAXException;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
-import java.io.StringWriter;
+import java.io.SequenceInputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Set;
 
 @Slf4j
 @Component
@@ -28,10 +34,16 @@ public class TikaContentExtractor implements ContentExtractor {
             "application/msword"
     );
 
-    private final Parser parser;
+    private final EngineInitializer.Handle<Parser> parser;
+    private final PdfPageRangeTextExtractor pageRangeExtractor;
+    private final ExtractionSinkFactory sinkFactory;
 
-    public TikaContentExtractor() {
-        this.parser = new AutoDetectParser();
+    public TikaContentExtractor(PdfPageRangeTextExtractor pageRangeExtractor, ExtractionSinkFactory sinkFactory,
+                                EngineInitializer engineInitializer) {
+        // AutoDetectParser loads every parser on the classpath; build it off the startup path
+        this.parser = engineInitializer.submit("tika", AutoDetectParser::new);
+        this.pageRangeExtractor = pageRangeExtractor;
+        this.sinkFactory = sinkFactory;
     }
 
     @Override
@@ -41,24 +53,97 @@ public class TikaContentExtractor implements ContentExtractor {
             throw new ExtractionException("Content type " + contentType + " not supported");
         }
 
+        if (pageRangeExtractor.supports(contentType)) {
+            return extractPdfContent(inputStream, contentType);
+        }
+
+        return parseWithTika(inputStream, contentType);
+    }
+
+    private String extractPdfContent(InputStream inputStream, String contentType) throws ExtractionException {
+        Path spooledPdf = null;
+
+        try {
+            // Reading up to the size threshold tells small PDFs apart without spooling them: those go straight
+            // into Tika, only larger ones pay for the temp file and the PDFBox page count
+            int minSizeBytes = pageRangeExtractor.getMinSizeBytes();
+            byte[] head = inputStream.readNBytes(minSizeBytes);
+            if (head.length < minSizeBytes) {
+                return parseWithTika(new ByteArrayInputStream(head), contentType);
+            }
+
+            spooledPdf = Files.createTempFile("tika-pdf-", ".pdf");
+            Files.copy(new SequenceInputStream(new ByteArrayInputStream(head), inputStream), spooledPdf,
+                    StandardCopyOption.REPLACE_EXISTING);
+
+            int pageCount = countPages(spooledPdf);
+            if (pageRangeExtractor.shouldSplit(pageCount)) {
+                log.info("Extracting {} page PDF in parallel page ranges", pageCount);
+
+                try (ExtractionSink sink = sinkFactory.create()) {
+                    try {
+                        pageRangeExtractor.extractText(spooledPdf, pageCount, sink);
+                    } catch (IOException e) {
+                        if (!sink.isLimitReached()) {
+                            throw e;
+                        }
+                        logTruncation(sink);
+                    }
+                    return TextNormalizer.normalizeFrom(sink.openReader());
+                }
+            }
+
+            try (InputStream pdfStream = TikaInputStream.get(spooledPdf)) {
+                return parseWithTika(pdfStream, contentType);
+            }
+        } catch (IOException e) {
+            String message = "Error reading document stream: " + e.getMessage();
+            log.error(message, e);
+            throw new ExtractionException(message, e);
+        } finally {
+            deleteQuietly(spooledPdf);
+        }
+    }
+
+    private int countPages(Path pdfFile) {
         try {
+            return pageRangeExtractor.countPages(pdfFile);
+        } catch (IOException e) {
+            log.debug("Could not read page count, using single-pass Tika extraction: {}", e.getMessage());
+            return 0;
+        }
+    }
+
+    private String parseWithTika(InputStream inputStream, String contentType) throws ExtractionException {
+        Parser autoDetectParser = parser.get();
+
+        try (ExtractionSink sink = sinkFactory.create()) {
             log.info("Extracting content using Apache Tika for content type: {}", contentType);
 
-            StringWriter writer = new StringWriter();
-            BodyContentHandler handler = new BodyContentHandler(writer);
-            
+            BodyContentHandler handler = new BodyContentHandler(sink);
+
             Metadata metadata = new Metadata();
             metadata.set(Metadata.CONTENT_TYPE, contentType);
             ParseContext context = new ParseContext();
-            context.set(Parser.class, parser);
+            context.set(Parser.class, autoDetectParser);
+
+            log.debug("Starting Tika parsing, text above the memory threshold is spilled to disk...");
+            try {
+                autoDetectParser.parse(inputStream, handler, metadata, context);
+            } catch (IOException | SAXException | TikaException e) {
+                if (!sink.isLimitReached()) {
+                    throw e;
+                }
+                logTruncation(sink);
+            }
 
-            log.debug("Starting Tika parsing with unlimited content length...");
-            parser.parse(inputStream, handler, metadata, context);
+            log.debug("Raw extraction completed. Length before cleaning: {} (spilled to disk: {})",
+                    sink.length(), sink.isSpilled());
 
-            String extractedContent = writer.toString();
-            log.debug("Raw extraction completed. Length before cleaning: {}", extractedContent != null ? extractedContent.length() : 0);
+            // The spill file only bounded the handler's buffer: the cleaned text is materialized whole, up to max-chars
+            String cleanedContent = TextNormalizer.normalizeFrom(sink.openReader());
 
-            if(extractedContent == null || extractedContent.trim().isEmpty()) {
+            if(cleanedContent.isEmpty()) {
                 log.warn("Extracted content is empty. This may indicate:");
                 log.warn("  - PDF is image-based (needs OCR)");
                 log.warn("  - PDF is encrypted/protected");
@@ -66,8 +151,7 @@ public class TikaContentExtractor implements ContentExtractor {
                 return "";
             }
 
-            String cleanedContent = cleanExtractedText(extractedContent);
-            log.info("Successfully extracted {} characters (raw: {}) using Tika", cleanedContent.length(), extractedContent.length());
+            log.info("Successfully extracted {} characters (raw: {}) using Tika", cleanedContent.length(), sink.length());
             return cleanedContent;
         } catch (IOException e) {
             String message = "Error reading document stream: " + e.getMessage();
@@ -88,27 +172,34 @@ public class TikaContentExtractor implements ContentExtractor {
         }
     }
 
+    private void logTruncation(ExtractionSink sink) {
+        log.warn("Extracted text reached the limit of {} characters, keeping the truncated content",
+                sink.getMaxChars());
+    }
+
     @Override
     public boolean supportsThisContentType(String contentType) {
         return contentType != null && SUPPORTED_TYPES.contains(contentType.toLowerCase());
     }
 
+    @Override
+    public Set<String> getSupportedContentTypes() {
+        return Set.copyOf(SUPPORTED_TYPES);
+    }
+
     @Override
     public int getPriority() {
         return 10;
     }
 
-    private String cleanExtractedText(String text) {
-        if(text == null) {
-            return "";
+    private void deleteQuietly(Path path) {
+        if (path == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.warn("Failed to delete temporary PDF {}: {}", path, e.getMessage());
         }
-
-        return text
-                .replaceAll("[\\p{Cntrl}&&[^\n\r\t]]", "")
-                .replaceAll("[ \\t]+", " ")
-                .replaceAll("\r\n", "\n")
-                .replaceAll("\r", "\n")
-                .replaceAll("\n{3,}", "\n\n")
-                .trim();
     }
 }
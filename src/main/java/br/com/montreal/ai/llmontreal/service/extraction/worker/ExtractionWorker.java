@@ -0,0 +1,101 @@
+package br.com.montreal.ai.llmontreal.service.extraction.worker;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+@Slf4j
+class ExtractionWorker {
+
+    private static final long POLL_INTERVAL_MS = 10;
+    private static final long EXIT_GRACE_SECONDS = 10;
+
+    private final Process process;
+    private final DataOutputStream out;
+    private final DataInputStream in;
+    private int jobs;
+
+    private ExtractionWorker(Process process) {
+        this.process = process;
+        this.out = new DataOutputStream(new BufferedOutputStream(process.getOutputStream()));
+        this.in = new DataInputStream(new BufferedInputStream(process.getInputStream()));
+    }
+
+    static ExtractionWorker start(List<String> command, long startupTimeoutMs) throws IOException, InterruptedException {
+        Process process = new ProcessBuilder(command)
+                .redirectError(ProcessBuilder.Redirect.INHERIT)
+                .start();
+
+        ExtractionWorker worker = new ExtractionWorker(process);
+        try {
+            worker.awaitInput(System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(startupTimeoutMs));
+            if (worker.in.readByte() != WorkerProtocol.READY) {
+                throw new IOException("Unexpected handshake from extraction worker " + worker.pid());
+            }
+            return worker;
+        } catch (IOException | InterruptedException e) {
+            worker.kill();
+            throw e;
+        }
+    }
+
+    WorkerProtocol.Response execute(WorkerProtocol.Request request) throws IOException, InterruptedException {
+        jobs++;
+        WorkerProtocol.writeRequest(out, request);
+        awaitInput(0);
+        return WorkerProtocol.readResponse(in);
+    }
+
+    long pid() {
+        return process.pid();
+    }
+
+    int jobs() {
+        return jobs;
+    }
+
+    boolean isAlive() {
+        return process.isAlive();
+    }
+
+    void close() {
+        try {
+            out.close();
+        } catch (IOException e) {
+            log.debug("Failed to close stdin of extraction worker {}: {}", pid(), e.getMessage());
+        }
+
+        CompletableFuture.runAsync(() -> {
+            if (process.isAlive()) {
+                log.warn("Extraction worker {} did not exit after closing its input, killing it", pid());
+                process.destroyForcibly();
+            }
+        }, CompletableFuture.delayedExecutor(EXIT_GRACE_SECONDS, TimeUnit.SECONDS));
+    }
+
+    void kill() {
+        process.destroyForcibly();
+    }
+
+    // Pipe reads cannot be interrupted, so poll instead of blocking; this lets the watchdog
+    // interrupt a request and have the worker killed instead of waiting for it
+    private void awaitInput(long deadlineNanos) throws IOException, InterruptedException {
+        while (in.available() == 0) {
+            if (!process.isAlive()) {
+                throw new EOFException("Extraction worker " + pid() + " exited with code " + process.exitValue());
+            }
+            if (deadlineNanos > 0 && System.nanoTime() > deadlineNanos) {
+                throw new IOException("Extraction worker " + pid() + " did not respond in time");
+            }
+            Thread.sleep(POLL_INTERVAL_MS);
+        }
+    }
+}
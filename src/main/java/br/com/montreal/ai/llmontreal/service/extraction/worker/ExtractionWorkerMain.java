@@ -0,0 +1,120 @@
+package br.com.montreal.ai.llmontreal.service.extraction.worker;
+
+import br.com.montreal.ai.llmontreal.config.AsyncConfig;
+import br.com.montreal.ai.llmontreal.service.extraction.ContentExtractor;
+import br.com.montreal.ai.llmontreal.service.extraction.EngineInitializer;
+import br.com.montreal.ai.llmontreal.service.extraction.ExtractionSinkFactory;
+import br.com.montreal.ai.llmontreal.service.extraction.OcrImagePreprocessor;
+import br.com.montreal.ai.llmontreal.service.extraction.OcrLanguageSelector;
+import br.com.montreal.ai.llmontreal.service.extraction.PdfOcrFallbackExtractor;
+import br.com.montreal.ai.llmontreal.service.extraction.PdfPageRangeTextExtractor;
+import br.com.montreal.ai.llmontreal.service.extraction.TesseractContentExtractor;
+import br.com.montreal.ai.llmontreal.service.extraction.TikaContentExtractor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.core.env.PropertiesPropertySource;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.FileDescriptor;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Properties;
+
+@Slf4j
+public final class ExtractionWorkerMain {
+
+    private ExtractionWorkerMain() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        // stdout carries the protocol; everything the libraries print goes to stderr
+        DataOutputStream out = new DataOutputStream(
+                new BufferedOutputStream(new FileOutputStream(FileDescriptor.out)));
+        System.setOut(System.err);
+
+        DataInputStream in = new DataInputStream(new BufferedInputStream(System.in));
+
+        try (AnnotationConfigApplicationContext context = createContext(loadProperties(Path.of(args[0])))) {
+            out.writeByte(WorkerProtocol.READY);
+            out.flush();
+            log.info("Extraction worker {} ready", ProcessHandle.current().pid());
+
+            while (true) {
+                WorkerProtocol.Request request;
+                try {
+                    request = WorkerProtocol.readRequest(in);
+                } catch (EOFException e) {
+                    break;
+                }
+
+                try {
+                    WorkerProtocol.writeResponse(out, handle(context, request));
+                } catch (OutOfMemoryError e) {
+                    WorkerProtocol.writeResponse(out, new WorkerProtocol.Response(false,
+                            "Extraction worker ran out of memory"));
+                    System.exit(1);
+                }
+            }
+        }
+
+        System.exit(0);
+    }
+
+    private static WorkerProtocol.Response handle(AnnotationConfigApplicationContext context,
+                                                  WorkerProtocol.Request request) {
+        long startTime = System.currentTimeMillis();
+
+        try (InputStream inputStream = Files.newInputStream(Path.of(request.inputFile()))) {
+            ContentExtractor extractor = context.getBean(
+                    Class.forName(request.extractorClass()).asSubclass(ContentExtractor.class));
+
+            String content = extractor.extractContent(inputStream, request.contentType());
+            Files.writeString(Path.of(request.outputFile()), content != null ? content : "", StandardCharsets.UTF_8);
+
+            log.debug("Worker extracted {} characters from {} in {}ms",
+                    content != null ? content.length() : 0, request.contentType(),
+                    System.currentTimeMillis() - startTime);
+            return new WorkerProtocol.Response(true, "");
+        } catch (Exception e) {
+            return new WorkerProtocol.Response(false, e.getMessage());
+        }
+    }
+
+    private static AnnotationConfigApplicationContext createContext(Properties properties) {
+        AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext();
+        context.getEnvironment().getPropertySources()
+                .addFirst(new PropertiesPropertySource("extractionWorker", properties));
+        // No ExtractionCheckpointStore or ExtractionProgressTracker here: they need the database and the
+        // protocol only carries the final result, so PDF OCR in a worker runs without checkpoints or progress
+        context.register(
+                AsyncConfig.class,
+                EngineInitializer.class,
+                ExtractionSinkFactory.class,
+                OcrImagePreprocessor.class,
+                OcrLanguageSelector.class,
+                PdfPageRangeTextExtractor.class,
+                TikaContentExtractor.class,
+                TesseractContentExtractor.class,
+                PdfOcrFallbackExtractor.class
+        );
+        context.refresh();
+        return context;
+    }
+
+    private static Properties loadProperties(Path file) throws IOException {
+        Properties properties = new Properties();
+        try (Reader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            properties.load(reader);
+        }
+        return properties;
+    }
+}
@@ -0,0 +1,268 @@
+package br.com.montreal.ai.llmontreal.service.extraction.worker;
+
+import br.com.montreal.ai.llmontreal.exception.ExtractionException;
+import br.com.montreal.ai.llmontreal.service.extraction.ContentExtractor;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.env.ConfigurableEnvironment;
+import org.springframework.core.env.EnumerablePropertySource;
+import org.springframework.stereotype.Component;
+import org.springframework.util.ClassUtils;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.BlockingDeque;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.jar.JarFile;
+
+@Slf4j
+@Component
+public class ExtractionWorkerPool {
+
+    private static final String BOOT_LAUNCHER = "org.springframework.boot.loader.launch.PropertiesLauncher";
+    private static final List<String> FORWARDED_PROPERTY_PREFIXES = List.of("extraction.", "ocr.", "tesseract.");
+
+    private final ConfigurableEnvironment environment;
+    private final boolean enabled;
+    private final int size;
+    private final int maxJobsPerWorker;
+    private final String jvmOptions;
+    private final String classpath;
+    private final long startupTimeoutMs;
+
+    private final BlockingDeque<ExtractionWorker> idleWorkers = new LinkedBlockingDeque<>();
+    private final Semaphore permits;
+    private final LongAdder started = new LongAdder();
+    private final LongAdder recycled = new LongAdder();
+    private final LongAdder crashed = new LongAdder();
+    private final LongAdder jobs = new LongAdder();
+    private Path propertiesFile;
+
+    public record Stats(boolean enabled, int size, int idle, long started, long recycled, long crashed, long jobs) {
+    }
+
+    public ExtractionWorkerPool(
+            ConfigurableEnvironment environment,
+            @Value("${extraction.worker.enabled:false}") boolean enabled,
+            @Value("${extraction.worker.pool-size:2}") int size,
+            @Value("${extraction.worker.max-jobs-per-worker:50}") int maxJobsPerWorker,
+            @Value("${extraction.worker.jvm-options:-Xmx1g -XX:+UseSerialGC}") String jvmOptions,
+            @Value("${extraction.worker.classpath:}") String classpath,
+            @Value("${extraction.worker.startup-timeout-ms:60000}") long startupTimeoutMs
+    ) {
+        this.environment = environment;
+        this.enabled = enabled;
+        this.size = Math.max(1, size);
+        this.maxJobsPerWorker = Math.max(1, maxJobsPerWorker);
+        this.jvmOptions = jvmOptions;
+        this.classpath = classpath.isBlank() ? System.getProperty("java.class.path") : classpath;
+        this.startupTimeoutMs = startupTimeoutMs;
+        this.permits = new Semaphore(this.size, true);
+
+        if (enabled) {
+            log.info("Forked extraction workers enabled: size={}, max jobs per worker={}, JVM options='{}'",
+                    this.size, this.maxJobsPerWorker, jvmOptions);
+            log.warn("Forked extraction workers have no database: PDF OCR run in a worker keeps no page checkpoints "
+                    + "and reports no progress, so an interrupted document restarts from its first page");
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public String extract(ContentExtractor extractor, InputStream inputStream, String contentType)
+            throws ExtractionException {
+        Path inputFile = null;
+        Path outputFile = null;
+
+        try {
+            inputFile = Files.createTempFile("worker-input-", ".bin");
+            Files.copy(inputStream, inputFile, StandardCopyOption.REPLACE_EXISTING);
+            outputFile = Files.createTempFile("worker-output-", ".txt");
+
+            WorkerProtocol.Response response = execute(new WorkerProtocol.Request(
+                    ClassUtils.getUserClass(extractor).getName(), contentType,
+                    inputFile.toString(), outputFile.toString()));
+
+            if (!response.success()) {
+                throw new ExtractionException(response.message());
+            }
+
+            return Files.readString(outputFile, StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new ExtractionException("Failed to exchange files with extraction worker: " + e.getMessage(), e);
+        } finally {
+            deleteQuietly(inputFile);
+            deleteQuietly(outputFile);
+        }
+    }
+
+    public Stats stats() {
+        return new Stats(enabled, size, idleWorkers.size(), started.sum(), recycled.sum(), crashed.sum(), jobs.sum());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        ExtractionWorker worker;
+        while ((worker = idleWorkers.pollFirst()) != null) {
+            worker.close();
+        }
+    }
+
+    private WorkerProtocol.Response execute(WorkerProtocol.Request request) throws ExtractionException {
+        try {
+            permits.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ExtractionException("Interrupted while waiting for an extraction worker", e);
+        }
+
+        ExtractionWorker worker = null;
+        try {
+            worker = borrow();
+            WorkerProtocol.Response response = worker.execute(request);
+            jobs.increment();
+            return response;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            if (worker != null) {
+                log.warn("Extraction interrupted, killing worker {}", worker.pid());
+                worker.kill();
+                worker = null;
+            }
+            throw new ExtractionException("Extraction interrupted, worker terminated", e);
+        } catch (IOException e) {
+            if (worker != null) {
+                crashed.increment();
+                log.error("Extraction worker {} failed: {}", worker.pid(), e.getMessage());
+                worker.kill();
+                worker = null;
+            }
+            throw new ExtractionException("Extraction worker failed: " + e.getMessage(), e);
+        } finally {
+            if (worker != null) {
+                giveBack(worker);
+            }
+            permits.release();
+        }
+    }
+
+    private ExtractionWorker borrow() throws IOException, InterruptedException {
+        ExtractionWorker worker;
+        while ((worker = idleWorkers.pollFirst()) != null) {
+            if (worker.isAlive()) {
+                return worker;
+            }
+            crashed.increment();
+        }
+
+        long startTime = System.currentTimeMillis();
+        worker = ExtractionWorker.start(buildCommand(), startupTimeoutMs);
+        started.increment();
+        log.info("Started extraction worker {} in {}ms", worker.pid(), System.currentTimeMillis() - startTime);
+        return worker;
+    }
+
+    private void giveBack(ExtractionWorker worker) {
+        if (!worker.isAlive()) {
+            crashed.increment();
+            log.warn("Extraction worker {} exited after its last job", worker.pid());
+            return;
+        }
+
+        if (worker.jobs() >= maxJobsPerWorker) {
+            recycled.increment();
+            log.info("Recycling extraction worker {} after {} jobs", worker.pid(), worker.jobs());
+            worker.close();
+            return;
+        }
+
+        idleWorkers.offerFirst(worker);
+    }
+
+    private List<String> buildCommand() throws IOException {
+        List<String> command = new ArrayList<>();
+        command.add(Path.of(System.getProperty("java.home"), "bin", "java").toString());
+
+        if (!jvmOptions.isBlank()) {
+            command.addAll(Arrays.asList(jvmOptions.trim().split("\\s+")));
+        }
+
+        command.add("-cp");
+        command.add(classpath);
+
+        if (isBootJar(classpath)) {
+            command.add("-Dloader.main=" + ExtractionWorkerMain.class.getName());
+            command.add(BOOT_LAUNCHER);
+        } else {
+            command.add(ExtractionWorkerMain.class.getName());
+        }
+
+        command.add(workerProperties().toString());
+        return command;
+    }
+
+    private synchronized Path workerProperties() throws IOException {
+        if (propertiesFile != null) {
+            return propertiesFile;
+        }
+
+        Properties properties = new Properties();
+        environment.getPropertySources().stream()
+                .filter(EnumerablePropertySource.class::isInstance)
+                .flatMap(source -> Arrays.stream(((EnumerablePropertySource<?>) source).getPropertyNames()))
+                .filter(name -> FORWARDED_PROPERTY_PREFIXES.stream().anyMatch(name::startsWith))
+                .forEach(name -> {
+                    String value = environment.getProperty(name);
+                    if (value != null) {
+                        properties.putIfAbsent(name, value);
+                    }
+                });
+
+        Path file = Files.createTempFile("extraction-worker-", ".properties");
+        file.toFile().deleteOnExit();
+        try (Writer writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            properties.store(writer, "Extraction worker configuration");
+        }
+
+        propertiesFile = file;
+        return file;
+    }
+
+    private static boolean isBootJar(String classpath) {
+        if (classpath.contains(File.pathSeparator) || !classpath.endsWith(".jar")) {
+            return false;
+        }
+
+        try (JarFile jar = new JarFile(classpath)) {
+            return jar.getEntry("BOOT-INF/classes/") != null;
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    private void deleteQuietly(Path path) {
+        if (path == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.warn("Failed to delete temporary worker file {}: {}", path, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package br.com.montreal.ai.llmontreal.service.extraction.worker;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+
+final class WorkerProtocol {
+
+    static final byte READY = 1;
+    static final byte OK = 2;
+    static final byte FAILED = 3;
+
+    private static final int MAX_MESSAGE_LENGTH = 2000;
+
+    record Request(String extractorClass, String contentType, String inputFile, String outputFile) {
+    }
+
+    record Response(boolean success, String message) {
+    }
+
+    private WorkerProtocol() {
+    }
+
+    static void writeRequest(DataOutputStream out, Request request) throws IOException {
+        out.writeUTF(request.extractorClass());
+        out.writeUTF(request.contentType());
+        out.writeUTF(request.inputFile());
+        out.writeUTF(request.outputFile());
+        out.flush();
+    }
+
+    static Request readRequest(DataInputStream in) throws IOException {
+        return new Request(in.readUTF(), in.readUTF(), in.readUTF(), in.readUTF());
+    }
+
+    static void writeResponse(DataOutputStream out, Response response) throws IOException {
+        String message = response.message() == null ? "" : response.message();
+        if (message.length() > MAX_MESSAGE_LENGTH) {
+            message = message.substring(0, MAX_MESSAGE_LENGTH);
+        }
+
+        out.writeByte(response.success() ? OK : FAILED);
+        out.writeUTF(message);
+        out.flush();
+    }
+
+    static Response readResponse(DataInputStream in) throws IOException {
+        byte status = in.readByte();
+        if (status != OK && status != FAILED) {
+            throw new IOException("Unexpected status from extraction worker: " + status);
+        }
+        return new Response(status == OK, in.readUTF());
+    }
+}
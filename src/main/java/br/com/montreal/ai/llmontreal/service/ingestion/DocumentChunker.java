@@ -0,0 +1,114 @@
+package br.com.montreal.ai.llmontreal.service.ingestion;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// Splits extracted text into overlapping windows of roughly chunk-size characters. A window ends at the last
+// paragraph break, sentence end or space in its final part when there is one, so chunks rarely cut a word;
+// offsets always point into the original text (content == text.substring(start, end)).
+@Component
+public class DocumentChunker {
+
+    // A break point is only accepted in the last 40% of the window, otherwise the chunk would be too short
+    private static final double MIN_FILL = 0.6;
+
+    private final int chunkSize;
+    private final int overlap;
+
+    public record Chunk(int index, int start, int end, String content) {
+    }
+
+    public DocumentChunker(
+            @Value("${ingestion.chunk.size:1500}") int chunkSize,
+            @Value("${ingestion.chunk.overlap:200}") int overlap
+    ) {
+        if (chunkSize < 100) {
+            throw new IllegalArgumentException("ingestion.chunk.size must be at least 100 characters");
+        }
+        if (overlap < 0 || overlap > chunkSize / 2) {
+            throw new IllegalArgumentException("ingestion.chunk.overlap must be between 0 and half the chunk size");
+        }
+        this.chunkSize = chunkSize;
+        this.overlap = overlap;
+    }
+
+    public List<Chunk> split(String text) {
+        List<Chunk> chunks = new ArrayList<>();
+        if (text == null || text.isBlank()) {
+            return chunks;
+        }
+
+        int length = text.length();
+        int start = skipWhitespace(text, 0, length);
+
+        while (start < length) {
+            int end = Math.min(length, start + chunkSize);
+            if (end < length) {
+                end = breakPoint(text, start, end);
+            }
+
+            int contentEnd = end;
+            while (contentEnd > start && Character.isWhitespace(text.charAt(contentEnd - 1))) {
+                contentEnd--;
+            }
+            chunks.add(new Chunk(chunks.size(), start, contentEnd, text.substring(start, contentEnd)));
+
+            if (end >= length) {
+                break;
+            }
+
+            int next = wordStart(text, Math.max(end - overlap, start + 1), end);
+            start = skipWhitespace(text, next, length);
+        }
+
+        return chunks;
+    }
+
+    private int breakPoint(String text, int start, int end) {
+        int floor = start + (int) (chunkSize * MIN_FILL);
+
+        int paragraph = text.lastIndexOf("\n\n", end - 2);
+        if (paragraph >= floor) {
+            return paragraph + 2;
+        }
+
+        for (int i = end - 1; i > floor; i--) {
+            char c = text.charAt(i - 1);
+            if ((c == '.' || c == '!' || c == '?' || c == '\n') && Character.isWhitespace(text.charAt(i))) {
+                return i;
+            }
+        }
+
+        for (int i = end - 1; i > floor; i--) {
+            if (Character.isWhitespace(text.charAt(i))) {
+                return i;
+            }
+        }
+
+        // No boundary at all (e.g. a long token run): hard cut, without splitting a surrogate pair
+        return Character.isHighSurrogate(text.charAt(end - 1)) ? end - 1 : end;
+    }
+
+    // Moves an overlap start that landed mid-word forward to the next word, as long as it stays before end
+    private static int wordStart(String text, int position, int end) {
+        if (position == 0 || Character.isWhitespace(text.charAt(position - 1))) {
+            return position;
+        }
+        for (int i = position; i < end; i++) {
+            if (Character.isWhitespace(text.charAt(i))) {
+                return i;
+            }
+        }
+        return position;
+    }
+
+    private static int skipWhitespace(String text, int position, int length) {
+        while (position < length && Character.isWhitespace(text.charAt(position))) {
+            position++;
+        }
+        return position;
+    }
+}
@@ -0,0 +1,218 @@
+package br.com.montreal.ai.llmontreal.service.ingestion;
+
+import br.com.montreal.ai.llmontreal.entity.Document;
+import br.com.montreal.ai.llmontreal.entity.DocumentChunk;
+import br.com.montreal.ai.llmontreal.entity.enums.DocumentStatus;
+import br.com.montreal.ai.llmontreal.event.DocumentExtractionCompletedEvent;
+import br.com.montreal.ai.llmontreal.repository.DocumentChunkRepository;
+import br.com.montreal.ai.llmontreal.repository.DocumentRepository;
+import br.com.montreal.ai.llmontreal.service.ollama.OllamaEmbeddingClient;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Ingestion stage after extraction: the content is split into overlapping chunks, embedded in batches and stored
+// in document_chunks. documents.ingested_at is only set once every chunk has its embedding; anything short of
+// that (Ollama down, queue full, crash) leaves it empty and the backfill job ingests the document again.
+@Slf4j
+@Service
+public class DocumentIngestionService {
+
+    private final DocumentRepository documentRepository;
+    private final DocumentChunkRepository chunkRepository;
+    private final DocumentChunker chunker;
+    private final OllamaEmbeddingClient embeddingClient;
+    private final Executor ingestionExecutor;
+    private final boolean enabled;
+    private final int batchSize;
+
+    private final Set<Long> inFlight = ConcurrentHashMap.newKeySet();
+    private final AtomicLong documentsIngested = new AtomicLong();
+    private final AtomicLong documentsFailed = new AtomicLong();
+    private final AtomicLong chunksStored = new AtomicLong();
+    private final AtomicLong embeddingBatches = new AtomicLong();
+    private final AtomicLong failedBatches = new AtomicLong();
+    private final AtomicLong totalBatchMs = new AtomicLong();
+    private final AtomicLong rejected = new AtomicLong();
+
+    public record IngestionStats(
+            boolean enabled,
+            String embeddingModel,
+            long documentsIngested,
+            long documentsFailed,
+            long documentsPending,
+            int inFlight,
+            long rejected,
+            long chunksStored,
+            long embeddingBatches,
+            long failedBatches,
+            double avgBatchMs
+    ) {
+    }
+
+    public DocumentIngestionService(
+            DocumentRepository documentRepository,
+            DocumentChunkRepository chunkRepository,
+            DocumentChunker chunker,
+            OllamaEmbeddingClient embeddingClient,
+            @Qualifier("ingestionExecutor") Executor ingestionExecutor,
+            @Value("${ingestion.enabled:true}") boolean enabled,
+            @Value("${ingestion.embedding.batch-size:16}") int batchSize
+    ) {
+        this.documentRepository = documentRepository;
+        this.chunkRepository = chunkRepository;
+        this.chunker = chunker;
+        this.embeddingClient = embeddingClient;
+        this.ingestionExecutor = ingestionExecutor;
+        this.enabled = enabled;
+        this.batchSize = Math.max(1, batchSize);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    @EventListener
+    public void onExtractionCompleted(DocumentExtractionCompletedEvent event) {
+        if (!enabled || !event.isSuccess()) {
+            return;
+        }
+
+        Long documentId = event.getDocumentId();
+        String content = event.getExtractedContent();
+        try {
+            ingestionExecutor.execute(() -> ingest(documentId, content));
+        } catch (RejectedExecutionException e) {
+            rejected.incrementAndGet();
+            log.warn("Ingestion queue full, document {} left for the backfill job", documentId);
+        }
+    }
+
+    public boolean ingest(Long documentId) {
+        return documentRepository.findById(documentId)
+                .filter(doc -> doc.getStatus() == DocumentStatus.COMPLETED)
+                .map(Document::getExtractedContent)
+                .map(content -> ingest(documentId, content))
+                .orElse(false);
+    }
+
+    boolean ingest(Long documentId, String content) {
+        if (!inFlight.add(documentId)) {
+            log.debug("Document {} is already being ingested", documentId);
+            return false;
+        }
+
+        long startTime = System.currentTimeMillis();
+        try {
+            // Re-extracted content invalidates the previous ingestion until this one completes
+            documentRepository.markIngested(documentId, null);
+
+            List<DocumentChunker.Chunk> chunks = chunker.split(content);
+            if (chunks.isEmpty()) {
+                // Nothing to embed: drop stale chunks and mark it ingested so the backfill leaves it alone
+                chunkRepository.deleteByDocumentId(documentId);
+                documentRepository.markIngested(documentId, LocalDateTime.now());
+                documentsIngested.incrementAndGet();
+                log.info("Document {} ingested without chunks: no text content", documentId);
+                return true;
+            }
+
+            List<float[]> vectors = embed(documentId, chunks);
+            String model = embeddingClient.getModel();
+
+            List<DocumentChunk> entities = new ArrayList<>(chunks.size());
+            LocalDateTime now = LocalDateTime.now();
+            for (DocumentChunker.Chunk chunk : chunks) {
+                DocumentChunk entity = DocumentChunk.builder()
+                        .documentId(documentId)
+                        .chunkIndex(chunk.index())
+                        .startOffset(chunk.start())
+                        .endOffset(chunk.end())
+                        .content(chunk.content())
+                        .createdAt(now)
+                        .build();
+                entity.setEmbeddingVector(vectors.get(chunk.index()), model);
+                entities.add(entity);
+            }
+
+            chunkRepository.deleteByDocumentId(documentId);
+            chunkRepository.saveAll(entities);
+            chunksStored.addAndGet(entities.size());
+
+            long embedded = vectors.stream().filter(vector -> vector != null).count();
+            if (embedded < chunks.size()) {
+                documentsFailed.incrementAndGet();
+                log.warn("Document {} stored with {}/{} chunks embedded, left for the backfill job",
+                        documentId, embedded, chunks.size());
+                return false;
+            }
+
+            documentRepository.markIngested(documentId, LocalDateTime.now());
+            documentsIngested.incrementAndGet();
+            log.info("Document {} ingested: {} chunks embedded with {} in {}ms",
+                    documentId, chunks.size(), model, System.currentTimeMillis() - startTime);
+            return true;
+        } catch (RuntimeException e) {
+            documentsFailed.incrementAndGet();
+            log.error("Failed to ingest document {}: {}", documentId, e.getMessage(), e);
+            return false;
+        } finally {
+            inFlight.remove(documentId);
+        }
+    }
+
+    // Batches run one after another; once one fails the remaining chunks stay without embedding,
+    // since Ollama is most likely unavailable and the backfill will redo the whole document anyway
+    private List<float[]> embed(Long documentId, List<DocumentChunker.Chunk> chunks) {
+        float[][] vectors = new float[chunks.size()][];
+
+        for (int from = 0; from < chunks.size(); from += batchSize) {
+            List<DocumentChunker.Chunk> batch = chunks.subList(from, Math.min(chunks.size(), from + batchSize));
+            long batchStart = System.currentTimeMillis();
+            try {
+                List<float[]> embeddings = embeddingClient.embed(batch.stream().map(DocumentChunker.Chunk::content).toList());
+                for (int i = 0; i < embeddings.size(); i++) {
+                    vectors[from + i] = embeddings.get(i);
+                }
+                embeddingBatches.incrementAndGet();
+                totalBatchMs.addAndGet(System.currentTimeMillis() - batchStart);
+            } catch (RuntimeException e) {
+                failedBatches.incrementAndGet();
+                log.warn("Embedding batch {}-{} of document {} failed: {}",
+                        from, from + batch.size() - 1, documentId, e.getMessage());
+                break;
+            }
+        }
+
+        return Arrays.asList(vectors);
+    }
+
+    public IngestionStats stats() {
+        long batches = embeddingBatches.get();
+        return new IngestionStats(
+                enabled,
+                embeddingClient.getModel(),
+                documentsIngested.get(),
+                documentsFailed.get(),
+                documentRepository.countPendingIngestion(DocumentStatus.COMPLETED),
+                inFlight.size(),
+                rejected.get(),
+                chunksStored.get(),
+                batches,
+                failedBatches.get(),
+                batches == 0 ? 0 : (double) totalBatchMs.get() / batches
+        );
+    }
+}
@@ -0,0 +1,107 @@
+package br.com.montreal.ai.llmontreal.service.ingestion;
+
+import br.com.montreal.ai.llmontreal.entity.enums.DocumentStatus;
+import br.com.montreal.ai.llmontreal.repository.DocumentRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+// Ingests documents extracted before the ingestion stage existed, plus any whose live ingestion failed. Each
+// tick hands at most batch-size documents to one ingestion worker, processed one at a time with a pause in
+// between, so the backfill never holds more than a single worker and embedding slot. The id cursor makes a
+// document that keeps failing wait for the next pass instead of blocking the ones behind it.
+@Slf4j
+@Component
+public class IngestionBackfillJob {
+
+    private final DocumentRepository documentRepository;
+    private final DocumentIngestionService ingestionService;
+    private final Executor ingestionExecutor;
+    private final boolean enabled;
+    private final int batchSize;
+    private final long pauseMs;
+
+    private final AtomicBoolean running = new AtomicBoolean();
+    private volatile long cursor;
+
+    public IngestionBackfillJob(
+            DocumentRepository documentRepository,
+            DocumentIngestionService ingestionService,
+            @Qualifier("ingestionExecutor") Executor ingestionExecutor,
+            @Value("${ingestion.backfill.enabled:true}") boolean enabled,
+            @Value("${ingestion.backfill.batch-size:10}") int batchSize,
+            @Value("${ingestion.backfill.pause-ms:2000}") long pauseMs
+    ) {
+        this.documentRepository = documentRepository;
+        this.ingestionService = ingestionService;
+        this.ingestionExecutor = ingestionExecutor;
+        this.enabled = enabled;
+        this.batchSize = Math.max(1, batchSize);
+        this.pauseMs = pauseMs;
+    }
+
+    @Scheduled(initialDelayString = "${ingestion.backfill.initial-delay-ms:60000}",
+            fixedDelayString = "${ingestion.backfill.interval-ms:60000}")
+    public void tick() {
+        if (!enabled || !ingestionService.isEnabled() || !running.compareAndSet(false, true)) {
+            return;
+        }
+
+        try {
+            ingestionExecutor.execute(this::runBatch);
+        } catch (RejectedExecutionException e) {
+            running.set(false);
+            log.debug("Ingestion queue full, backfill postponed");
+        }
+    }
+
+    void runBatch() {
+        try {
+            List<Long> ids = documentRepository.findIdsPendingIngestion(
+                    DocumentStatus.COMPLETED, cursor, PageRequest.of(0, batchSize));
+            if (ids.isEmpty()) {
+                cursor = 0;
+                return;
+            }
+
+            int ingested = 0;
+            for (Long id : ids) {
+                if (ingestionService.ingest(id)) {
+                    ingested++;
+                }
+                cursor = id;
+                if (!pause()) {
+                    return;
+                }
+            }
+
+            log.info("Ingestion backfill: {}/{} documents ingested, {} still pending",
+                    ingested, ids.size(), documentRepository.countPendingIngestion(DocumentStatus.COMPLETED));
+        } catch (RuntimeException e) {
+            log.error("Ingestion backfill failed: {}", e.getMessage(), e);
+        } finally {
+            running.set(false);
+        }
+    }
+
+    private boolean pause() {
+        if (pauseMs <= 0) {
+            return true;
+        }
+        try {
+            Thread.sleep(pauseMs);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package br.com.montreal.ai.llmontreal.service.ollama;
+
+// Shared by the Kafka chat flow and the streaming endpoint so both ask the model the same way
+final class ChatPrompts {
+
+    private ChatPrompts() {
+    }
+
+    static String documentQuestion(String context, String userMessage) {
+        return """
+                                <system_role>
+                                Você é um assistente de IA útil e prestativo.
+                                Sua tarefa é responder perguntas baseadas ESTRITAMENTE no documento fornecido abaixo.
+                                </system_role>
+
+                                <rules>
+                                1. Se a resposta não estiver no texto, diga: "Não encontrei essa informação no documento".
+                                2. Não invente informações.
+                                3. Responda sempre em Português do Brasil.
+                                4. Seja direto e profissional.
+                                5. NÃO use Markdown na resposta (não use **negrito**, listas com -, # títulos, etc.).
+                                   Responda apenas em texto simples.
+                                </rules>
+
+                                <document_context>
+                                %s
+                                </document_context>
+
+                                <user_question>
+                                %s
+                                </user_question>
+
+                                RESPOSTA:
+                                """
+                .formatted(context, userMessage);
+    }
+}
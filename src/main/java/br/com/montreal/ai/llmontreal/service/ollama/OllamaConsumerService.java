@@ -1,5 +1,6 @@
 package br.com.montreal.ai.llmontreal.service.ollama;
 
+import br.com.montreal.ai.llmontreal.config.KafkaListenerConfig;
 import br.com.montreal.ai.llmontreal.config.KafkaTopicConfig;
 import br.com.montreal.ai.llmontreal.dto.*;
 import br.com.montreal.ai.llmontreal.dto.kafka.KafkaChatRequestDTO;
@@ -11,6 +12,8 @@ import br.com.montreal.ai.llmontreal.entity.ChatSession;
 import br.com.montreal.ai.llmontreal.entity.Document;
 import br.com.montreal.ai.llmontreal.entity.enums.Author;
 import br.com.montreal.ai.llmontreal.entity.enums.DocumentStatus;
+import br.com.montreal.ai.llmontreal.entity.enums.ProcessingStage;
+import br.com.montreal.ai.llmontreal.event.DocumentStatusChangedEvent;
 import br.com.montreal.ai.llmontreal.exception.OllamaException;
 import br.com.montreal.ai.llmontreal.repository.ChatSessionRepository;
 import br.com.montreal.ai.llmontreal.repository.DocumentRepository;
@@ -19,9 +22,14 @@ import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.task.TaskExecutor;
 import org.springframework.kafka.annotation.KafkaListener;
 import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.Acknowledgment;
 import org.springframework.stereotype.Service;
 import org.springframework.web.reactive.function.client.WebClient;
 import org.springframework.web.reactive.function.client.WebClientResponseException;
@@ -44,10 +52,18 @@ public class OllamaConsumerService {
     private final DocumentRepository documentRepository;
     private final ChatSessionRepository chatSessionRepository;
     private final OllamaLogApiCallService logApiCallService;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    @Qualifier("ollamaCallExecutor")
+    private TaskExecutor ollamaCallExecutor;
 
     @Value("${ollama.api.model}")
     private String ollamaModel;
 
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreads;
+
     private static final String SUMMARIZE_PROMPT = """
                         CONTEXTO
                         Você é um assistente de IA especialista em comunicação e processamento de linguagem.
@@ -74,14 +90,46 @@ public class OllamaConsumerService {
 
     private static final Logger log = LoggerFactory.getLogger(OllamaConsumerService.class);
 
-    @KafkaListener(topics = KafkaTopicConfig.CHAT_REQUEST_TOPIC, groupId = "chat-processors-group")
-    public void sendChatMessage(KafkaChatRequestDTO kafkaChatRequestDTO) {
+    @KafkaListener(topics = KafkaTopicConfig.CHAT_REQUEST_TOPIC, groupId = "chat-processors-group",
+            containerFactory = KafkaListenerConfig.MANUAL_ACK_CONTAINER_FACTORY)
+    public void sendChatMessage(KafkaChatRequestDTO kafkaChatRequestDTO, Acknowledgment acknowledgment) {
+        dispatch(kafkaChatRequestDTO.correlationId(), acknowledgment, () -> processChatMessage(kafkaChatRequestDTO));
+    }
+
+    @KafkaListener(topics = KafkaTopicConfig.SUMMARY_REQUEST_TOPIC, groupId = "summary-processors-group",
+            containerFactory = KafkaListenerConfig.MANUAL_ACK_CONTAINER_FACTORY)
+    public void summarizeDocumentContent(KafkaSummaryRequestDTO requestDTO, Acknowledgment acknowledgment) {
+        dispatch(requestDTO.correlationId(), acknowledgment, () -> processSummaryRequest(requestDTO));
+    }
+
+    // The offset is committed only once the request is answered or has failed, so a restart mid-call redelivers
+    // it. In virtual-thread mode the listener thread only hands the record off, so many Ollama calls can wait at
+    // once, and the call's own thread acknowledges it; otherwise a failure goes to the container's error handler
+    private void dispatch(String correlationId, Acknowledgment acknowledgment, Runnable task) {
+        if (!virtualThreads) {
+            task.run();
+            acknowledgment.acknowledge();
+            return;
+        }
+
+        ollamaCallExecutor.execute(() -> {
+            try {
+                task.run();
+            } catch (RuntimeException e) {
+                log.error("Ollama request {} failed: {}", correlationId, e.getMessage(), e);
+            } finally {
+                acknowledgment.acknowledge();
+            }
+        });
+    }
+
+    private void processChatMessage(KafkaChatRequestDTO kafkaChatRequestDTO) {
         String correlationId = kafkaChatRequestDTO.correlationId();
         Long sessionId = kafkaChatRequestDTO.chatSessionId();
 
         String chatContext = getChatContext(sessionId);
         String userMessage = kafkaChatRequestDTO.chatMessageRequest().prompt();
-        String fullPrompt = buildFullPrompt(chatContext, userMessage);
+        String fullPrompt = ChatPrompts.documentQuestion(chatContext, userMessage);
 
         OllamaRequestDTO ollamaRequestDTO = OllamaRequestDTO.builder()
                 .prompt(fullPrompt)
@@ -102,8 +150,7 @@ public class OllamaConsumerService {
                 kafkaChatTemplate);
     }
 
-    @KafkaListener(topics = KafkaTopicConfig.SUMMARY_REQUEST_TOPIC, groupId = "summary-processors-group")
-    public void summarizeDocumentContent(KafkaSummaryRequestDTO requestDTO) {
+    private void processSummaryRequest(KafkaSummaryRequestDTO requestDTO) {
         String correlationId = requestDTO.correlationId();
         Long documentId = requestDTO.documentId();
 
@@ -111,6 +158,10 @@ public class OllamaConsumerService {
                 .orElseThrow(() -> new EntityNotFoundException(
                         "Document not found by id: " + documentId));
 
+        doc.setProcessingStage(ProcessingStage.SUMMARIZING);
+        doc.setUpdatedAt(LocalDateTime.now());
+        saveAndPublishStatus(doc);
+
         OllamaRequestDTO ollamaRequestDTO = buildSummarizeRequest(doc);
 
         String logMessage = String.format(
@@ -251,8 +302,9 @@ public class OllamaConsumerService {
             OllamaApiResponseDTO ollamaResponse) {
         doc.setSummary(ollamaResponse.response());
         doc.setStatus(DocumentStatus.COMPLETED);
+        doc.setProcessingStage(ProcessingStage.DONE);
         doc.setUpdatedAt(LocalDateTime.now());
-        documentRepository.save(doc);
+        saveAndPublishStatus(doc);
 
         return KafkaSummaryResponseDTO.builder()
                 .correlationId(correlationId)
@@ -270,8 +322,9 @@ public class OllamaConsumerService {
             String errorMsg) {
         documentRepository.findById(documentId).ifPresent(doc -> {
             doc.setStatus(DocumentStatus.FAILED);
+            doc.setProcessingStage(ProcessingStage.FAILED);
             doc.setUpdatedAt(LocalDateTime.now());
-            documentRepository.save(doc);
+            saveAndPublishStatus(doc);
         });
 
         return KafkaSummaryResponseDTO.builder()
@@ -282,33 +335,9 @@ public class OllamaConsumerService {
                 .build();
     }
 
-    private String buildFullPrompt(String context, String userMessage) {
-        return """
-                                <system_role>
-                                Você é um assistente de IA útil e prestativo.
-                                Sua tarefa é responder perguntas baseadas ESTRITAMENTE no documento fornecido abaixo.
-                                </system_role>
-
-                                <rules>
-                                1. Se a resposta não estiver no texto, diga: "Não encontrei essa informação no documento".
-                                2. Não invente informações.
-                                3. Responda sempre em Português do Brasil.
-                                4. Seja direto e profissional.
-                                5. NÃO use Markdown na resposta (não use **negrito**, listas com -, # títulos, etc.).
-                                   Responda apenas em texto simples.
-                                </rules>
-
-                                <document_context>
-                                %s
-                                </document_context>
-
-                                <user_question>
-                                %s
-                                </user_question>
-
-                                RESPOSTA:
-                                """
-                .formatted(context, userMessage);
+    private void saveAndPublishStatus(Document doc) {
+        Document savedDoc = documentRepository.save(doc);
+        eventPublisher.publishEvent(DocumentStatusChangedEvent.of(this, savedDoc));
     }
 
     private String getChatContext(Long sessionId) {
@@ -0,0 +1,88 @@
+package br.com.montreal.ai.llmontreal.service.ollama;
+
+import br.com.montreal.ai.llmontreal.dto.OllamaEmbedRequestDTO;
+import br.com.montreal.ai.llmontreal.dto.OllamaEmbedResponseDTO;
+import br.com.montreal.ai.llmontreal.exception.OllamaException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+// Batched calls to Ollama's /api/embed. The semaphore caps how many batches are in flight across the live
+// ingestion and the backfill, so embedding never competes with chat for more than that share of Ollama.
+@Slf4j
+@Service
+public class OllamaEmbeddingClient {
+
+    private final WebClient webClient;
+    private final String model;
+    private final Semaphore permits;
+    private final long timeoutMs;
+
+    public OllamaEmbeddingClient(
+            WebClient webClient,
+            @Value("${spring.ai.ollama.embedding.model:nomic-embed-text}") String model,
+            @Value("${ingestion.embedding.max-concurrent-batches:2}") int maxConcurrentBatches,
+            @Value("${ingestion.embedding.timeout-ms:120000}") long timeoutMs
+    ) {
+        this.webClient = webClient;
+        this.model = model;
+        this.permits = new Semaphore(Math.max(1, maxConcurrentBatches), true);
+        this.timeoutMs = timeoutMs;
+    }
+
+    public String getModel() {
+        return model;
+    }
+
+    public List<float[]> embed(List<String> inputs) {
+        if (inputs.isEmpty()) {
+            return List.of();
+        }
+
+        acquire();
+        try {
+            OllamaEmbedResponseDTO response = webClient.post()
+                    .uri("/api/embed")
+                    .bodyValue(OllamaEmbedRequestDTO.builder().model(model).input(inputs).build())
+                    .retrieve()
+                    .bodyToMono(OllamaEmbedResponseDTO.class)
+                    .timeout(Duration.ofMillis(timeoutMs))
+                    .block();
+
+            if (response == null || response.embeddings() == null || response.embeddings().size() != inputs.size()) {
+                throw new OllamaException(String.format("Ollama error: expected %d embeddings from %s, got %s",
+                        inputs.size(), model, response == null || response.embeddings() == null
+                                ? "none" : response.embeddings().size()));
+            }
+
+            return response.embeddings().stream().map(OllamaEmbeddingClient::toArray).toList();
+        } finally {
+            permits.release();
+        }
+    }
+
+    private void acquire() {
+        try {
+            if (!permits.tryAcquire(timeoutMs, TimeUnit.MILLISECONDS)) {
+                throw new OllamaException("Timed out waiting for an embedding slot");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new OllamaException("Interrupted while waiting for an embedding slot", e);
+        }
+    }
+
+    private static float[] toArray(List<Float> values) {
+        float[] vector = new float[values.size()];
+        for (int i = 0; i < vector.length; i++) {
+            vector[i] = values.get(i);
+        }
+        return vector;
+    }
+}
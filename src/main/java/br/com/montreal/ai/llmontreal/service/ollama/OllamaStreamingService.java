@@ -0,0 +1,293 @@
+package br.com.montreal.ai.llmontreal.service.ollama;
+
+import br.com.montreal.ai.llmontreal.dto.ChatMessageResponseDTO;
+import br.com.montreal.ai.llmontreal.dto.ChatTokenDTO;
+import br.com.montreal.ai.llmontreal.dto.OllamaApiResponseDTO;
+import br.com.montreal.ai.llmontreal.dto.OllamaRequestDTO;
+import br.com.montreal.ai.llmontreal.entity.ChatMessage;
+import br.com.montreal.ai.llmontreal.entity.ChatSession;
+import br.com.montreal.ai.llmontreal.entity.Document;
+import br.com.montreal.ai.llmontreal.entity.enums.Author;
+import br.com.montreal.ai.llmontreal.exception.ErrorResponseDTO;
+import br.com.montreal.ai.llmontreal.exception.OllamaException;
+import br.com.montreal.ai.llmontreal.repository.DocumentRepository;
+import br.com.montreal.ai.llmontreal.service.ChatService;
+import jakarta.persistence.EntityNotFoundException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import reactor.core.Disposable;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAccumulator;
+
+// Chat without the Kafka round trip: Ollama generates with stream=true and every chunk is forwarded to the
+// client as an SSE "token" event as soon as it arrives. The full answer is persisted once Ollama reports done.
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class OllamaStreamingService {
+
+    private final WebClient webClient;
+    private final ChatService chatService;
+    private final DocumentRepository documentRepository;
+    private final OllamaLogApiCallService logApiCallService;
+
+    @Value("${ollama.api.model}")
+    private String ollamaModel;
+
+    @Value("${chat.stream.timeout-ms:300000}")
+    private long emitterTimeoutMs;
+
+    // Longest silence tolerated between two chunks (including the wait for the first one)
+    @Value("${chat.stream.idle-timeout-ms:120000}")
+    private long idleTimeoutMs;
+
+    private final AtomicLong streams = new AtomicLong();
+    private final AtomicLong active = new AtomicLong();
+    private final AtomicLong completed = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+    private final AtomicLong cancelled = new AtomicLong();
+    private final AtomicLong firstTokens = new AtomicLong();
+    private final AtomicLong totalTimeToFirstTokenMs = new AtomicLong();
+    private final LongAccumulator maxTimeToFirstTokenMs = new LongAccumulator(Math::max, 0);
+    private final AtomicLong totalDurationMs = new AtomicLong();
+
+    public record StreamStats(
+            long streams,
+            long active,
+            long completed,
+            long failed,
+            long cancelled,
+            double avgTimeToFirstTokenMs,
+            long maxTimeToFirstTokenMs,
+            double avgDurationMs
+    ) {
+    }
+
+    public SseEmitter streamChat(OllamaRequestDTO requestDTO, Long documentId, String correlationId) {
+        Document doc = documentRepository.findById(documentId)
+                .orElseThrow(() -> new EntityNotFoundException("Document not found by id: " + documentId));
+
+        ChatSession currentSession = chatService.getOrCreateSession(requestDTO.model(), doc);
+        chatService.addMessageToContext(currentSession.getId(), requestDTO.prompt(), Author.USER);
+
+        OllamaRequestDTO ollamaRequestDTO = OllamaRequestDTO.builder()
+                .model(ollamaModel)
+                .prompt(ChatPrompts.documentQuestion(doc.getExtractedContent(), requestDTO.prompt()))
+                .stream(true)
+                .build();
+
+        log.info("Streaming chat request {} for session {}. Calling model {}",
+                correlationId, currentSession.getId(), ollamaRequestDTO.model());
+
+        ChatStream stream = new ChatStream(correlationId, documentId, currentSession.getId(), createEmitter());
+        streams.incrementAndGet();
+        active.incrementAndGet();
+
+        // Chunks are handled off the Netty event loop: emitter writes and the final JPA save both block
+        Disposable subscription = webClient.post()
+                .uri("/api/generate")
+                .bodyValue(ollamaRequestDTO)
+                .retrieve()
+                .bodyToFlux(OllamaApiResponseDTO.class)
+                .timeout(Duration.ofMillis(idleTimeoutMs))
+                .publishOn(scheduler())
+                .subscribe(stream::onChunk, stream::onError, stream::onComplete);
+
+        stream.attach(subscription);
+        return stream.emitter;
+    }
+
+    public StreamStats stats() {
+        long tokens = firstTokens.get();
+        long finished = completed.get();
+        return new StreamStats(
+                streams.get(),
+                active.get(),
+                finished,
+                failed.get(),
+                cancelled.get(),
+                tokens == 0 ? 0 : (double) totalTimeToFirstTokenMs.get() / tokens,
+                maxTimeToFirstTokenMs.get(),
+                finished == 0 ? 0 : (double) totalDurationMs.get() / finished
+        );
+    }
+
+    SseEmitter createEmitter() {
+        return new SseEmitter(emitterTimeoutMs);
+    }
+
+    Scheduler scheduler() {
+        return Schedulers.boundedElastic();
+    }
+
+    private final class ChatStream {
+
+        private final String correlationId;
+        private final Long documentId;
+        private final Long sessionId;
+        private final SseEmitter emitter;
+        private final StringBuilder answer = new StringBuilder();
+        private final long startTime = System.currentTimeMillis();
+
+        private volatile Disposable subscription;
+        private boolean finished;
+        private long firstTokenAt;
+
+        ChatStream(String correlationId, Long documentId, Long sessionId, SseEmitter emitter) {
+            this.correlationId = correlationId;
+            this.documentId = documentId;
+            this.sessionId = sessionId;
+            this.emitter = emitter;
+        }
+
+        // The client closing the connection or the emitter timing out stops the generation in Ollama
+        void attach(Disposable subscription) {
+            this.subscription = subscription;
+            emitter.onCompletion(this::cancel);
+            emitter.onTimeout(this::cancel);
+            emitter.onError(e -> cancel());
+        }
+
+        void onChunk(OllamaApiResponseDTO chunk) {
+            String token = chunk.response();
+            if (token == null || token.isEmpty()) {
+                return;
+            }
+
+            if (firstTokenAt == 0) {
+                firstTokenAt = System.currentTimeMillis();
+                long timeToFirstToken = firstTokenAt - startTime;
+                firstTokens.incrementAndGet();
+                totalTimeToFirstTokenMs.addAndGet(timeToFirstToken);
+                maxTimeToFirstTokenMs.accumulate(timeToFirstToken);
+                log.info("First token for {} after {}ms", correlationId, timeToFirstToken);
+            }
+
+            answer.append(token);
+            send(SseEmitter.event().name("token").data(new ChatTokenDTO(token)));
+        }
+
+        void onComplete() {
+            if (answer.isEmpty()) {
+                onError(new OllamaException("Ollama error: response is empty"));
+                return;
+            }
+
+            ChatMessage chatMessage;
+            try {
+                chatMessage = chatService.addMessageToContext(sessionId, answer.toString(), Author.MODEL);
+            } catch (RuntimeException e) {
+                onError(e);
+                return;
+            }
+
+            if (!finish()) {
+                return;
+            }
+
+            long latency = System.currentTimeMillis() - startTime;
+            completed.incrementAndGet();
+            totalDurationMs.addAndGet(latency);
+            logApiCallService.updateApiCallLog(correlationId, latency, 200, null);
+            log.info("Streaming chat {} finished in {}ms ({} chars)", correlationId, latency, answer.length());
+
+            ChatMessageResponseDTO responseDTO = ChatMessageResponseDTO.builder()
+                    .documentId(documentId)
+                    .chatSessionId(sessionId)
+                    .author(chatMessage.getAuthor())
+                    .createdAt(chatMessage.getCreatedAt())
+                    .response(chatMessage.getMessage())
+                    .build();
+
+            try {
+                send(SseEmitter.event().name("done").data(responseDTO));
+                emitter.complete();
+            } catch (ClientGoneException e) {
+                log.debug("Client left before the end of chat stream {}", correlationId);
+            }
+        }
+
+        void onError(Throwable e) {
+            if (!finish()) {
+                return;
+            }
+
+            if (e instanceof ClientGoneException) {
+                cancelled.incrementAndGet();
+                log.info("Client disconnected from chat stream {} after {} chars", correlationId, answer.length());
+                return;
+            }
+
+            failed.incrementAndGet();
+            log.error("Streaming Ollama call failed for {}: {}", correlationId, e.getMessage());
+
+            String errorMsg = e.getMessage();
+            int statusCode = 500;
+            if (e instanceof WebClientResponseException ex) {
+                errorMsg = ex.getResponseBodyAsString();
+                statusCode = ex.getStatusCode().value();
+            }
+
+            logApiCallService.updateApiCallLog(correlationId, System.currentTimeMillis() - startTime,
+                    statusCode, errorMsg);
+
+            try {
+                send(SseEmitter.event().name("error")
+                        .data(new ErrorResponseDTO(statusCode, "Ollama Error", errorMsg, path())));
+                emitter.complete();
+            } catch (ClientGoneException ignored) {
+                // client already gone, nothing left to tell it
+            }
+        }
+
+        private void cancel() {
+            Disposable current = subscription;
+            if (current == null || !finish()) {
+                return;
+            }
+            current.dispose();
+            cancelled.incrementAndGet();
+            log.info("Chat stream {} closed by the client, generation cancelled", correlationId);
+        }
+
+        // Only the first of completion, failure and cancellation is counted
+        private synchronized boolean finish() {
+            if (finished) {
+                return false;
+            }
+            finished = true;
+            active.decrementAndGet();
+            return true;
+        }
+
+        private String path() {
+            return "/chat/" + documentId + "/stream";
+        }
+
+        // Throwing from the chunk consumer makes Reactor cancel the upstream request to Ollama
+        private void send(SseEmitter.SseEventBuilder event) {
+            try {
+                emitter.send(event);
+            } catch (IOException | IllegalStateException e) {
+                throw new ClientGoneException(e);
+            }
+        }
+    }
+
+    private static final class ClientGoneException extends RuntimeException {
+
+        ClientGoneException(Exception cause) {
+            super(cause.getMessage(), cause);
+        }
+    }
+}
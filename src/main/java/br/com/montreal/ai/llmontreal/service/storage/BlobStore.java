@@ -0,0 +1,13 @@
+package br.com.montreal.ai.llmontreal.service.storage;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+public interface BlobStore {
+
+    StoredBlob store(InputStream inputStream) throws IOException;
+
+    InputStream open(String blobKey) throws IOException;
+
+    boolean exists(String blobKey);
+}
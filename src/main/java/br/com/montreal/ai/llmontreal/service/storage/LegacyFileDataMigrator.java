@@ -0,0 +1,88 @@
+package br.com.montreal.ai.llmontreal.service.storage;
+
+import br.com.montreal.ai.llmontreal.exception.BlobStorageException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LegacyFileDataMigrator {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final BlobStore blobStore;
+
+    @Value("${file.storage.migrate-legacy-data:true}")
+    private boolean migrationEnabled;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void migrateLegacyFileData() {
+        if (!migrationEnabled) {
+            log.info("Legacy file data migration is disabled");
+            return;
+        }
+
+        try {
+            List<Long> documentIds = jdbcTemplate.queryForList(
+                    "SELECT id FROM documents WHERE blob_key IS NULL AND file_data IS NOT NULL",
+                    Long.class);
+
+            if (documentIds.isEmpty()) {
+                return;
+            }
+
+            log.info("Migrating {} legacy document(s) to the blob store", documentIds.size());
+
+            int migrated = 0;
+            for (Long documentId : documentIds) {
+                if (migrateDocument(documentId)) {
+                    migrated++;
+                }
+            }
+
+            log.info("Legacy file data migration finished: {}/{} document(s) migrated",
+                    migrated, documentIds.size());
+        } catch (Exception e) {
+            log.warn("Legacy file data migration skipped: {}", e.getMessage());
+        }
+    }
+
+    private boolean migrateDocument(Long documentId) {
+        try {
+            StoredBlob blob = jdbcTemplate.query(
+                    "SELECT file_data FROM documents WHERE id = ?",
+                    rs -> {
+                        if (!rs.next()) {
+                            return null;
+                        }
+                        try (InputStream in = rs.getBinaryStream(1)) {
+                            return in != null ? blobStore.store(in) : null;
+                        } catch (IOException e) {
+                            throw new BlobStorageException("Failed to store legacy file data", e);
+                        }
+                    },
+                    documentId);
+
+            if (blob == null) {
+                return false;
+            }
+
+            jdbcTemplate.update(
+                    "UPDATE documents SET blob_key = ?, file_size = ?, content_hash = ?, file_data = NULL WHERE id = ?",
+                    blob.key(), blob.size(), blob.sha256(), documentId);
+            return true;
+        } catch (Exception e) {
+            log.error("Failed to migrate file data of document {}: {}", documentId, e.getMessage());
+            return false;
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package br.com.montreal.ai.llmontreal.service.storage;
+
+import br.com.montreal.ai.llmontreal.exception.BlobStorageException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.regex.Pattern;
+
+@Slf4j
+@Component
+public class LocalFileSystemBlobStore implements BlobStore {
+
+    private static final int BUFFER_SIZE = 8192;
+    private static final Pattern SHA256_HEX = Pattern.compile("^[0-9a-f]{64}$");
+
+    private final Path rootPath;
+    private final Path tempPath;
+
+    public LocalFileSystemBlobStore(@Value("${file.storage.local.root-path:./data/blobs}") String rootPath) {
+        this.rootPath = Paths.get(rootPath).toAbsolutePath().normalize();
+        this.tempPath = this.rootPath.resolve("tmp");
+
+        try {
+            Files.createDirectories(this.tempPath);
+        } catch (IOException e) {
+            throw new BlobStorageException("Failed to create blob storage directory: " + this.rootPath, e);
+        }
+
+        log.info("Local blob store initialized at: {}", this.rootPath);
+    }
+
+    @Override
+    public StoredBlob store(InputStream inputStream) throws IOException {
+        Path tempFile = Files.createTempFile(tempPath, "upload-", ".tmp");
+
+        try {
+            MessageDigest digest = newSha256Digest();
+            long size = 0;
+
+            try (OutputStream out = new DigestOutputStream(Files.newOutputStream(tempFile), digest)) {
+                byte[] buffer = new byte[BUFFER_SIZE];
+                int bytesRead;
+                while ((bytesRead = inputStream.read(buffer)) != -1) {
+                    out.write(buffer, 0, bytesRead);
+                    size += bytesRead;
+                }
+            }
+
+            String sha256 = HexFormat.of().formatHex(digest.digest());
+            Path target = resolve(sha256);
+
+            if (Files.exists(target)) {
+                log.debug("Blob {} already stored, discarding duplicate upload", sha256);
+            } else {
+                Files.createDirectories(target.getParent());
+                moveIntoPlace(tempFile, target);
+                log.debug("Stored blob {} ({} bytes)", sha256, size);
+            }
+
+            return new StoredBlob(sha256, sha256, size);
+        } finally {
+            Files.deleteIfExists(tempFile);
+        }
+    }
+
+    @Override
+    public InputStream open(String blobKey) throws IOException {
+        return new BufferedInputStream(Files.newInputStream(resolve(blobKey)), BUFFER_SIZE);
+    }
+
+    @Override
+    public boolean exists(String blobKey) {
+        return blobKey != null && Files.exists(resolve(blobKey));
+    }
+
+    private Path resolve(String blobKey) {
+        if (blobKey == null || !SHA256_HEX.matcher(blobKey).matches()) {
+            throw new BlobStorageException("Invalid blob key: " + blobKey);
+        }
+
+        return rootPath
+                .resolve(blobKey.substring(0, 2))
+                .resolve(blobKey.substring(2, 4))
+                .resolve(blobKey);
+    }
+
+    private void moveIntoPlace(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    private MessageDigest newSha256Digest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new BlobStorageException("SHA-256 algorithm not available", e);
+        }
+    }
+}
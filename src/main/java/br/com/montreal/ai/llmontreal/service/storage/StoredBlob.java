@@ -0,0 +1,8 @@
+package br.com.montreal.ai.llmontreal.service.storage;
+
+public record StoredBlob(
+        String key,
+        String sha256,
+        long size
+) {
+}
@@ -0,0 +1,10 @@
+ALTER TABLE documents
+ADD COLUMN processing_stage VARCHAR(50);
+
+UPDATE documents
+SET processing_stage = CASE status
+    WHEN 'COMPLETED' THEN 'DONE'
+    WHEN 'FAILED' THEN 'FAILED'
+    WHEN 'PROCESSING' THEN 'EXTRACTING'
+    ELSE 'UPLOADED'
+END;
@@ -0,0 +1,5 @@
+ALTER TABLE documents
+ADD COLUMN upload_id VARCHAR(36);
+
+CREATE INDEX idx_documents_upload_id
+ON documents (upload_id);
@@ -0,0 +1,12 @@
+CREATE TABLE extraction_cache (
+    cache_key VARCHAR(64) PRIMARY KEY,
+    content_hash VARCHAR(64) NOT NULL,
+    content_type VARCHAR(255) NOT NULL,
+    extractor VARCHAR(255) NOT NULL,
+    config_fingerprint VARCHAR(255),
+    extracted_content TEXT NOT NULL,
+    created_at TIMESTAMP NOT NULL
+);
+
+CREATE INDEX idx_extraction_cache_content_hash
+ON extraction_cache (content_hash);
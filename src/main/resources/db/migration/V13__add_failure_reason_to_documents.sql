@@ -0,0 +1,2 @@
+ALTER TABLE documents
+ADD COLUMN failure_reason VARCHAR(500);
@@ -0,0 +1,17 @@
+CREATE TABLE extraction_checkpoints (
+    id BIGSERIAL PRIMARY KEY,
+    checkpoint_key VARCHAR(64) NOT NULL,
+    page_number INT NOT NULL,
+    content TEXT NOT NULL,
+    created_at TIMESTAMP NOT NULL,
+    CONSTRAINT uk_extraction_checkpoints_page UNIQUE (checkpoint_key, page_number)
+);
+
+CREATE INDEX idx_extraction_checkpoints_created_at
+ON extraction_checkpoints (created_at);
+
+ALTER TABLE documents
+ADD COLUMN pages_done INT;
+
+ALTER TABLE documents
+ADD COLUMN pages_total INT;
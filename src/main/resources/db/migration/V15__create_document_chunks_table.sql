@@ -0,0 +1,17 @@
+CREATE TABLE document_chunks (
+    id BIGSERIAL PRIMARY KEY,
+    document_id BIGINT NOT NULL,
+    chunk_index INT NOT NULL,
+    start_offset INT NOT NULL,
+    end_offset INT NOT NULL,
+    content TEXT NOT NULL,
+    embedding BYTEA,
+    embedding_model VARCHAR(255),
+    embedding_dimensions INT,
+    created_at TIMESTAMP NOT NULL,
+    CONSTRAINT fk_document_chunks_document FOREIGN KEY (document_id) REFERENCES documents(id) ON DELETE CASCADE,
+    CONSTRAINT uk_document_chunks_index UNIQUE (document_id, chunk_index)
+);
+
+ALTER TABLE documents
+ADD COLUMN ingested_at TIMESTAMP;
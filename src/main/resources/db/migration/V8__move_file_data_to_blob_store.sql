@@ -0,0 +1,5 @@
+ALTER TABLE documents
+ADD COLUMN blob_key VARCHAR(64);
+
+ALTER TABLE documents
+ADD COLUMN file_size BIGINT;
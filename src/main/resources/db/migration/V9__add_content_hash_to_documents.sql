@@ -0,0 +1,9 @@
+ALTER TABLE documents
+ADD COLUMN content_hash VARCHAR(64);
+
+UPDATE documents
+SET content_hash = blob_key
+WHERE blob_key IS NOT NULL;
+
+CREATE INDEX idx_documents_content_hash_status
+ON documents (content_hash, status);
@@ -0,0 +1,44 @@
+package br.com.montreal.ai.llmontreal.config;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+
+@DisplayName("VirtualThreadDiagnostics Unit Tests")
+class VirtualThreadDiagnosticsTest {
+
+    @Test
+    @DisplayName("Should not start the pinning monitor on platform threads")
+    void shouldStayIdleWithoutVirtualThreads() {
+        VirtualThreadDiagnostics diagnostics = new VirtualThreadDiagnostics(false, true, 20);
+
+        VirtualThreadDiagnostics.Stats stats = diagnostics.stats();
+
+        assertThat(stats.virtualThreads()).isFalse();
+        assertThat(stats.pinningMonitorActive()).isFalse();
+        assertThat(stats.pinnedEvents()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should aggregate pinned events by call site, most frequent first")
+    void shouldAggregatePinnedSites() {
+        VirtualThreadDiagnostics diagnostics = new VirtualThreadDiagnostics(false, false, 20);
+
+        diagnostics.record("br.com.montreal.ai.llmontreal.service.Foo.bar:42", Duration.ofMillis(30));
+        diagnostics.record("br.com.montreal.ai.llmontreal.service.Baz.qux:7", Duration.ofMillis(120));
+        diagnostics.record("br.com.montreal.ai.llmontreal.service.Baz.qux:7", Duration.ofMillis(50));
+
+        VirtualThreadDiagnostics.Stats stats = diagnostics.stats();
+
+        assertThat(stats.pinnedEvents()).isEqualTo(3);
+        assertThat(stats.totalPinnedMs()).isEqualTo(200.0);
+        assertThat(stats.maxPinnedMs()).isEqualTo(120.0);
+        assertThat(stats.topPinnedSites()).containsExactly(
+                entry("br.com.montreal.ai.llmontreal.service.Baz.qux:7", 2L),
+                entry("br.com.montreal.ai.llmontreal.service.Foo.bar:42", 1L));
+    }
+}
@@ -66,7 +66,7 @@ class ChatControllerIntegrationTests {
                 .status(DocumentStatus.COMPLETED)
                 .createdAt(LocalDateTime.now())
                 .fileType("application/pdf")
-                .fileData("test content".getBytes())
+                .blobKey("test-blob-key")
                 .extractedContent("This is the extracted content for testing chat")
                 .chatSession(testChatSession)
                 .build();
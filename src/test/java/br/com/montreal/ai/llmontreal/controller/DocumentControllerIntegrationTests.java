@@ -4,6 +4,7 @@ import br.com.montreal.ai.llmontreal.config.TestOllamaConfig;
 import br.com.montreal.ai.llmontreal.dto.kafka.KafkaSummaryResponseDTO;
 import br.com.montreal.ai.llmontreal.entity.Document;
 import br.com.montreal.ai.llmontreal.entity.enums.DocumentStatus;
+import br.com.montreal.ai.llmontreal.entity.enums.ProcessingStage;
 import br.com.montreal.ai.llmontreal.repository.DocumentRepository;
 import br.com.montreal.ai.llmontreal.service.DocumentExtractionService;
 import br.com.montreal.ai.llmontreal.service.ollama.OllamaProducerService;
@@ -22,10 +23,14 @@ import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
 
+import java.io.ByteArrayOutputStream;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.hamcrest.Matchers.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
@@ -91,7 +96,7 @@ class DocumentControllerIntegrationTests {
                 .status(status)
                 .createdAt(createdAt)
                 .fileType("application/pdf")
-                .fileData("test content".getBytes())
+                .blobKey("test-blob-key")
                 .build();
     }
 
@@ -187,11 +192,12 @@ class DocumentControllerIntegrationTests {
 
         mockMvc.perform(multipart("/documents")
                         .file(file))
-                .andExpect(status().isCreated())
+                .andExpect(status().isAccepted())
                 .andExpect(jsonPath("$.id").isNumber())
                 .andExpect(jsonPath("$.fileName", is("test-document.pdf")))
                 .andExpect(jsonPath("$.fileType", is(MediaType.APPLICATION_PDF_VALUE)))
-                .andExpect(jsonPath("$.status", is(DocumentStatus.COMPLETED.name())))
+                .andExpect(jsonPath("$.status", is(DocumentStatus.PENDING.name())))
+                .andExpect(jsonPath("$.uploadId").isString())
                 .andExpect(jsonPath("$.uploadedAt").exists());
     }
 
@@ -212,10 +218,47 @@ class DocumentControllerIntegrationTests {
 
         mockMvc.perform(multipart("/documents")
                         .file(imageFile))
-                .andExpect(status().isCreated())
+                .andExpect(status().isAccepted())
                 .andExpect(jsonPath("$.fileName", is("test-image.png")))
                 .andExpect(jsonPath("$.fileType", is(MediaType.IMAGE_PNG_VALUE)))
-                .andExpect(jsonPath("$.status", is(DocumentStatus.COMPLETED.name())));
+                .andExpect(jsonPath("$.status", is(DocumentStatus.PENDING.name())));
+    }
+
+    @Test
+    void shouldUploadZipFileAndPersistEntriesInBatch() throws Exception {
+        ByteArrayOutputStream zipBytes = new ByteArrayOutputStream();
+        try (ZipOutputStream zos = new ZipOutputStream(zipBytes)) {
+            for (int i = 1; i <= 3; i++) {
+                zos.putNextEntry(new ZipEntry("file" + i + ".txt"));
+                zos.write(("Content of file " + i).getBytes());
+                zos.closeEntry();
+            }
+        }
+
+        MockMultipartFile zipFile = new MockMultipartFile(
+                "file",
+                "batch.zip",
+                "application/zip",
+                zipBytes.toByteArray()
+        );
+
+        mockMvc.perform(multipart("/documents")
+                        .file(zipFile))
+                .andExpect(status().isAccepted())
+                .andExpect(jsonPath("$.totalDocuments", is(3)))
+                .andExpect(jsonPath("$.documentIds", hasSize(3)))
+                .andExpect(jsonPath("$.fileName", is("batch/file1.txt")));
+
+        List<Document> zipDocuments = documentRepository.findAll().stream()
+                .filter(doc -> doc.getFileName().startsWith("batch/"))
+                .toList();
+
+        assertThat(zipDocuments)
+                .hasSize(3)
+                .allMatch(doc -> doc.getId() != null)
+                .allMatch(doc -> doc.getUploadId() != null)
+                .allMatch(doc -> doc.getStatus() == DocumentStatus.PENDING)
+                .allMatch(doc -> doc.getProcessingStage() == ProcessingStage.UPLOADED);
     }
 
     @Test
@@ -225,7 +268,7 @@ class DocumentControllerIntegrationTests {
                 .status(DocumentStatus.COMPLETED)
                 .createdAt(LocalDateTime.now())
                 .fileType("application/pdf")
-                .fileData("test content".getBytes())
+                .blobKey("test-blob-key")
                 .extractedContent("This is the extracted content from the document")
                 .build();
 
@@ -236,6 +279,26 @@ class DocumentControllerIntegrationTests {
                 .andExpect(jsonPath("$", is("This is the extracted content from the document")));
     }
 
+    @Test
+    void shouldGetDocumentProcessingStatus() throws Exception {
+        Document document = Document.builder()
+                .fileName("doc-being-summarized.pdf")
+                .status(DocumentStatus.PROCESSING)
+                .processingStage(ProcessingStage.SUMMARIZING)
+                .createdAt(LocalDateTime.now())
+                .fileType("application/pdf")
+                .blobKey("test-blob-key")
+                .build();
+
+        Document savedDocument = documentRepository.saveAndFlush(document);
+
+        mockMvc.perform(get("/documents/{id}/status", savedDocument.getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.id", is(savedDocument.getId().intValue())))
+                .andExpect(jsonPath("$.status", is(DocumentStatus.PROCESSING.name())))
+                .andExpect(jsonPath("$.stage", is(ProcessingStage.SUMMARIZING.name())));
+    }
+
     @Test
     void shouldReturnNotFoundWhenDocumentDoesNotExist() throws Exception {
         Long nonExistentId = 99999L;
@@ -251,7 +314,7 @@ class DocumentControllerIntegrationTests {
                 .status(DocumentStatus.PENDING)
                 .createdAt(LocalDateTime.now())
                 .fileType("application/pdf")
-                .fileData("test content".getBytes())
+                .blobKey("test-blob-key")
                 .extractedContent(null)
                 .build();
 
@@ -1,11 +1,14 @@
 package br.com.montreal.ai.llmontreal.controller;
 
+import br.com.montreal.ai.llmontreal.dto.DocumentStatusDTO;
 import br.com.montreal.ai.llmontreal.dto.DocumentUploadResponse;
 import br.com.montreal.ai.llmontreal.entity.Document;
 import br.com.montreal.ai.llmontreal.entity.enums.DocumentStatus;
+import br.com.montreal.ai.llmontreal.entity.enums.ProcessingStage;
 import br.com.montreal.ai.llmontreal.exception.FileValidationException;
 import br.com.montreal.ai.llmontreal.exception.GlobalExceptionHandler;
 import br.com.montreal.ai.llmontreal.service.DocumentService;
+import br.com.montreal.ai.llmontreal.service.DocumentStatusStreamService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -18,15 +21,18 @@ import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.mapping.JpaMetamodelMappingContext;
+import org.springframework.http.MediaType;
 import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
 import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 import static org.hamcrest.Matchers.*;
 import static org.mockito.ArgumentMatchers.any;
@@ -43,6 +49,9 @@ class DocumentControllerTests {
     @MockitoBean
     private DocumentService documentService;
 
+    @MockitoBean
+    private DocumentStatusStreamService statusStreamService;
+
     @MockitoBean
     private JpaMetamodelMappingContext jpaMetamodelMappingContext;
 
@@ -151,11 +160,81 @@ class DocumentControllerTests {
 
         mockMvc.perform(MockMvcRequestBuilders.multipart("/documents")
                         .file(file))
-                .andExpect(MockMvcResultMatchers.status().isCreated());
+                .andExpect(MockMvcResultMatchers.status().isAccepted())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.id", is(1)))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.status", is(DocumentStatus.PENDING.name())));
 
         verify(documentService).uploadFile(any(MultipartFile.class), nullable(String.class));
     }
 
+    @Test
+    void shouldReturnCreatedWhenUploadIsAlreadyCompleted() throws Exception {
+        MockMultipartFile file = new MockMultipartFile(
+                "file",
+                "test-document.pdf",
+                "application/pdf",
+                "PDF content".getBytes()
+        );
+
+        Document completedDoc = Document.builder()
+                .id(2L)
+                .fileName("test-document.pdf")
+                .fileType("application/pdf")
+                .status(DocumentStatus.COMPLETED)
+                .createdAt(LocalDateTime.now())
+                .build();
+
+        when(documentService.uploadFile(any(MultipartFile.class), nullable(String.class)))
+                .thenReturn(new DocumentUploadResponse(completedDoc));
+
+        mockMvc.perform(MockMvcRequestBuilders.multipart("/documents")
+                        .file(file))
+                .andExpect(MockMvcResultMatchers.status().isCreated());
+    }
+
+    @Test
+    void shouldGetDocumentStatus() throws Exception {
+        DocumentStatusDTO statusDTO = new DocumentStatusDTO(
+                1L, "upload-1", DocumentStatus.PROCESSING, ProcessingStage.SUMMARIZING, LocalDateTime.now(),
+                null, null, null);
+
+        when(documentService.getDocumentStatus(1L)).thenReturn(Optional.of(statusDTO));
+
+        mockMvc.perform(MockMvcRequestBuilders.get("/documents/{id}/status", 1L))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.id", is(1)))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.status", is(DocumentStatus.PROCESSING.name())))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.stage", is(ProcessingStage.SUMMARIZING.name())));
+    }
+
+    @Test
+    void shouldReturnNotFoundForUnknownDocumentStatus() throws Exception {
+        when(documentService.getDocumentStatus(99L)).thenReturn(Optional.empty());
+
+        mockMvc.perform(MockMvcRequestBuilders.get("/documents/{id}/status", 99L))
+                .andExpect(MockMvcResultMatchers.status().isNotFound());
+    }
+
+    @Test
+    void shouldOpenDocumentStatusStream() throws Exception {
+        when(statusStreamService.subscribeToDocument(1L)).thenReturn(Optional.of(new SseEmitter()));
+
+        mockMvc.perform(MockMvcRequestBuilders.get("/documents/{id}/events", 1L)
+                        .accept(MediaType.TEXT_EVENT_STREAM))
+                .andExpect(MockMvcResultMatchers.request().asyncStarted());
+
+        verify(statusStreamService).subscribeToDocument(1L);
+    }
+
+    @Test
+    void shouldReturnNotFoundForUnknownUploadStatusStream() throws Exception {
+        when(statusStreamService.subscribeToUpload("unknown")).thenReturn(Optional.empty());
+
+        mockMvc.perform(MockMvcRequestBuilders.get("/documents/uploads/{uploadId}/events", "unknown")
+                        .accept(MediaType.TEXT_EVENT_STREAM))
+                .andExpect(MockMvcResultMatchers.status().isNotFound());
+    }
+
     @Test
     void shouldReturnBadRequestWhenFileValidationFails() throws Exception {
         MockMultipartFile file = new MockMultipartFile(
@@ -2,7 +2,9 @@ package br.com.montreal.ai.llmontreal.listener;
 
 import br.com.montreal.ai.llmontreal.entity.Document;
 import br.com.montreal.ai.llmontreal.entity.enums.DocumentStatus;
+import br.com.montreal.ai.llmontreal.entity.enums.ProcessingStage;
 import br.com.montreal.ai.llmontreal.event.DocumentExtractionCompletedEvent;
+import br.com.montreal.ai.llmontreal.event.DocumentStatusChangedEvent;
 import br.com.montreal.ai.llmontreal.repository.DocumentRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -13,6 +15,7 @@ import org.mockito.Captor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.time.LocalDateTime;
 import java.util.Optional;
@@ -28,12 +31,18 @@ class DocumentExtractionEventListenerTest {
     @Mock
     private DocumentRepository documentRepository;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private DocumentExtractionEventListener listener;
 
     @Captor
     private ArgumentCaptor<Document> documentCaptor;
 
+    @Captor
+    private ArgumentCaptor<DocumentStatusChangedEvent> statusEventCaptor;
+
     private Document document;
     private final String extractedContent = "Conteúdo extraído do documento";
 
@@ -43,7 +52,8 @@ class DocumentExtractionEventListenerTest {
                 .id(1L)
                 .fileName("test-document.pdf")
                 .fileType("application/pdf")
-                .fileData("dummy data".getBytes())
+                .blobKey("test-blob-key")
+                .uploadId("test-upload-id")
                 .status(DocumentStatus.PROCESSING)
                 .createdAt(LocalDateTime.now())
                 .updatedAt(LocalDateTime.now())
@@ -90,6 +100,27 @@ class DocumentExtractionEventListenerTest {
         assertThat(savedDocument.getUpdatedAt()).isNotNull();
     }
 
+    @Test
+    @DisplayName("Should publish status change after updating document")
+    void shouldPublishStatusChangeAfterUpdatingDocument() {
+        DocumentExtractionCompletedEvent event = DocumentExtractionCompletedEvent.success(
+                this, 1L, extractedContent
+        );
+
+        when(documentRepository.findById(1L)).thenReturn(Optional.of(document));
+        when(documentRepository.save(any(Document.class))).thenReturn(document);
+
+        listener.handleExtractionCompleted(event);
+
+        verify(eventPublisher).publishEvent(statusEventCaptor.capture());
+        DocumentStatusChangedEvent statusEvent = statusEventCaptor.getValue();
+
+        assertThat(statusEvent.getDocumentId()).isEqualTo(1L);
+        assertThat(statusEvent.getUploadId()).isEqualTo("test-upload-id");
+        assertThat(statusEvent.getStatus()).isEqualTo(DocumentStatus.COMPLETED);
+        assertThat(statusEvent.getStage()).isEqualTo(ProcessingStage.QUEUED_FOR_SUMMARY);
+    }
+
     @Test
     @DisplayName("Should handle document not found gracefully")
     void shouldHandleDocumentNotFoundGracefully() {
@@ -102,6 +133,7 @@ class DocumentExtractionEventListenerTest {
         listener.handleExtractionCompleted(event);
 
         verify(documentRepository, never()).save(any(Document.class));
+        verifyNoInteractions(eventPublisher);
     }
 
     @Test
@@ -0,0 +1,93 @@
+package br.com.montreal.ai.llmontreal.service;
+
+import br.com.montreal.ai.llmontreal.entity.Document;
+import br.com.montreal.ai.llmontreal.entity.enums.DocumentStatus;
+import br.com.montreal.ai.llmontreal.repository.DocumentRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("DocumentDeduplicationService Unit Tests")
+class DocumentDeduplicationServiceTest {
+
+    private static final String CONTENT_HASH = "2cf24dba5fb0a30e26e83b2ac5b9e29e1b161e5c1fa7425e73043362938b9824";
+
+    @Mock
+    private DocumentRepository documentRepository;
+
+    @InjectMocks
+    private DocumentDeduplicationService deduplicationService;
+
+    private Document newDocument;
+
+    @BeforeEach
+    void setUp() {
+        newDocument = Document.builder()
+                .fileName("contrato.pdf")
+                .fileType("application/pdf")
+                .contentHash(CONTENT_HASH)
+                .status(DocumentStatus.PENDING)
+                .createdAt(LocalDateTime.now())
+                .build();
+    }
+
+    @Test
+    @DisplayName("Should copy extracted content and summary from a completed duplicate")
+    void shouldCopyResultsFromCompletedDuplicate() {
+        Document completed = Document.builder()
+                .id(1L)
+                .contentHash(CONTENT_HASH)
+                .status(DocumentStatus.COMPLETED)
+                .extractedContent("Conteúdo extraído")
+                .summary("Resumo")
+                .build();
+
+        when(documentRepository.findFirstByContentHashAndStatusAndSummaryIsNotNullOrderByIdDesc(
+                CONTENT_HASH, DocumentStatus.COMPLETED)).thenReturn(Optional.of(completed));
+
+        boolean reused = deduplicationService.reuseCompletedResults(newDocument);
+
+        assertThat(reused).isTrue();
+        assertThat(newDocument.getStatus()).isEqualTo(DocumentStatus.COMPLETED);
+        assertThat(newDocument.getExtractedContent()).isEqualTo("Conteúdo extraído");
+        assertThat(newDocument.getSummary()).isEqualTo("Resumo");
+        assertThat(newDocument.getUpdatedAt()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("Should leave the document untouched when no completed duplicate exists")
+    void shouldNotChangeDocumentWithoutDuplicate() {
+        when(documentRepository.findFirstByContentHashAndStatusAndSummaryIsNotNullOrderByIdDesc(
+                CONTENT_HASH, DocumentStatus.COMPLETED)).thenReturn(Optional.empty());
+
+        boolean reused = deduplicationService.reuseCompletedResults(newDocument);
+
+        assertThat(reused).isFalse();
+        assertThat(newDocument.getStatus()).isEqualTo(DocumentStatus.PENDING);
+        assertThat(newDocument.getSummary()).isNull();
+    }
+
+    @Test
+    @DisplayName("Should not query the repository when the document has no hash")
+    void shouldSkipLookupWithoutHash() {
+        newDocument.setContentHash(null);
+
+        boolean reused = deduplicationService.reuseCompletedResults(newDocument);
+
+        assertThat(reused).isFalse();
+        verify(documentRepository, never())
+                .findFirstByContentHashAndStatusAndSummaryIsNotNullOrderByIdDesc(any(), any());
+    }
+}
@@ -5,8 +5,15 @@ import br.com.montreal.ai.llmontreal.entity.enums.DocumentStatus;
 import br.com.montreal.ai.llmontreal.event.DocumentExtractionCompletedEvent;
 import br.com.montreal.ai.llmontreal.exception.ExtractionException;
 import br.com.montreal.ai.llmontreal.repository.DocumentRepository;
+import br.com.montreal.ai.llmontreal.repository.ExtractionCacheRepository;
 import br.com.montreal.ai.llmontreal.service.extraction.ContentExtractor;
+import br.com.montreal.ai.llmontreal.service.extraction.ExtractionCache;
+import br.com.montreal.ai.llmontreal.service.extraction.ExtractionExecutors;
+import br.com.montreal.ai.llmontreal.service.extraction.ExtractionWatchdog;
+import br.com.montreal.ai.llmontreal.service.extraction.ExtractorRegistry;
+import br.com.montreal.ai.llmontreal.service.extraction.worker.ExtractionWorkerPool;
 import br.com.montreal.ai.llmontreal.service.ollama.OllamaProducerService;
+import br.com.montreal.ai.llmontreal.service.storage.BlobStore;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -17,10 +24,13 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.context.ApplicationEventPublisher;
 
+import java.io.ByteArrayInputStream;
 import java.io.InputStream;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.RejectedExecutionException;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.*;
@@ -41,8 +51,25 @@ class DocumentExtractionServiceTest {
     @Mock
     private ContentExtractor contentExtractor;
 
+    @Mock
+    private BlobStore blobStore;
+
+    @Mock
+    private ContentExtractor ocrExtractor;
+
+    @Mock
+    private ExtractionCacheRepository extractionCacheRepository;
+
+    @Mock
+    private ExtractionWorkerPool extractionWorkerPool;
+
     private DocumentExtractionService documentExtractionService;
 
+    private ExtractionWatchdog extractionWatchdog = new ExtractionWatchdog(60_000, "", 16);
+
+    private ExtractionExecutors extractionExecutors =
+            new ExtractionExecutors(Runnable::run, Runnable::run, Runnable::run, "image/*", 100);
+
     @Captor
     private ArgumentCaptor<DocumentExtractionCompletedEvent> eventCaptor;
 
@@ -55,17 +82,26 @@ class DocumentExtractionServiceTest {
                 .id(1L)
                 .fileName("test-document.pdf")
                 .fileType("application/pdf")
-                .fileData("dummy file data".getBytes())
+                .blobKey("test-blob-key")
                 .status(DocumentStatus.PENDING)
                 .createdAt(LocalDateTime.now())
                 .updatedAt(LocalDateTime.now())
                 .build();
 
-        documentExtractionService = new DocumentExtractionService(
-                List.of(contentExtractor),
+        documentExtractionService = createService(contentExtractor);
+    }
+
+    private DocumentExtractionService createService(ContentExtractor... extractors) {
+        return new DocumentExtractionService(
+                new ExtractorRegistry(List.of(extractors)),
                 documentRepository,
                 eventPublisher,
-                ollamaProducerService
+                ollamaProducerService,
+                blobStore,
+                new ExtractionCache(extractionCacheRepository, true, 16, 10_000, 100_000),
+                extractionWatchdog,
+                extractionWorkerPool,
+                extractionExecutors
         );
     }
 
@@ -75,6 +111,7 @@ class DocumentExtractionServiceTest {
         when(documentRepository.findById(1L)).thenReturn(Optional.of(document));
         when(documentRepository.save(any(Document.class))).thenReturn(document);
         when(contentExtractor.supportsThisContentType("application/pdf")).thenReturn(true);
+        when(blobStore.open("test-blob-key")).thenReturn(new ByteArrayInputStream("dummy file data".getBytes()));
         when(contentExtractor.extractContent(any(InputStream.class), eq("application/pdf")))
                 .thenReturn(extractedContent);
 
@@ -111,6 +148,7 @@ class DocumentExtractionServiceTest {
         when(documentRepository.findById(1L)).thenReturn(Optional.of(document));
         when(documentRepository.save(any(Document.class))).thenReturn(document);
         when(contentExtractor.supportsThisContentType("application/pdf")).thenReturn(true);
+        when(blobStore.open("test-blob-key")).thenReturn(new ByteArrayInputStream("dummy file data".getBytes()));
         when(contentExtractor.extractContent(any(InputStream.class), eq("application/pdf")))
                 .thenThrow(new ExtractionException("Failed to extract content"));
 
@@ -132,7 +170,7 @@ class DocumentExtractionServiceTest {
                 .id(2L)
                 .fileName("test.xyz")
                 .fileType("application/xyz")
-                .fileData("dummy data".getBytes())
+                .blobKey("test-blob-key")
                 .status(DocumentStatus.PENDING)
                 .createdAt(LocalDateTime.now())
                 .build();
@@ -160,6 +198,7 @@ class DocumentExtractionServiceTest {
         when(documentRepository.findById(1L)).thenReturn(Optional.of(document));
         when(documentRepository.save(any(Document.class))).thenReturn(document);
         when(contentExtractor.supportsThisContentType("application/pdf")).thenReturn(true);
+        when(blobStore.open("test-blob-key")).thenReturn(new ByteArrayInputStream("dummy file data".getBytes()));
         when(contentExtractor.extractContent(any(InputStream.class), eq("application/pdf")))
                 .thenReturn(extractedContent);
 
@@ -171,5 +210,232 @@ class DocumentExtractionServiceTest {
         assertThat(savedDocument.getStatus()).isEqualTo(DocumentStatus.PROCESSING);
         assertThat(savedDocument.getUpdatedAt()).isNotNull();
     }
-}
 
+    @Test
+    @DisplayName("Should fall back to OCR when PDF has no text layer")
+    void shouldFallBackToOcrWhenPdfHasNoTextLayer() throws Exception {
+        documentExtractionService = createService(contentExtractor, ocrExtractor);
+        when(documentRepository.findById(1L)).thenReturn(Optional.of(document));
+        when(documentRepository.save(any(Document.class))).thenReturn(document);
+        when(contentExtractor.supportsThisContentType("application/pdf")).thenReturn(true);
+        when(ocrExtractor.supportsThisContentType("application/pdf")).thenReturn(true);
+        when(blobStore.open("test-blob-key"))
+                .thenReturn(new ByteArrayInputStream("dummy file data".getBytes()))
+                .thenReturn(new ByteArrayInputStream("dummy file data".getBytes()));
+        when(contentExtractor.extractContent(any(InputStream.class), eq("application/pdf")))
+                .thenReturn("   ");
+        when(ocrExtractor.extractContent(any(InputStream.class), eq("application/pdf")))
+                .thenReturn(extractedContent);
+
+        documentExtractionService.extractContentAsync(1L, "test-correlation-id");
+
+        verify(blobStore, times(2)).open("test-blob-key");
+        verify(eventPublisher).publishEvent(eventCaptor.capture());
+        DocumentExtractionCompletedEvent event = eventCaptor.getValue();
+
+        assertThat(event.isSuccess()).isTrue();
+        assertThat(event.getExtractedContent()).isEqualTo(extractedContent);
+    }
+
+    @Test
+    @DisplayName("Should move the OCR fallback of a scanned PDF from the parse lane to the OCR lane")
+    void shouldRunOcrFallbackOnOcrLane() throws Exception {
+        List<ExtractionExecutors.Lane> lanes = new ArrayList<>();
+        extractionExecutors = new ExtractionExecutors(
+                task -> {
+                    lanes.add(ExtractionExecutors.Lane.OCR);
+                    task.run();
+                },
+                task -> {
+                    lanes.add(ExtractionExecutors.Lane.PARSE);
+                    task.run();
+                },
+                Runnable::run, "image/*", 100);
+        documentExtractionService = createService(contentExtractor, ocrExtractor);
+        when(documentRepository.findById(1L)).thenReturn(Optional.of(document));
+        when(documentRepository.save(any(Document.class))).thenReturn(document);
+        when(contentExtractor.supportsThisContentType("application/pdf")).thenReturn(true);
+        when(ocrExtractor.supportsThisContentType("application/pdf")).thenReturn(true);
+        when(ocrExtractor.requiresOcr()).thenReturn(true);
+        when(blobStore.open("test-blob-key"))
+                .thenReturn(new ByteArrayInputStream("dummy file data".getBytes()))
+                .thenReturn(new ByteArrayInputStream("dummy file data".getBytes()));
+        when(contentExtractor.extractContent(any(InputStream.class), eq("application/pdf")))
+                .thenReturn("   ");
+        when(ocrExtractor.extractContent(any(InputStream.class), eq("application/pdf")))
+                .thenReturn(extractedContent);
+
+        documentExtractionService.extractContentAsync(1L, "test-correlation-id");
+
+        assertThat(lanes).containsExactly(ExtractionExecutors.Lane.PARSE, ExtractionExecutors.Lane.OCR);
+        verify(contentExtractor).extractContent(any(InputStream.class), eq("application/pdf"));
+        verify(ocrExtractor).extractContent(any(InputStream.class), eq("application/pdf"));
+        verify(eventPublisher).publishEvent(eventCaptor.capture());
+        assertThat(eventCaptor.getValue().isSuccess()).isTrue();
+        assertThat(eventCaptor.getValue().getExtractedContent()).isEqualTo(extractedContent);
+    }
+
+    @Test
+    @DisplayName("Should not save the copy loaded before extraction once the document changed meanwhile")
+    void shouldReloadDocumentWhenCompletingExtraction() throws Exception {
+        Document current = Document.builder()
+                .id(1L)
+                .fileName("test-document.pdf")
+                .fileType("application/pdf")
+                .blobKey("test-blob-key")
+                .status(DocumentStatus.PROCESSING)
+                .pagesDone(3)
+                .pagesTotal(3)
+                .build();
+        when(documentRepository.findById(1L)).thenReturn(Optional.of(document), Optional.of(current));
+        when(documentRepository.save(any(Document.class))).thenReturn(document);
+        when(contentExtractor.supportsThisContentType("application/pdf")).thenReturn(true);
+        when(blobStore.open("test-blob-key")).thenReturn(new ByteArrayInputStream("dummy file data".getBytes()));
+        when(contentExtractor.extractContent(any(InputStream.class), eq("application/pdf")))
+                .thenReturn(extractedContent);
+
+        documentExtractionService.extractContentAsync(1L, "test-correlation-id");
+
+        verify(documentRepository, times(1)).save(any(Document.class));
+        verify(ollamaProducerService).sendSummarizeRequest(current, "test-correlation-id");
+    }
+
+    @Test
+    @DisplayName("Should leave marking an empty extraction as failed to the event listener")
+    void shouldNotSaveDocumentWhenExtractionIsEmpty() throws Exception {
+        when(documentRepository.findById(1L)).thenReturn(Optional.of(document));
+        when(documentRepository.save(any(Document.class))).thenReturn(document);
+        when(contentExtractor.supportsThisContentType("application/pdf")).thenReturn(true);
+        when(blobStore.open("test-blob-key")).thenReturn(new ByteArrayInputStream("dummy file data".getBytes()));
+        when(contentExtractor.extractContent(any(InputStream.class), eq("application/pdf")))
+                .thenReturn("   ");
+
+        documentExtractionService.extractContentAsync(1L, "test-correlation-id");
+
+        verify(documentRepository, times(1)).save(any(Document.class));
+        verify(eventPublisher).publishEvent(eventCaptor.capture());
+        assertThat(eventCaptor.getValue().isSuccess()).isFalse();
+        assertThat(eventCaptor.getValue().getErrorMessage()).isEqualTo("Nenhum conteúdo pôde ser extraído do documento.");
+        verifyNoInteractions(ollamaProducerService);
+    }
+
+    @Test
+    @DisplayName("Should not run OCR fallback when primary extraction returns text")
+    void shouldNotRunOcrFallbackWhenTextIsExtracted() throws Exception {
+        documentExtractionService = createService(contentExtractor, ocrExtractor);
+        when(documentRepository.findById(1L)).thenReturn(Optional.of(document));
+        when(documentRepository.save(any(Document.class))).thenReturn(document);
+        when(contentExtractor.supportsThisContentType("application/pdf")).thenReturn(true);
+        when(ocrExtractor.supportsThisContentType("application/pdf")).thenReturn(true);
+        when(blobStore.open("test-blob-key")).thenReturn(new ByteArrayInputStream("dummy file data".getBytes()));
+        when(contentExtractor.extractContent(any(InputStream.class), eq("application/pdf")))
+                .thenReturn(extractedContent);
+
+        documentExtractionService.extractContentAsync(1L, "test-correlation-id");
+
+        verify(ocrExtractor, never()).extractContent(any(InputStream.class), anyString());
+    }
+
+    @Test
+    @DisplayName("Should reuse cached extraction for the same content hash")
+    void shouldReuseCachedExtractionForSameContentHash() throws Exception {
+        document.setContentHash("a".repeat(64));
+        when(documentRepository.findById(1L)).thenReturn(Optional.of(document));
+        when(documentRepository.save(any(Document.class))).thenReturn(document);
+        when(contentExtractor.supportsThisContentType("application/pdf")).thenReturn(true);
+        when(blobStore.open("test-blob-key")).thenReturn(new ByteArrayInputStream("dummy file data".getBytes()));
+        when(contentExtractor.extractContent(any(InputStream.class), eq("application/pdf")))
+                .thenReturn(extractedContent);
+
+        documentExtractionService.extractContentAsync(1L, "first-correlation-id");
+        documentExtractionService.extractContentAsync(1L, "second-correlation-id");
+
+        verify(contentExtractor, times(1)).extractContent(any(InputStream.class), eq("application/pdf"));
+        verify(blobStore, times(1)).open("test-blob-key");
+        verify(extractionCacheRepository).save(any());
+        verify(eventPublisher, times(2)).publishEvent(eventCaptor.capture());
+        assertThat(eventCaptor.getAllValues())
+                .allSatisfy(event -> assertThat(event.getExtractedContent()).isEqualTo(extractedContent));
+    }
+
+    @Test
+    @DisplayName("Should fail with a timeout reason and skip fallback when the deadline expires")
+    void shouldFailWithTimeoutWhenDeadlineExpires() throws Exception {
+        extractionWatchdog = new ExtractionWatchdog(100, "", 16);
+        documentExtractionService = createService(contentExtractor, ocrExtractor);
+        when(documentRepository.findById(1L)).thenReturn(Optional.of(document));
+        when(documentRepository.save(any(Document.class))).thenReturn(document);
+        when(contentExtractor.supportsThisContentType("application/pdf")).thenReturn(true);
+        when(ocrExtractor.supportsThisContentType("application/pdf")).thenReturn(true);
+        when(blobStore.open("test-blob-key")).thenReturn(new ByteArrayInputStream("dummy file data".getBytes()));
+        when(contentExtractor.extractContent(any(InputStream.class), eq("application/pdf")))
+                .thenAnswer(invocation -> {
+                    long giveUpAt = System.nanoTime() + 10_000_000_000L;
+                    while (!Thread.currentThread().isInterrupted() && System.nanoTime() < giveUpAt) {
+                        Thread.onSpinWait();
+                    }
+                    throw new ExtractionException("Extraction interrupted");
+                });
+
+        documentExtractionService.extractContentAsync(1L, "test-correlation-id");
+
+        verify(ocrExtractor, never()).extractContent(any(InputStream.class), anyString());
+        verify(eventPublisher).publishEvent(eventCaptor.capture());
+        DocumentExtractionCompletedEvent event = eventCaptor.getValue();
+
+        assertThat(event.isSuccess()).isFalse();
+        assertThat(event.getErrorMessage()).startsWith("Tempo limite de extração excedido");
+        assertThat(Thread.currentThread().isInterrupted()).isFalse();
+        assertThat(extractionWatchdog.stats().timeouts()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should delegate extraction to the worker pool when forked workers are enabled")
+    void shouldDelegateToWorkerPoolWhenEnabled() throws Exception {
+        when(documentRepository.findById(1L)).thenReturn(Optional.of(document));
+        when(documentRepository.save(any(Document.class))).thenReturn(document);
+        when(contentExtractor.supportsThisContentType("application/pdf")).thenReturn(true);
+        when(blobStore.open("test-blob-key")).thenReturn(new ByteArrayInputStream("dummy file data".getBytes()));
+        when(extractionWorkerPool.isEnabled()).thenReturn(true);
+        when(extractionWorkerPool.extract(eq(contentExtractor), any(InputStream.class), eq("application/pdf")))
+                .thenReturn(extractedContent);
+
+        documentExtractionService.extractContentAsync(1L, "test-correlation-id");
+
+        verify(contentExtractor, never()).extractContent(any(InputStream.class), anyString());
+        verify(eventPublisher).publishEvent(eventCaptor.capture());
+        assertThat(eventCaptor.getValue().getExtractedContent()).isEqualTo(extractedContent);
+    }
+
+    @Test
+    @DisplayName("Should fail the document when its extraction lane rejects the task")
+    void shouldFailWhenExtractionLaneRejects() throws Exception {
+        Document image = Document.builder()
+                .id(3L)
+                .fileName("scan.png")
+                .fileType("image/png")
+                .blobKey("scan-blob-key")
+                .status(DocumentStatus.PENDING)
+                .createdAt(LocalDateTime.now())
+                .build();
+        extractionExecutors = new ExtractionExecutors(
+                task -> {
+                    throw new RejectedExecutionException("Extraction lane is shut down");
+                },
+                Runnable::run, Runnable::run, "image/*", 100);
+        documentExtractionService = createService(contentExtractor);
+        when(documentRepository.findById(3L)).thenReturn(Optional.of(image));
+        when(documentRepository.save(any(Document.class))).thenReturn(image);
+
+        documentExtractionService.extractContentAsync(3L, "test-correlation-id");
+
+        verify(contentExtractor, never()).extractContent(any(InputStream.class), anyString());
+        verify(eventPublisher).publishEvent(eventCaptor.capture());
+        assertThat(eventCaptor.getValue().isSuccess()).isFalse();
+        assertThat(eventCaptor.getValue().getErrorMessage()).contains("OCR");
+        assertThat(extractionExecutors.stats())
+                .filteredOn(stats -> stats.lane() == ExtractionExecutors.Lane.OCR)
+                .singleElement()
+                .satisfies(stats -> assertThat(stats.rejected()).isEqualTo(1));
+    }
+}
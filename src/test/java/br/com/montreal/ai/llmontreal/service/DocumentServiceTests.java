@@ -6,6 +6,8 @@ import br.com.montreal.ai.llmontreal.entity.enums.DocumentStatus;
 import br.com.montreal.ai.llmontreal.exception.FileUploadException;
 import br.com.montreal.ai.llmontreal.exception.FileValidationException;
 import br.com.montreal.ai.llmontreal.repository.DocumentRepository;
+import br.com.montreal.ai.llmontreal.service.storage.BlobStore;
+import br.com.montreal.ai.llmontreal.service.storage.StoredBlob;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -24,9 +26,11 @@ import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.time.LocalDateTime;
 import java.util.List;
 
@@ -56,6 +60,12 @@ class DocumentServiceTests {
     @Mock
     private br.com.montreal.ai.llmontreal.service.ollama.OllamaProducerService ollamaProducerService;
 
+    @Mock
+    private BlobStore blobStore;
+
+    @Mock
+    private DocumentDeduplicationService deduplicationService;
+
     @InjectMocks
     private DocumentService documentService;
 
@@ -65,6 +75,8 @@ class DocumentServiceTests {
     private MockMultipartFile validFile;
     private Document savedDoc;
 
+    private static final String BLOB_KEY = "b94d27b9934d3e08a52e52d7da7dabfac484efe37a5380ee9088f7ace2efcde9";
+
     @BeforeEach
     void setUp() {
         pageable = PageRequest.of(0, 3);
@@ -89,7 +101,7 @@ class DocumentServiceTests {
                 .id(1L)
                 .fileName("documento-teste.pdf")
                 .fileType("application/pdf")
-                .fileData(fileContent)
+                .blobKey(BLOB_KEY)
                 .status(DocumentStatus.PENDING)
                 .createdAt(LocalDateTime.now())
                 .build();
@@ -156,19 +168,38 @@ class DocumentServiceTests {
         verify(documentRepository).findAllByStatus(pageable, DocumentStatus.COMPLETED);
     }
 
+    @Test
+    @DisplayName("Should accept upload and dispatch the pipeline asynchronously")
+    void shouldAcceptUploadAndDispatchPipelineAsynchronously() throws Exception {
+        when(blobStore.store(any(InputStream.class))).thenReturn(new StoredBlob(BLOB_KEY, BLOB_KEY, 21L));
+        when(documentRepository.save(any(Document.class))).thenReturn(savedDoc);
+
+        DocumentUploadResponse result = documentService.uploadFile(validFile, "test-correlation-id");
+
+        assertEquals(1L, result.id());
+        assertEquals(DocumentStatus.PENDING, result.status());
+
+        verify(documentExtractionService).extractContentAsync(savedDoc.getId(), "test-correlation-id");
+        verify(documentExtractionService, never()).extractContentSync(any(Long.class));
+        verifyNoInteractions(ollamaProducerService);
+    }
+
     @Test
     @DisplayName("Should upload document successfully")
     void shouldUploadDocumentSuccessfully() throws Exception {
+        ReflectionTestUtils.setField(documentService, "synchronousProcessing", true);
+
         Document extractedDoc = Document.builder()
                 .id(1L)
                 .fileName("documento-teste.pdf")
                 .fileType("application/pdf")
-                .fileData("Conteúdo do documento".getBytes())
+                .blobKey(BLOB_KEY)
                 .status(DocumentStatus.COMPLETED)
                 .extractedContent("Extracted content")
                 .createdAt(LocalDateTime.now())
                 .build();
 
+        when(blobStore.store(any(InputStream.class))).thenReturn(new StoredBlob(BLOB_KEY, BLOB_KEY, 21L));
         when(documentRepository.save(any(Document.class))).thenReturn(savedDoc);
         when(documentExtractionService.extractContentSync(savedDoc.getId())).thenReturn("Extracted content");
         when(documentRepository.findById(savedDoc.getId()))
@@ -189,6 +220,33 @@ class DocumentServiceTests {
         verify(documentExtractionService).extractContentSync(savedDoc.getId());
     }
 
+    @Test
+    @DisplayName("Should reuse results of an already completed duplicate upload")
+    void shouldReuseResultsOfCompletedDuplicate() throws Exception {
+        when(blobStore.store(any(InputStream.class))).thenReturn(new StoredBlob(BLOB_KEY, BLOB_KEY, 21L));
+        when(deduplicationService.reuseCompletedResults(any(Document.class))).thenAnswer(invocation -> {
+            Document doc = invocation.getArgument(0);
+            doc.setStatus(DocumentStatus.COMPLETED);
+            doc.setExtractedContent("Extracted content");
+            doc.setSummary("Resumo existente");
+            return true;
+        });
+        when(documentRepository.save(any(Document.class))).thenAnswer(invocation -> {
+            Document doc = invocation.getArgument(0);
+            doc.setId(2L);
+            return doc;
+        });
+
+        DocumentUploadResponse result = documentService.uploadFile(validFile, "test-correlation-id");
+
+        assertEquals(2L, result.id());
+        assertEquals(DocumentStatus.COMPLETED, result.status());
+
+        verify(documentRepository, times(1)).save(any(Document.class));
+        verify(documentExtractionService, never()).extractContentSync(any(Long.class));
+        verifyNoInteractions(ollamaProducerService);
+    }
+
     @Test
     @DisplayName("Should throw FileValidationException when file is null")
     void shouldThrowExceptionWhenFileIsNull() {
@@ -297,7 +355,7 @@ class DocumentServiceTests {
         when(mockFile.getOriginalFilename()).thenReturn("test.pdf");
         when(mockFile.getContentType()).thenReturn("application/pdf");
         when(mockFile.getSize()).thenReturn(1024L);
-        when(mockFile.getBytes()).thenThrow(new IOException("Erro ao ler arquivo"));
+        when(mockFile.getInputStream()).thenThrow(new IOException("Erro ao ler arquivo"));
 
         assertThatThrownBy(() -> documentService.uploadFile(mockFile, "test-correlation-id"))
                 .isInstanceOf(FileUploadException.class)
@@ -305,6 +363,7 @@ class DocumentServiceTests {
                 .hasCauseInstanceOf(IOException.class);
 
         verify(documentRepository, never()).save(any(Document.class));
+        verifyNoInteractions(blobStore);
     }
 
     @ParameterizedTest
@@ -312,6 +371,8 @@ class DocumentServiceTests {
             "image/jpeg", "image/png", "text/plain"})
     @DisplayName("Should accept all supported file types")
     void shouldAcceptAllSupportedFileTypes(String contentType) throws Exception {
+        ReflectionTestUtils.setField(documentService, "synchronousProcessing", true);
+
         byte[] fileContent = "Content".getBytes();
         MockMultipartFile file = new MockMultipartFile(
                 "file",
@@ -324,7 +385,7 @@ class DocumentServiceTests {
                 .id(1L)
                 .fileName(file.getOriginalFilename())
                 .fileType(contentType)
-                .fileData(fileContent)
+                .blobKey(BLOB_KEY)
                 .status(DocumentStatus.PENDING)
                 .createdAt(LocalDateTime.now())
                 .build();
@@ -333,12 +394,13 @@ class DocumentServiceTests {
                 .id(1L)
                 .fileName(file.getOriginalFilename())
                 .fileType(contentType)
-                .fileData(fileContent)
+                .blobKey(BLOB_KEY)
                 .status(DocumentStatus.COMPLETED)
                 .extractedContent("Extracted content")
                 .createdAt(LocalDateTime.now())
                 .build();
 
+        when(blobStore.store(any(InputStream.class))).thenReturn(new StoredBlob(BLOB_KEY, BLOB_KEY, fileContent.length));
         when(documentRepository.save(any(Document.class))).thenReturn(doc);
         when(documentExtractionService.extractContentSync(doc.getId())).thenReturn("Extracted content");
         when(documentRepository.findById(doc.getId()))
@@ -0,0 +1,133 @@
+package br.com.montreal.ai.llmontreal.service;
+
+import br.com.montreal.ai.llmontreal.dto.DocumentStatusDTO;
+import br.com.montreal.ai.llmontreal.entity.enums.DocumentStatus;
+import br.com.montreal.ai.llmontreal.entity.enums.ProcessingStage;
+import br.com.montreal.ai.llmontreal.event.DocumentStatusChangedEvent;
+import br.com.montreal.ai.llmontreal.repository.DocumentRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("DocumentStatusStreamService Unit Tests")
+class DocumentStatusStreamServiceTest {
+
+    private static final String UPLOAD_ID = "upload-1";
+
+    @Mock
+    private DocumentRepository documentRepository;
+
+    @Mock
+    private SseEmitter emitter;
+
+    private DocumentStatusStreamService statusStreamService;
+
+    @BeforeEach
+    void setUp() {
+        statusStreamService = new DocumentStatusStreamService(documentRepository) {
+            @Override
+            SseEmitter createEmitter() {
+                return emitter;
+            }
+        };
+    }
+
+    @Test
+    @DisplayName("Should send current status and forward transitions for a document")
+    void shouldSendSnapshotAndForwardTransitions() throws Exception {
+        when(documentRepository.existsById(1L)).thenReturn(true);
+        when(documentRepository.findStatusById(1L))
+                .thenReturn(Optional.of(status(1L, DocumentStatus.PENDING, ProcessingStage.EXTRACTING)));
+
+        Optional<SseEmitter> result = statusStreamService.subscribeToDocument(1L);
+        statusStreamService.onStatusChanged(event(1L, DocumentStatus.COMPLETED, ProcessingStage.QUEUED_FOR_SUMMARY));
+
+        assertThat(result).contains(emitter);
+        verify(emitter, times(2)).send(any(SseEmitter.SseEventBuilder.class));
+        verify(emitter, never()).complete();
+    }
+
+    @Test
+    @DisplayName("Should complete the stream once the document reaches a final stage")
+    void shouldCompleteStreamOnFinalStage() throws Exception {
+        when(documentRepository.existsById(1L)).thenReturn(true);
+        when(documentRepository.findStatusById(1L))
+                .thenReturn(Optional.of(status(1L, DocumentStatus.PROCESSING, ProcessingStage.SUMMARIZING)));
+
+        statusStreamService.subscribeToDocument(1L);
+        statusStreamService.onStatusChanged(event(1L, DocumentStatus.COMPLETED, ProcessingStage.DONE));
+
+        verify(emitter, times(2)).send(any(SseEmitter.SseEventBuilder.class));
+        verify(emitter).complete();
+    }
+
+    @Test
+    @DisplayName("Should complete the upload stream only after every document finished")
+    void shouldCompleteUploadStreamAfterAllDocumentsFinished() throws Exception {
+        when(documentRepository.findStatusesByUploadId(UPLOAD_ID)).thenReturn(List.of(
+                status(1L, DocumentStatus.PENDING, ProcessingStage.UPLOADED),
+                status(2L, DocumentStatus.PENDING, ProcessingStage.UPLOADED)));
+
+        statusStreamService.subscribeToUpload(UPLOAD_ID);
+
+        statusStreamService.onStatusChanged(event(1L, DocumentStatus.COMPLETED, ProcessingStage.DONE));
+        verify(emitter, never()).complete();
+
+        statusStreamService.onStatusChanged(event(2L, DocumentStatus.FAILED, ProcessingStage.FAILED));
+        verify(emitter, times(4)).send(any(SseEmitter.SseEventBuilder.class));
+        verify(emitter).complete();
+    }
+
+    @Test
+    @DisplayName("Should complete immediately when the document already finished")
+    void shouldCompleteImmediatelyWhenAlreadyFinished() throws Exception {
+        when(documentRepository.existsById(1L)).thenReturn(true);
+        when(documentRepository.findStatusById(1L))
+                .thenReturn(Optional.of(status(1L, DocumentStatus.COMPLETED, ProcessingStage.DONE)));
+
+        statusStreamService.subscribeToDocument(1L);
+
+        verify(emitter).send(any(SseEmitter.SseEventBuilder.class));
+        verify(emitter).complete();
+    }
+
+    @Test
+    @DisplayName("Should ignore transitions of documents without subscribers")
+    void shouldIgnoreTransitionsWithoutSubscribers() {
+        statusStreamService.onStatusChanged(event(3L, DocumentStatus.COMPLETED, ProcessingStage.DONE));
+
+        verifyNoInteractions(emitter);
+    }
+
+    @Test
+    @DisplayName("Should return empty for unknown document or upload")
+    void shouldReturnEmptyForUnknownTargets() {
+        when(documentRepository.existsById(99L)).thenReturn(false);
+        when(documentRepository.findStatusesByUploadId("unknown")).thenReturn(List.of());
+
+        assertThat(statusStreamService.subscribeToDocument(99L)).isEmpty();
+        assertThat(statusStreamService.subscribeToUpload("unknown")).isEmpty();
+        verify(emitter, never()).complete();
+    }
+
+    private DocumentStatusDTO status(Long id, DocumentStatus status, ProcessingStage stage) {
+        return new DocumentStatusDTO(id, UPLOAD_ID, status, stage, LocalDateTime.now(), null, null, null);
+    }
+
+    private DocumentStatusChangedEvent event(Long id, DocumentStatus status, ProcessingStage stage) {
+        return new DocumentStatusChangedEvent(this, id, UPLOAD_ID, status, stage, LocalDateTime.now());
+    }
+}
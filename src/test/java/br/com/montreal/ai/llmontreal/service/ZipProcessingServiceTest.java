@@ -2,23 +2,40 @@ package br.com.montreal.ai.llmontreal.service;
 
 import br.com.montreal.ai.llmontreal.entity.Document;
 import br.com.montreal.ai.llmontreal.entity.enums.DocumentStatus;
-import br.com.montreal.ai.llmontreal.repository.DocumentRepository;
+import br.com.montreal.ai.llmontreal.exception.FileUploadException;
+import br.com.montreal.ai.llmontreal.repository.DocumentBatchRepository;
+import br.com.montreal.ai.llmontreal.service.storage.BlobStore;
+import br.com.montreal.ai.llmontreal.service.storage.StoredBlob;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.test.util.ReflectionTestUtils;
 
+import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipOutputStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.*;
 
@@ -28,19 +45,33 @@ class ZipProcessingServiceTest {
     private ZipProcessingService zipProcessingService;
 
     @Mock
-    private DocumentRepository documentRepository;
+    private DocumentBatchRepository documentBatchRepository;
 
     @Mock
     private DocumentExtractionService extractionService;
 
+    @Mock
+    private BlobStore blobStore;
+
+    @Mock
+    private DocumentDeduplicationService deduplicationService;
+
+    @TempDir
+    Path tempDir;
+
     private final AtomicLong idGenerator = new AtomicLong(1);
 
     @BeforeEach
     void setUp() {
         MockitoAnnotations.openMocks(this);
-        zipProcessingService = new ZipProcessingService(documentRepository, extractionService);
+        zipProcessingService = new ZipProcessingService(documentBatchRepository, extractionService, blobStore,
+                deduplicationService, Runnable::run);
         
         ReflectionTestUtils.setField(zipProcessingService, "maxEntrySize", 104857600L);
+        ReflectionTestUtils.setField(zipProcessingService, "batchSize", 100);
+        ReflectionTestUtils.setField(zipProcessingService, "maxEntries", 1000);
+        ReflectionTestUtils.setField(zipProcessingService, "maxTotalSize", 524288000L);
+        ReflectionTestUtils.setField(zipProcessingService, "processingMode", ZipProcessingService.ProcessingMode.STREAMING);
         
         idGenerator.set(1);
     }
@@ -51,42 +82,55 @@ class ZipProcessingServiceTest {
         byte[] zipData = createZipWithMultipleFiles();
         setupDocumentSaveMock();
 
-        List<Long> documentIds = zipProcessingService.processZipFile(zipData, "test.zip", "test-correlation-id");
+        List<Long> documentIds = zipProcessingService.processZipFile(new ByteArrayInputStream(zipData), "test.zip", "test-correlation-id", "test-upload-id");
 
         assertThat(documentIds)
                 .hasSize(2)
                 .containsExactly(1L, 2L);
 
-        verify(documentRepository, times(2)).save(any(Document.class));
+        assertThat(savedDocuments()).hasSize(2);
         verify(extractionService, times(2)).extractContentAsync(anyLong(), any(String.class));
         verify(extractionService).extractContentAsync(1L, "test-correlation-id");
         verify(extractionService).extractContentAsync(2L, "test-correlation-id");
     }
 
+    @Test
+    @DisplayName("Should not dispatch extraction for duplicates of completed documents")
+    void shouldNotExtractCompletedDuplicates() throws Exception {
+        byte[] zipData = createZipWithMultipleFiles();
+        setupDocumentSaveMock();
+        when(deduplicationService.reuseCompletedResults(any(Document.class))).thenReturn(true);
+
+        List<Long> documentIds = zipProcessingService.processZipFile(new ByteArrayInputStream(zipData), "test.zip", "test-correlation-id", "test-upload-id");
+
+        assertThat(documentIds).hasSize(2);
+        assertThat(savedDocuments()).hasSize(2);
+        verify(extractionService, never()).extractContentAsync(anyLong(), any(String.class));
+    }
+
     @Test
     @DisplayName("Should skip system files and directories")
     void shouldSkipSystemFiles() throws Exception {
         byte[] zipData = createZipWithSystemFiles();
 
-        List<Long> documentIds = zipProcessingService.processZipFile(zipData, "test.zip", "test-correlation-id");
+        List<Long> documentIds = zipProcessingService.processZipFile(new ByteArrayInputStream(zipData), "test.zip", "test-correlation-id", "test-upload-id");
 
         assertThat(documentIds).isEmpty();
-        verify(documentRepository, never()).save(any(Document.class));
+        verify(documentBatchRepository, never()).insertAll(anyList());
     }
 
     @Test
     @DisplayName("Should set correct file names from ZIP entries")
     void shouldSetCorrectFileNames() throws Exception {
         byte[] zipData = createZipWithMultipleFiles();
-        ArgumentCaptor<Document> documentCaptor = ArgumentCaptor.forClass(Document.class);
         setupDocumentSaveMock();
 
-        zipProcessingService.processZipFile(zipData, "documents.zip", "test-correlation-id");
+        zipProcessingService.processZipFile(new ByteArrayInputStream(zipData), "documents.zip", "test-correlation-id", "test-upload-id");
 
-        verify(documentRepository, times(2)).save(documentCaptor.capture());
-        List<Document> savedDocuments = documentCaptor.getAllValues();
+        List<Document> savedDocuments = savedDocuments();
 
         assertThat(savedDocuments).hasSize(2);
+        assertThat(savedDocuments).allMatch(doc -> "test-upload-id".equals(doc.getUploadId()));
         assertThat(savedDocuments.get(0).getFileName())
                 .contains("documents/")
                 .contains("file1.txt");
@@ -99,13 +143,11 @@ class ZipProcessingServiceTest {
     @DisplayName("Should detect correct content types")
     void shouldDetectContentTypes() throws Exception {
         byte[] zipData = createZipWithMultipleFiles();
-        ArgumentCaptor<Document> documentCaptor = ArgumentCaptor.forClass(Document.class);
         setupDocumentSaveMock();
 
-        zipProcessingService.processZipFile(zipData, "test.zip", "test-correlation-id");
+        zipProcessingService.processZipFile(new ByteArrayInputStream(zipData), "test.zip", "test-correlation-id", "test-upload-id");
 
-        verify(documentRepository, times(2)).save(documentCaptor.capture());
-        List<Document> savedDocuments = documentCaptor.getAllValues();
+        List<Document> savedDocuments = savedDocuments();
 
         assertThat(savedDocuments)
                 .hasSize(2)
@@ -117,13 +159,11 @@ class ZipProcessingServiceTest {
     @DisplayName("Should set documents status to PENDING")
     void shouldSetStatusToPending() throws Exception {
         byte[] zipData = createZipWithMultipleFiles();
-        ArgumentCaptor<Document> documentCaptor = ArgumentCaptor.forClass(Document.class);
         setupDocumentSaveMock();
 
-        zipProcessingService.processZipFile(zipData, "test.zip", "test-correlation-id");
+        zipProcessingService.processZipFile(new ByteArrayInputStream(zipData), "test.zip", "test-correlation-id", "test-upload-id");
 
-        verify(documentRepository, times(2)).save(documentCaptor.capture());
-        List<Document> savedDocuments = documentCaptor.getAllValues();
+        List<Document> savedDocuments = savedDocuments();
 
         assertThat(savedDocuments)
                 .allMatch(doc -> doc.getStatus() == DocumentStatus.PENDING)
@@ -136,10 +176,10 @@ class ZipProcessingServiceTest {
     void shouldHandleEmptyFiles() throws Exception {
         byte[] zipData = createZipWithEmptyFile();
 
-        List<Long> documentIds = zipProcessingService.processZipFile(zipData, "test.zip", "test-correlation-id");
+        List<Long> documentIds = zipProcessingService.processZipFile(new ByteArrayInputStream(zipData), "test.zip", "test-correlation-id", "test-upload-id");
 
         assertThat(documentIds).isEmpty();
-        verify(documentRepository, never()).save(any(Document.class));
+        verify(documentBatchRepository, never()).insertAll(anyList());
         verify(extractionService, never()).extractContentAsync(anyLong(), any(String.class));
     }
 
@@ -149,7 +189,7 @@ class ZipProcessingServiceTest {
         byte[] zipData = createZipWithUnsupportedFiles();
         setupDocumentSaveMock();
 
-        List<Long> documentIds = zipProcessingService.processZipFile(zipData, "test.zip", "test-correlation-id");
+        List<Long> documentIds = zipProcessingService.processZipFile(new ByteArrayInputStream(zipData), "test.zip", "test-correlation-id", "test-upload-id");
 
         assertThat(documentIds).hasSize(0);
     }
@@ -160,19 +200,227 @@ class ZipProcessingServiceTest {
         byte[] zipData = createZipWithMixedFiles();
         setupDocumentSaveMock();
 
-        List<Long> documentIds = zipProcessingService.processZipFile(zipData, "test.zip", "test-correlation-id");
+        List<Long> documentIds = zipProcessingService.processZipFile(new ByteArrayInputStream(zipData), "test.zip", "test-correlation-id", "test-upload-id");
 
         assertThat(documentIds).hasSize(1);
-        verify(documentRepository, times(1)).save(any(Document.class));
+        assertThat(savedDocuments()).hasSize(1);
         verify(extractionService, times(1)).extractContentAsync(anyLong(), any(String.class));
     }
 
-    private void setupDocumentSaveMock() {
-        when(documentRepository.save(any(Document.class))).thenAnswer(invocation -> {
-            Document doc = invocation.getArgument(0);
-            doc.setId(idGenerator.getAndIncrement());
-            return doc;
+    @Test
+    @DisplayName("Should stream entries into the blob store without truncating them")
+    void shouldStreamEntriesIntoBlobStore() throws Exception {
+        byte[] zipData = createZipWithMultipleFiles();
+        setupDocumentSaveMock();
+
+        zipProcessingService.processZipFile(new ByteArrayInputStream(zipData), "test.zip", "test-correlation-id", "test-upload-id");
+
+        assertThat(savedDocuments())
+                .allMatch(doc -> doc.getFileSize() == "Content of file 1".length());
+    }
+
+    @Test
+    @DisplayName("Should reject entries larger than the configured maximum")
+    void shouldRejectOversizedEntries() throws Exception {
+        ReflectionTestUtils.setField(zipProcessingService, "maxEntrySize", 10L);
+        byte[] zipData = createZipWithMultipleFiles();
+        setupDocumentSaveMock();
+
+        List<Long> documentIds = zipProcessingService.processZipFile(new ByteArrayInputStream(zipData), "test.zip", "test-correlation-id", "test-upload-id");
+
+        assertThat(documentIds).isEmpty();
+        verify(documentBatchRepository, never()).insertAll(anyList());
+        verify(extractionService, never()).extractContentAsync(anyLong(), any(String.class));
+    }
+
+    @Test
+    @DisplayName("Should persist documents in batches of the configured size")
+    void shouldPersistDocumentsInBatches() throws Exception {
+        ReflectionTestUtils.setField(zipProcessingService, "batchSize", 2);
+        setupDocumentSaveMock();
+
+        List<Long> documentIds = zipProcessingService.processZipFile(
+                new ByteArrayInputStream(createZipWithNumberedFiles(5)), "batch.zip",
+                "test-correlation-id", "test-upload-id");
+
+        assertThat(documentIds).containsExactly(1L, 2L, 3L, 4L, 5L);
+        verify(documentBatchRepository, times(3)).insertAll(anyList());
+        verify(extractionService, times(5)).extractContentAsync(anyLong(), any(String.class));
+    }
+
+    @Test
+    @DisplayName("Should return document ids in entry order when entries are processed in parallel")
+    void shouldReturnIdsInEntryOrderWhenProcessedInParallel() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            ZipProcessingService parallelService = new ZipProcessingService(documentBatchRepository, extractionService,
+                    blobStore, deduplicationService, executor);
+            ReflectionTestUtils.setField(parallelService, "maxEntrySize", 104857600L);
+            ReflectionTestUtils.setField(parallelService, "batchSize", 100);
+            ReflectionTestUtils.setField(parallelService, "maxEntries", 1000);
+            ReflectionTestUtils.setField(parallelService, "maxTotalSize", 524288000L);
+            Map<Long, String> fileNamesById = new ConcurrentHashMap<>();
+            when(blobStore.store(any(InputStream.class))).thenAnswer(invocation -> {
+                long size = invocation.getArgument(0, InputStream.class).readAllBytes().length;
+                return new StoredBlob("blob-" + size, "blob-" + size, size);
+            });
+            when(documentBatchRepository.insertAll(anyList())).thenAnswer(invocation -> {
+                List<Document> docs = invocation.getArgument(0);
+                docs.forEach(doc -> {
+                    doc.setId(idGenerator.getAndIncrement());
+                    fileNamesById.put(doc.getId(), doc.getFileName());
+                });
+                return docs;
+            });
+
+            List<Long> documentIds = parallelService.processZipFile(
+                    new ByteArrayInputStream(createZipWithNumberedFiles(20)), "batch.zip",
+                    "test-correlation-id", "test-upload-id");
+
+            assertThat(documentIds).hasSize(20);
+            for (int i = 0; i < documentIds.size(); i++) {
+                assertThat(fileNamesById.get(documentIds.get(i))).endsWith("/file" + i + ".txt");
+            }
+            verify(extractionService, times(20)).extractContentAsync(anyLong(), any(String.class));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("Should filter entries from the central directory before decompressing them")
+    void shouldFilterEntriesFromCentralDirectory() throws Exception {
+        Path archive = tempDir.resolve("mixed.zip");
+        Files.write(archive, createZipWithJunkAndDocuments());
+        setupDocumentSaveMock();
+
+        List<Long> documentIds = zipProcessingService.processZipArchive(archive, "mixed.zip", "test-correlation-id", "test-upload-id");
+
+        assertThat(documentIds).containsExactly(1L, 2L);
+        assertThat(savedDocuments())
+                .extracting(Document::getFileName)
+                .containsExactly("mixed/file1.txt", "mixed/file2.txt");
+        verify(blobStore, times(2)).store(any(InputStream.class));
+    }
+
+    @Test
+    @DisplayName("Should skip archives full of unsupported entries without decompressing anything")
+    void shouldSkipJunkArchiveWithoutDecompressing() throws Exception {
+        Path archive = tempDir.resolve("junk.zip");
+        Files.write(archive, createZipWithUnsupportedFiles());
+
+        List<Long> documentIds = zipProcessingService.processZipArchive(archive, "junk.zip", "test-correlation-id", "test-upload-id");
+
+        assertThat(documentIds).isEmpty();
+        verifyNoInteractions(blobStore, documentBatchRepository, extractionService);
+    }
+
+    @Test
+    @DisplayName("Should reject archives with more entries than allowed")
+    void shouldRejectArchivesWithTooManyEntries() throws Exception {
+        ReflectionTestUtils.setField(zipProcessingService, "maxEntries", 1);
+        Path archive = tempDir.resolve("many.zip");
+        Files.write(archive, createZipWithMultipleFiles());
+
+        assertThatThrownBy(() -> zipProcessingService.processZipArchive(archive, "many.zip", "test-correlation-id", "test-upload-id"))
+                .isInstanceOf(FileUploadException.class)
+                .hasMessageContaining("número máximo");
+        verifyNoInteractions(blobStore, documentBatchRepository);
+    }
+
+    @Test
+    @DisplayName("Should reject streamed archives with more entries than allowed")
+    void shouldRejectStreamedArchivesWithTooManyEntries() throws Exception {
+        ReflectionTestUtils.setField(zipProcessingService, "maxEntries", 1);
+        InputStream zipStream = new ByteArrayInputStream(createZipWithMultipleFiles());
+
+        assertThatThrownBy(() -> zipProcessingService.processZipFile(zipStream, "many.zip", "test-correlation-id", "test-upload-id"))
+                .isInstanceOf(FileUploadException.class)
+                .hasMessageContaining("número máximo");
+        verify(documentBatchRepository, never()).insertAll(anyList());
+    }
+
+    @Test
+    @DisplayName("Should reject streamed archives that inflate past the total size limit")
+    void shouldRejectStreamedArchivesOverTotalSize() throws Exception {
+        ReflectionTestUtils.setField(zipProcessingService, "maxTotalSize", 20L);
+        InputStream zipStream = new ByteArrayInputStream(createZipWithMultipleFiles());
+
+        assertThatThrownBy(() -> zipProcessingService.processZipFile(zipStream, "big.zip", "test-correlation-id", "test-upload-id"))
+                .isInstanceOf(FileUploadException.class)
+                .hasMessageContaining("tamanho máximo");
+        verify(documentBatchRepository, never()).insertAll(anyList());
+    }
+
+    @Test
+    @DisplayName("Should enforce the total size on inflated bytes when the central directory understates it")
+    void shouldRejectArchiveWithUnderstatedSizes() throws Exception {
+        ReflectionTestUtils.setField(zipProcessingService, "maxTotalSize", 100L);
+        Path archive = tempDir.resolve("lying.zip");
+        Files.write(archive, understateSizes(createZipWithTextFiles(3, "linha de texto\n".repeat(3))));
+        setupDocumentSaveMock();
+
+        assertThatThrownBy(() -> zipProcessingService.processZipArchive(archive, "lying.zip", "test-correlation-id", "test-upload-id"))
+                .isInstanceOf(FileUploadException.class)
+                .hasMessageContaining("tamanho máximo");
+        verify(documentBatchRepository, never()).insertAll(anyList());
+        verify(extractionService, never()).extractContentAsync(anyLong(), any(String.class));
+    }
+
+    @Test
+    @DisplayName("Should spool the upload and use the central directory in random-access mode")
+    void shouldSpoolUploadInRandomAccessMode() throws Exception {
+        ReflectionTestUtils.setField(zipProcessingService, "processingMode", ZipProcessingService.ProcessingMode.RANDOM_ACCESS);
+        MockMultipartFile file = new MockMultipartFile("file", "upload.zip", "application/zip", createZipWithMultipleFiles());
+        setupDocumentSaveMock();
+
+        List<Long> documentIds = zipProcessingService.processZipUpload(file, "test-correlation-id", "test-upload-id");
+
+        assertThat(documentIds).containsExactly(1L, 2L);
+        verify(extractionService, times(2)).extractContentAsync(anyLong(), any(String.class));
+    }
+
+    private void setupDocumentSaveMock() throws Exception {
+        when(blobStore.store(any(InputStream.class))).thenAnswer(invocation -> {
+            InputStream in = invocation.getArgument(0);
+            long size = in.readAllBytes().length;
+            return new StoredBlob("blob-" + size, "blob-" + size, size);
         });
+        when(documentBatchRepository.insertAll(anyList())).thenAnswer(invocation -> {
+            List<Document> docs = invocation.getArgument(0);
+            docs.forEach(doc -> doc.setId(idGenerator.getAndIncrement()));
+            return docs;
+        });
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<Document> savedDocuments() {
+        ArgumentCaptor<List<Document>> batchCaptor = ArgumentCaptor.forClass(List.class);
+        verify(documentBatchRepository, atLeastOnce()).insertAll(batchCaptor.capture());
+        return batchCaptor.getAllValues().stream().flatMap(List::stream).toList();
+    }
+
+    private byte[] createZipWithTextFiles(int count, String content) throws Exception {
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        try (ZipOutputStream zos = new ZipOutputStream(baos)) {
+            for (int i = 1; i <= count; i++) {
+                zos.putNextEntry(new ZipEntry("file" + i + ".txt"));
+                zos.write(content.getBytes());
+                zos.closeEntry();
+            }
+        }
+        return baos.toByteArray();
+    }
+
+    // Rewrites every central directory record to declare an uncompressed size of 1 byte
+    private byte[] understateSizes(byte[] zip) {
+        ByteBuffer buffer = ByteBuffer.wrap(zip).order(ByteOrder.LITTLE_ENDIAN);
+        for (int offset = 0; offset + 46 <= zip.length; offset++) {
+            if (buffer.getInt(offset) == 0x02014b50) {
+                buffer.putInt(offset + 24, 1);
+            }
+        }
+        return zip;
     }
 
     private byte[] createZipWithMultipleFiles() throws Exception {
@@ -191,6 +439,31 @@ class ZipProcessingServiceTest {
         return baos.toByteArray();
     }
 
+    private byte[] createZipWithNumberedFiles(int count) throws Exception {
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        try (ZipOutputStream zos = new ZipOutputStream(baos)) {
+            for (int i = 0; i < count; i++) {
+                zos.putNextEntry(new ZipEntry("file" + i + ".txt"));
+                zos.write(("Content of file " + i).getBytes());
+                zos.closeEntry();
+            }
+        }
+        return baos.toByteArray();
+    }
+
+    private byte[] createZipWithJunkAndDocuments() throws Exception {
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        try (ZipOutputStream zos = new ZipOutputStream(baos)) {
+            String[] names = {"file1.txt", "movie.mp4", "setup.exe", "file2.txt"};
+            for (String name : names) {
+                zos.putNextEntry(new ZipEntry(name));
+                zos.write(("Content of " + name).getBytes());
+                zos.closeEntry();
+            }
+        }
+        return baos.toByteArray();
+    }
+
     private byte[] createZipWithSystemFiles() throws Exception {
         ByteArrayOutputStream baos = new ByteArrayOutputStream();
         try (ZipOutputStream zos = new ZipOutputStream(baos)) {
@@ -0,0 +1,92 @@
+package br.com.montreal.ai.llmontreal.service.extraction;
+
+import br.com.montreal.ai.llmontreal.exception.ExtractionException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("EngineInitializer Unit Tests")
+class EngineInitializerTest {
+
+    private EngineInitializer initializer;
+
+    @AfterEach
+    void tearDown() {
+        if (initializer != null) {
+            initializer.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("Should build engines in the background and hand them out once ready")
+    void shouldInitializeInBackground() throws Exception {
+        initializer = new EngineInitializer(true, 5_000);
+        CountDownLatch release = new CountDownLatch(1);
+
+        EngineInitializer.Handle<String> handle = initializer.submit("slow", () -> {
+            release.await(5, TimeUnit.SECONDS);
+            return "engine";
+        });
+
+        assertThat(handle.isReady()).isFalse();
+        assertThat(handle.getIfReady()).isNull();
+        assertThat(initializer.isReady()).isFalse();
+
+        release.countDown();
+
+        assertThat(handle.get()).isEqualTo("engine");
+        assertThat(initializer.stats()).singleElement()
+                .satisfies(task -> assertThat(task.state()).isEqualTo("READY"));
+    }
+
+    @Test
+    @DisplayName("Should run initializers inline when background init is disabled")
+    void shouldInitializeInline() throws Exception {
+        initializer = EngineInitializer.inline();
+
+        EngineInitializer.Handle<String> handle = initializer.submit("inline", () -> Thread.currentThread().getName());
+
+        assertThat(handle.isReady()).isTrue();
+        assertThat(handle.get()).isEqualTo(Thread.currentThread().getName());
+        assertThat(initializer.isReady()).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should surface initialization failures to every caller")
+    void shouldSurfaceFailures() {
+        initializer = EngineInitializer.inline();
+
+        EngineInitializer.Handle<String> handle = initializer.submit("broken", () -> {
+            throw new IllegalStateException("tessdata ausente");
+        });
+
+        assertThatThrownBy(handle::get)
+                .isInstanceOf(ExtractionException.class)
+                .hasMessageContaining("broken")
+                .hasMessageContaining("tessdata ausente");
+        assertThat(initializer.stats().get(0).state()).isEqualTo("FAILED");
+    }
+
+    @Test
+    @DisplayName("Should give up waiting after the configured timeout")
+    void shouldTimeOutWaiting() {
+        initializer = new EngineInitializer(true, 50);
+        CountDownLatch release = new CountDownLatch(1);
+
+        EngineInitializer.Handle<String> handle = initializer.submit("stuck", () -> {
+            release.await(5, TimeUnit.SECONDS);
+            return "engine";
+        });
+
+        assertThatThrownBy(handle::get)
+                .isInstanceOf(ExtractionException.class)
+                .hasMessageContaining("not ready after 50ms");
+        release.countDown();
+    }
+}
@@ -0,0 +1,190 @@
+package br.com.montreal.ai.llmontreal.service.extraction;
+
+import br.com.montreal.ai.llmontreal.entity.ExtractionCacheEntry;
+import br.com.montreal.ai.llmontreal.exception.ExtractionException;
+import br.com.montreal.ai.llmontreal.repository.ExtractionCacheRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ExtractionCache Unit Tests")
+class ExtractionCacheTest {
+
+    private static final String HASH = "b".repeat(64);
+    private static final String EXTRACTOR = TesseractContentExtractor.class.getName();
+    private static final String FINGERPRINT = "lang=por+eng;psm=3;oem=3";
+
+    @Mock
+    private ExtractionCacheRepository repository;
+
+    private ExtractionCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new ExtractionCache(repository, true, 2, 1000, 1000);
+    }
+
+    @Test
+    @DisplayName("Should extract once and serve repeated requests from memory")
+    void shouldServeRepeatedRequestsFromMemory() throws Exception {
+        AtomicInteger calls = new AtomicInteger();
+
+        String first = cache.getOrExtract(HASH, "image/png", EXTRACTOR, FINGERPRINT, () -> "texto " + calls.incrementAndGet());
+        String second = cache.getOrExtract(HASH, "image/png", EXTRACTOR, FINGERPRINT, () -> "texto " + calls.incrementAndGet());
+
+        assertThat(first).isEqualTo("texto 1");
+        assertThat(second).isEqualTo("texto 1");
+        assertThat(calls.get()).isEqualTo(1);
+        assertThat(cache.stats().memoryHits()).isEqualTo(1);
+        assertThat(cache.stats().misses()).isEqualTo(1);
+
+        ArgumentCaptor<ExtractionCacheEntry> entryCaptor = ArgumentCaptor.forClass(ExtractionCacheEntry.class);
+        verify(repository).save(entryCaptor.capture());
+        assertThat(entryCaptor.getValue().getContentHash()).isEqualTo(HASH);
+        assertThat(entryCaptor.getValue().getConfigFingerprint()).isEqualTo(FINGERPRINT);
+        assertThat(entryCaptor.getValue().getCacheKey()).hasSize(64);
+    }
+
+    @Test
+    @DisplayName("Should serve entries from the persistent tier after a restart")
+    void shouldServeFromPersistentTier() throws Exception {
+        when(repository.findById(anyString())).thenReturn(Optional.of(ExtractionCacheEntry.builder()
+                .extractedContent("texto persistido")
+                .build()));
+
+        String content = cache.getOrExtract(HASH, "image/png", EXTRACTOR, FINGERPRINT, () -> {
+            throw new AssertionError("extractor should not run");
+        });
+
+        assertThat(content).isEqualTo("texto persistido");
+        assertThat(cache.stats().persistentHits()).isEqualTo(1);
+        verify(repository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("Should treat a different configuration fingerprint as a different entry")
+    void shouldSeparateEntriesByFingerprint() throws Exception {
+        AtomicInteger calls = new AtomicInteger();
+
+        cache.getOrExtract(HASH, "image/png", EXTRACTOR, FINGERPRINT, () -> "texto " + calls.incrementAndGet());
+        String other = cache.getOrExtract(HASH, "image/png", EXTRACTOR, "lang=eng;psm=6;oem=1",
+                () -> "texto " + calls.incrementAndGet());
+
+        assertThat(other).isEqualTo("texto 2");
+        assertThat(calls.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should not cache blank results or failures")
+    void shouldNotCacheBlankResultsOrFailures() throws Exception {
+        cache.getOrExtract(HASH, "image/png", EXTRACTOR, FINGERPRINT, () -> "  ");
+
+        assertThatThrownBy(() -> cache.getOrExtract(HASH, "image/png", EXTRACTOR, FINGERPRINT, () -> {
+            throw new ExtractionException("OCR failed");
+        })).isInstanceOf(ExtractionException.class).hasMessage("OCR failed");
+
+        String content = cache.getOrExtract(HASH, "image/png", EXTRACTOR, FINGERPRINT, () -> "texto");
+
+        assertThat(content).isEqualTo("texto");
+        assertThat(cache.stats().misses()).isEqualTo(3);
+        verify(repository, times(1)).save(any());
+    }
+
+    @Test
+    @DisplayName("Should bypass the cache when the content hash is unknown")
+    void shouldBypassCacheWithoutContentHash() throws Exception {
+        AtomicInteger calls = new AtomicInteger();
+
+        cache.getOrExtract(null, "image/png", EXTRACTOR, FINGERPRINT, () -> "texto " + calls.incrementAndGet());
+        cache.getOrExtract(null, "image/png", EXTRACTOR, FINGERPRINT, () -> "texto " + calls.incrementAndGet());
+
+        assertThat(calls.get()).isEqualTo(2);
+        verifyNoInteractions(repository);
+    }
+
+    @Test
+    @DisplayName("Should evict least recently used entries from memory")
+    void shouldEvictLeastRecentlyUsedEntries() throws Exception {
+        cache.getOrExtract("1".repeat(64), "image/png", EXTRACTOR, FINGERPRINT, () -> "um");
+        cache.getOrExtract("2".repeat(64), "image/png", EXTRACTOR, FINGERPRINT, () -> "dois");
+        cache.getOrExtract("3".repeat(64), "image/png", EXTRACTOR, FINGERPRINT, () -> "tres");
+
+        assertThat(cache.stats().memoryEntries()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should evict least recently used entries until the retained chars fit the budget")
+    void shouldEvictByRetainedChars() throws Exception {
+        ExtractionCache weighted = new ExtractionCache(repository, true, 100, 1000, 10);
+
+        weighted.getOrExtract("1".repeat(64), "image/png", EXTRACTOR, FINGERPRINT, () -> "aaaa");
+        weighted.getOrExtract("2".repeat(64), "image/png", EXTRACTOR, FINGERPRINT, () -> "bbbb");
+        weighted.getOrExtract("3".repeat(64), "image/png", EXTRACTOR, FINGERPRINT, () -> "cccccccc");
+        weighted.getOrExtract("4".repeat(64), "image/png", EXTRACTOR, FINGERPRINT, () -> "x".repeat(11));
+
+        assertThat(weighted.stats().memoryEntries()).isEqualTo(1);
+        assertThat(weighted.stats().memoryChars()).isEqualTo(8);
+
+        AtomicInteger calls = new AtomicInteger();
+        String cached = weighted.getOrExtract("3".repeat(64), "image/png", EXTRACTOR, FINGERPRINT,
+                () -> "novo " + calls.incrementAndGet());
+        assertThat(cached).isEqualTo("cccccccc");
+        assertThat(calls.get()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should run concurrent extractions of the same content only once")
+    void shouldRunConcurrentExtractionsOnce() throws Exception {
+        AtomicInteger calls = new AtomicInteger();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+
+        try {
+            Future<String> leader = executor.submit(() -> cache.getOrExtract(HASH, "image/png", EXTRACTOR, FINGERPRINT, () -> {
+                calls.incrementAndGet();
+                started.countDown();
+                await(release);
+                return "texto";
+            }));
+            assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+            Future<String> follower = executor.submit(() -> cache.getOrExtract(HASH, "image/png", EXTRACTOR, FINGERPRINT,
+                    () -> "texto " + calls.incrementAndGet()));
+            release.countDown();
+
+            assertThat(leader.get(5, TimeUnit.SECONDS)).isEqualTo("texto");
+            assertThat(follower.get(5, TimeUnit.SECONDS)).isEqualTo("texto");
+            assertThat(calls.get()).isEqualTo(1);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,227 @@
+package br.com.montreal.ai.llmontreal.service.extraction;
+
+import br.com.montreal.ai.llmontreal.config.AsyncConfig;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("ExtractionExecutors Unit Tests")
+class ExtractionExecutorsTest {
+
+    private ThreadPoolTaskExecutor ocrPool;
+    private ThreadPoolTaskExecutor parsePool;
+    private Executor ioExecutor;
+
+    @AfterEach
+    void tearDown() {
+        if (ioExecutor instanceof ThreadPoolTaskExecutor pool) {
+            pool.shutdown();
+        } else if (ioExecutor instanceof SimpleAsyncTaskExecutor virtual) {
+            virtual.close();
+        }
+        if (ocrPool != null) {
+            ocrPool.shutdown();
+        }
+        if (parsePool != null) {
+            parsePool.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("Should route images to the OCR lane and everything else to the parse lane")
+    void shouldRouteByContentType() {
+        ExtractionExecutors executors = new ExtractionExecutors(Runnable::run, Runnable::run, Runnable::run,
+                "image/*, application/x-scanned", 100);
+
+        assertThat(executors.laneFor("image/png")).isEqualTo(ExtractionExecutors.Lane.OCR);
+        assertThat(executors.laneFor("IMAGE/JPEG")).isEqualTo(ExtractionExecutors.Lane.OCR);
+        assertThat(executors.laneFor("application/x-scanned")).isEqualTo(ExtractionExecutors.Lane.OCR);
+        assertThat(executors.laneFor("application/pdf")).isEqualTo(ExtractionExecutors.Lane.PARSE);
+        assertThat(executors.laneFor("text/plain")).isEqualTo(ExtractionExecutors.Lane.PARSE);
+        assertThat(executors.laneFor(null)).isEqualTo(ExtractionExecutors.Lane.PARSE);
+    }
+
+    @Test
+    @DisplayName("Should keep the parse lane flowing while the OCR lane is saturated")
+    void shouldIsolateLanes() throws Exception {
+        ocrPool = pool(1, 1, new ThreadPoolExecutor.AbortPolicy());
+        parsePool = pool(1, 10, new ThreadPoolExecutor.AbortPolicy());
+        ExtractionExecutors executors = new ExtractionExecutors(ocrPool, parsePool, Runnable::run, "image/*", 100);
+        CountDownLatch blockOcr = new CountDownLatch(1);
+        CountDownLatch parsed = new CountDownLatch(3);
+
+        executors.execute(ExtractionExecutors.Lane.OCR, () -> await(blockOcr));
+        executors.execute(ExtractionExecutors.Lane.OCR, () -> await(blockOcr));
+        assertThatThrownBy(() -> executors.execute(ExtractionExecutors.Lane.OCR, () -> await(blockOcr)))
+                .isInstanceOf(RejectedExecutionException.class);
+
+        for (int i = 0; i < 3; i++) {
+            executors.execute(ExtractionExecutors.Lane.PARSE, parsed::countDown);
+        }
+
+        assertThat(parsed.await(5, TimeUnit.SECONDS)).isTrue();
+        blockOcr.countDown();
+
+        ExtractionExecutors.LaneStats ocrStats = stats(executors, ExtractionExecutors.Lane.OCR);
+        assertThat(ocrStats.rejected()).isEqualTo(1);
+        assertThat(ocrStats.submitted()).isEqualTo(2);
+        assertThat(ocrStats.queueCapacity()).isEqualTo(1);
+        assertThat(stats(executors, ExtractionExecutors.Lane.PARSE).rejected()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should make the submitting thread wait for room instead of rejecting")
+    void shouldWaitForRoomWhenLaneIsFull() throws Exception {
+        ocrPool = pool(1, 1, ExtractionExecutors.waitForRoom());
+        ExtractionExecutors executors = new ExtractionExecutors(ocrPool, Runnable::run, Runnable::run, "image/*", 100);
+        CountDownLatch blockOcr = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(3);
+
+        executors.execute(ExtractionExecutors.Lane.OCR, () -> {
+            await(blockOcr);
+            done.countDown();
+        });
+        executors.execute(ExtractionExecutors.Lane.OCR, done::countDown);
+
+        Thread submitter = new Thread(() -> executors.execute(ExtractionExecutors.Lane.OCR, done::countDown));
+        submitter.start();
+        submitter.join(200);
+        assertThat(submitter.isAlive()).isTrue();
+
+        blockOcr.countDown();
+        submitter.join(5000);
+        assertThat(submitter.isAlive()).isFalse();
+        assertThat(done.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(stats(executors, ExtractionExecutors.Lane.OCR).rejected()).isZero();
+        assertThat(stats(executors, ExtractionExecutors.Lane.OCR).submitted()).isEqualTo(3);
+    }
+
+    @ParameterizedTest(name = "virtual threads: {0}")
+    @ValueSource(booleans = {false, true})
+    @DisplayName("Should finish every document while both extraction lanes are full")
+    void shouldFinishEveryDocumentWithFullLanes(boolean virtualThreads) throws Exception {
+        ocrPool = pool(1, 2, ExtractionExecutors.waitForRoom());
+        parsePool = pool(1, 2, ExtractionExecutors.waitForRoom());
+        ioExecutor = new AsyncConfig().extractionIoExecutor(2, virtualThreads);
+        ExtractionExecutors executors = new ExtractionExecutors(ocrPool, parsePool, ioExecutor, "image/*", 4);
+        int documents = 200;
+        CountDownLatch finished = new CountDownLatch(documents);
+
+        // Same hops as a document: admitted on I/O, extracted on OCR or parse, handed back to I/O to finish
+        Thread uploads = new Thread(() -> {
+            for (int i = 0; i < documents; i++) {
+                ExtractionExecutors.Lane lane = i % 2 == 0 ? ExtractionExecutors.Lane.OCR : ExtractionExecutors.Lane.PARSE;
+                executors.admit(() -> executors.execute(lane, () -> {
+                    sleep(1);
+                    executors.execute(ExtractionExecutors.Lane.IO, finished::countDown);
+                }));
+            }
+        });
+        uploads.start();
+
+        assertThat(finished.await(30, TimeUnit.SECONDS)).isTrue();
+        uploads.join(5000);
+        assertThat(uploads.isAlive()).isFalse();
+        assertThat(executors.stats()).allSatisfy(stats -> assertThat(stats.rejected()).isZero());
+    }
+
+    @Test
+    @DisplayName("Should hand work from the parse lane to a full OCR lane without blocking the parse worker")
+    void shouldHandOffToFullOcrLaneWithoutBlockingParsing() throws Exception {
+        ocrPool = pool(1, 1, ExtractionExecutors.waitForRoom());
+        parsePool = pool(1, 10, ExtractionExecutors.waitForRoom());
+        ioExecutor = new AsyncConfig().extractionIoExecutor(1, false);
+        ExtractionExecutors executors = new ExtractionExecutors(ocrPool, parsePool, ioExecutor, "image/*", 4);
+        CountDownLatch blockOcr = new CountDownLatch(1);
+        CountDownLatch ocrDone = new CountDownLatch(3);
+        CountDownLatch parsed = new CountDownLatch(3);
+
+        executors.execute(ExtractionExecutors.Lane.OCR, () -> {
+            await(blockOcr);
+            ocrDone.countDown();
+        });
+        executors.execute(ExtractionExecutors.Lane.OCR, ocrDone::countDown);
+        executors.execute(ExtractionExecutors.Lane.IO, () -> await(blockOcr));
+        executors.execute(ExtractionExecutors.Lane.IO, () -> await(blockOcr));
+
+        // Same hand-off as a scanned PDF falling back to OCR: parse lane -> IO lane -> OCR lane
+        executors.execute(ExtractionExecutors.Lane.PARSE, () -> executors.execute(ExtractionExecutors.Lane.IO,
+                () -> executors.execute(ExtractionExecutors.Lane.OCR, ocrDone::countDown)));
+        for (int i = 0; i < 3; i++) {
+            executors.execute(ExtractionExecutors.Lane.PARSE, parsed::countDown);
+        }
+
+        assertThat(parsed.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(ocrDone.getCount()).isEqualTo(3);
+
+        blockOcr.countDown();
+        assertThat(ocrDone.await(5, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should make new documents wait for admission while earlier ones are still starting")
+    void shouldThrottleAdmissions() throws Exception {
+        ExtractionExecutors executors = new ExtractionExecutors(Runnable::run, Runnable::run,
+                task -> new Thread(task).start(), "image/*", 1);
+        CountDownLatch blockStart = new CountDownLatch(1);
+        CountDownLatch started = new CountDownLatch(2);
+
+        executors.admit(() -> {
+            await(blockStart);
+            started.countDown();
+        });
+        Thread upload = new Thread(() -> executors.admit(started::countDown));
+        upload.start();
+        upload.join(200);
+        assertThat(upload.isAlive()).isTrue();
+
+        blockStart.countDown();
+        upload.join(5000);
+        assertThat(upload.isAlive()).isFalse();
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+    }
+
+    private ExtractionExecutors.LaneStats stats(ExtractionExecutors executors, ExtractionExecutors.Lane lane) {
+        return executors.stats().stream().filter(stats -> stats.lane() == lane).findFirst().orElseThrow();
+    }
+
+    private ThreadPoolTaskExecutor pool(int size, int queueCapacity, RejectedExecutionHandler handler) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(size);
+        executor.setMaxPoolSize(size);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setRejectedExecutionHandler(handler);
+        executor.initialize();
+        return executor;
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
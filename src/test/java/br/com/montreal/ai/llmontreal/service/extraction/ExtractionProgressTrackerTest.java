@@ -0,0 +1,81 @@
+package br.com.montreal.ai.llmontreal.service.extraction;
+
+import br.com.montreal.ai.llmontreal.dto.DocumentStatusDTO;
+import br.com.montreal.ai.llmontreal.entity.enums.DocumentStatus;
+import br.com.montreal.ai.llmontreal.entity.enums.ProcessingStage;
+import br.com.montreal.ai.llmontreal.event.DocumentStatusChangedEvent;
+import br.com.montreal.ai.llmontreal.repository.DocumentRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ExtractionProgressTracker Unit Tests")
+class ExtractionProgressTrackerTest {
+
+    @Mock
+    private DocumentRepository documentRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private ExtractionProgressTracker tracker;
+
+    @BeforeEach
+    void setUp() {
+        tracker = new ExtractionProgressTracker(documentRepository, eventPublisher);
+    }
+
+    @Test
+    @DisplayName("Should record progress on the extracting document only")
+    void shouldRecordProgressByDocumentId() {
+        when(documentRepository.updateExtractionProgress(7L, DocumentStatus.PROCESSING, 2, 5)).thenReturn(1);
+        when(documentRepository.findStatusById(7L)).thenReturn(Optional.of(new DocumentStatusDTO(
+                7L, "upload-1", DocumentStatus.PROCESSING, ProcessingStage.EXTRACTING, LocalDateTime.now(), null, 2, 5)));
+
+        tracker.report(7L, 2, 5);
+
+        ArgumentCaptor<DocumentStatusChangedEvent> eventCaptor = ArgumentCaptor.forClass(DocumentStatusChangedEvent.class);
+        verify(eventPublisher).publishEvent(eventCaptor.capture());
+        assertThat(eventCaptor.getValue().getDocumentId()).isEqualTo(7L);
+        assertThat(eventCaptor.getValue().getPagesDone()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should ignore progress reported outside a document extraction")
+    void shouldIgnoreProgressWithoutDocument() {
+        tracker.report(ExtractionProgressTracker.currentDocumentId(), 1, 3);
+
+        verifyNoInteractions(documentRepository, eventPublisher);
+    }
+
+    @Test
+    @DisplayName("Should bind the document to the current thread only while the task runs")
+    void shouldBindDocumentWhileTaskRuns() throws Exception {
+        AtomicReference<Long> inner = new AtomicReference<>();
+
+        Long outer = ExtractionProgressTracker.forDocument(7L, () -> {
+            ExtractionProgressTracker.forDocument(8L, () -> {
+                inner.set(ExtractionProgressTracker.currentDocumentId());
+                return null;
+            });
+            return ExtractionProgressTracker.currentDocumentId();
+        });
+
+        assertThat(inner.get()).isEqualTo(8L);
+        assertThat(outer).isEqualTo(7L);
+        assertThat(ExtractionProgressTracker.currentDocumentId()).isNull();
+    }
+}
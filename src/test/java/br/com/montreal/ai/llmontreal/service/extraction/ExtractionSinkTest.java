@@ -0,0 +1,78 @@
+package br.com.montreal.ai.llmontreal.service.extraction;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringWriter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("ExtractionSink Unit Tests")
+class ExtractionSinkTest {
+
+    @Test
+    @DisplayName("Should keep small outputs in memory")
+    void shouldKeepSmallOutputsInMemory() throws Exception {
+        try (ExtractionSink sink = new ExtractionSink(100, 1000)) {
+            sink.write("texto curto");
+
+            assertThat(sink.isSpilled()).isFalse();
+            assertThat(read(sink)).isEqualTo("texto curto");
+        }
+    }
+
+    @Test
+    @DisplayName("Should spill to disk after the memory threshold and keep every character")
+    void shouldSpillToDiskAfterThreshold() throws Exception {
+        String chunk = "conteúdo ção ";
+        StringBuilder expected = new StringBuilder();
+
+        try (ExtractionSink sink = new ExtractionSink(50, 100_000)) {
+            for (int i = 0; i < 200; i++) {
+                sink.write(chunk);
+                expected.append(chunk);
+            }
+
+            assertThat(sink.isSpilled()).isTrue();
+            assertThat(sink.length()).isEqualTo(expected.length());
+            assertThat(read(sink)).isEqualTo(expected.toString());
+        }
+    }
+
+    @Test
+    @DisplayName("Should stop at the hard cap and keep the text written up to it")
+    void shouldStopAtHardCap() throws Exception {
+        try (ExtractionSink sink = new ExtractionSink(4, 10)) {
+            sink.write("12345");
+
+            assertThatThrownBy(() -> sink.write("67890ABCDE"))
+                    .isInstanceOf(ExtractionSink.LimitReachedException.class);
+            assertThatThrownBy(() -> sink.write("F"))
+                    .isInstanceOf(ExtractionSink.LimitReachedException.class);
+
+            assertThat(sink.isLimitReached()).isTrue();
+            assertThat(read(sink)).isEqualTo("1234567890");
+        }
+    }
+
+    @Test
+    @DisplayName("Should reject writes after close")
+    void shouldRejectWritesAfterClose() throws Exception {
+        ExtractionSink sink = new ExtractionSink(4, 100);
+        sink.write("texto que passa do limite em memória");
+        sink.close();
+
+        assertThatThrownBy(() -> sink.write("mais")).isInstanceOf(IOException.class);
+    }
+
+    private String read(ExtractionSink sink) throws IOException {
+        StringWriter out = new StringWriter();
+        try (Reader reader = sink.openReader()) {
+            reader.transferTo(out);
+        }
+        return out.toString();
+    }
+}
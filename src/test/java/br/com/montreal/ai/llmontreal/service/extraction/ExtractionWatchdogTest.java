@@ -0,0 +1,229 @@
+package br.com.montreal.ai.llmontreal.service.extraction;
+
+import br.com.montreal.ai.llmontreal.exception.ExtractionException;
+import br.com.montreal.ai.llmontreal.exception.ExtractionTimeoutException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("ExtractionWatchdog Unit Tests")
+class ExtractionWatchdogTest {
+
+    private ExtractionWatchdog watchdog;
+
+    @AfterEach
+    void tearDown() {
+        if (watchdog != null) {
+            watchdog.shutdown();
+        }
+        Thread.interrupted();
+    }
+
+    @Test
+    @DisplayName("Should return the result when the task finishes within the deadline")
+    void shouldReturnResultWithinDeadline() throws Exception {
+        watchdog = new ExtractionWatchdog(5_000, "", 16);
+
+        String result = watchdog.runWithDeadline("application/pdf", () -> "texto");
+
+        assertThat(result).isEqualTo("texto");
+        assertThat(watchdog.stats().deadlines()).isEqualTo(1);
+        assertThat(watchdog.stats().timeouts()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should interrupt the task and throw a timeout when the deadline expires")
+    void shouldInterruptTaskWhenDeadlineExpires() {
+        watchdog = new ExtractionWatchdog(100, "", 16);
+
+        assertThatThrownBy(() -> watchdog.runWithDeadline("application/pdf", () -> {
+            try {
+                Thread.sleep(10_000);
+                return "texto";
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new ExtractionException("interrupted", e);
+            }
+        }))
+                .isInstanceOf(ExtractionTimeoutException.class)
+                .hasMessageContaining("100ms")
+                .hasMessageContaining("application/pdf");
+
+        assertThat(Thread.currentThread().isInterrupted()).isFalse();
+        assertThat(watchdog.stats().timeouts()).isEqualTo(1);
+        assertThat(watchdog.stats().timeoutsByContentType()).containsEntry("application/pdf", 1L);
+    }
+
+    @Test
+    @DisplayName("Should free the caller at the deadline even when the task ignores the interrupt")
+    void shouldReportTimeoutWhenTaskIgnoresInterrupt() throws Exception {
+        watchdog = new ExtractionWatchdog(50, "", 16);
+        CountDownLatch taskFinished = new CountDownLatch(1);
+        long startTime = System.nanoTime();
+
+        assertThatThrownBy(() -> watchdog.runWithDeadline("image/png", () -> {
+            long until = System.nanoTime() + 1_000_000_000L;
+            while (System.nanoTime() < until) {
+                Thread.onSpinWait();
+            }
+            taskFinished.countDown();
+            return "texto parcial";
+        })).isInstanceOf(ExtractionTimeoutException.class);
+
+        assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime)).isLessThan(800);
+        assertThat(taskFinished.getCount()).isEqualTo(1);
+        assertThat(Thread.currentThread().isInterrupted()).isFalse();
+        assertThat(watchdog.stats().abandonedRunners()).isEqualTo(1);
+        assertThat(watchdog.stats().stuckRunners()).isEqualTo(1);
+
+        assertThat(taskFinished.await(5, TimeUnit.SECONDS)).isTrue();
+        Thread.sleep(50);
+        assertThat(watchdog.stats().stuckRunners()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should run abandon callbacks only when the deadline expires")
+    void shouldRunAbandonCallbacksOnlyOnTimeout() throws Exception {
+        watchdog = new ExtractionWatchdog(100, "", 16);
+        AtomicInteger released = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+
+        watchdog.runWithDeadline("image/png", () -> {
+            ExtractionWatchdog.onAbandon(released::incrementAndGet);
+            return "texto";
+        });
+        assertThat(released).hasValue(0);
+
+        try {
+            assertThatThrownBy(() -> watchdog.runWithDeadline("image/png", () -> {
+                ExtractionWatchdog.onAbandon(released::incrementAndGet);
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return "texto";
+            })).isInstanceOf(ExtractionTimeoutException.class);
+            assertThat(released).hasValue(1);
+        } finally {
+            release.countDown();
+        }
+
+        ExtractionWatchdog.onAbandon(released::incrementAndGet);
+        assertThat(released).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("Should run abandon callbacks registered on threads the task handed work to")
+    void shouldRunAbandonCallbacksFromHandedOffThreads() throws Exception {
+        watchdog = new ExtractionWatchdog(100, "", 16);
+        AtomicInteger released = new AtomicInteger();
+
+        assertThatThrownBy(() -> watchdog.runWithDeadline("application/pdf", () -> {
+            Thread page = new Thread(ExtractionWatchdog.withCurrentDeadline(
+                    () -> ExtractionWatchdog.onAbandon(released::incrementAndGet)));
+            page.start();
+            try {
+                page.join();
+                Thread.sleep(10_000);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return "texto";
+        })).isInstanceOf(ExtractionTimeoutException.class);
+
+        assertThat(released).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("Should reject new work while too many runners are stuck past their deadline")
+    void shouldRejectWorkAboveStuckRunnerLimit() throws Exception {
+        watchdog = new ExtractionWatchdog(50, "", 1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        try {
+            assertThatThrownBy(() -> watchdog.runWithDeadline("image/png", () -> {
+                awaitIgnoringInterrupts(release);
+                return "texto";
+            })).isInstanceOf(ExtractionTimeoutException.class);
+
+            assertThatThrownBy(() -> watchdog.runWithDeadline("image/png", () -> "texto"))
+                    .isInstanceOf(ExtractionException.class)
+                    .isNotInstanceOf(ExtractionTimeoutException.class)
+                    .hasMessageContaining("limite 1");
+            assertThat(watchdog.stats().rejectedForStuckRunners()).isEqualTo(1);
+        } finally {
+            release.countDown();
+        }
+
+        long until = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (watchdog.stats().stuckRunners() > 0 && System.nanoTime() < until) {
+            Thread.sleep(10);
+        }
+        assertThat(watchdog.runWithDeadline("image/png", () -> "texto")).isEqualTo("texto");
+    }
+
+    @Test
+    @DisplayName("Should rethrow the task's own extraction failure")
+    void shouldRethrowTaskFailure() {
+        watchdog = new ExtractionWatchdog(5_000, "", 16);
+
+        assertThatThrownBy(() -> watchdog.runWithDeadline("application/pdf", () -> {
+            throw new ExtractionException("arquivo corrompido");
+        }))
+                .isInstanceOf(ExtractionException.class)
+                .isNotInstanceOf(ExtractionTimeoutException.class)
+                .hasMessage("arquivo corrompido");
+        assertThat(watchdog.stats().timeouts()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should not interrupt the thread after the task has finished")
+    void shouldNotInterruptAfterTaskFinished() throws Exception {
+        watchdog = new ExtractionWatchdog(50, "", 16);
+
+        watchdog.runWithDeadline("text/plain", () -> "texto");
+        Thread.sleep(150);
+
+        assertThat(Thread.currentThread().isInterrupted()).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should resolve timeouts by exact type, then wildcard, then default")
+    void shouldResolveTimeoutsByContentType() {
+        watchdog = new ExtractionWatchdog(300_000, "application/pdf=900000, image/*=120000", 16);
+
+        assertThat(watchdog.timeoutFor("application/pdf")).isEqualTo(900_000);
+        assertThat(watchdog.timeoutFor("APPLICATION/PDF; charset=binary")).isEqualTo(900_000);
+        assertThat(watchdog.timeoutFor("image/tiff")).isEqualTo(120_000);
+        assertThat(watchdog.timeoutFor("text/plain")).isEqualTo(300_000);
+        assertThat(watchdog.timeoutFor(null)).isEqualTo(300_000);
+    }
+
+    @Test
+    @DisplayName("Should run without a deadline when the timeout is disabled")
+    void shouldRunWithoutDeadlineWhenDisabled() throws Exception {
+        watchdog = new ExtractionWatchdog(0, "", 16);
+
+        assertThat(watchdog.runWithDeadline("application/pdf", () -> "texto")).isEqualTo("texto");
+        assertThat(watchdog.stats().deadlines()).isZero();
+    }
+
+    private static void awaitIgnoringInterrupts(CountDownLatch latch) {
+        while (true) {
+            try {
+                latch.await();
+                return;
+            } catch (InterruptedException ignored) {
+                // Simulates a native call that never checks the interrupt
+            }
+        }
+    }
+}
@@ -0,0 +1,156 @@
+package br.com.montreal.ai.llmontreal.service.extraction;
+
+import br.com.montreal.ai.llmontreal.exception.ExtractionException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+@DisplayName("ExtractorRegistry Unit Tests")
+class ExtractorRegistryTest {
+
+    @Test
+    @DisplayName("Should order extractors of a route by priority")
+    void shouldOrderRouteByPriority() {
+        StubExtractor slow = new StubExtractor(50, Set.of("application/pdf"), "lento");
+        StubExtractor fast = new StubExtractor(10, Set.of("application/pdf"), "rapido");
+        StubExtractor images = new StubExtractor(5, Set.of("image/png"), "ocr");
+
+        ExtractorRegistry registry = new ExtractorRegistry(List.of(slow, images, fast));
+
+        assertThat(registry.route("application/pdf")).containsExactly(fast, slow);
+        assertThat(registry.route("APPLICATION/PDF")).containsExactly(fast, slow);
+        assertThat(registry.route("image/png")).containsExactly(images);
+        assertThat(registry.route("text/csv")).isEmpty();
+        assertThat(registry.route(null)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should return the first non-empty result without calling later extractors")
+    void shouldReturnFirstNonEmptyResult() throws Exception {
+        StubExtractor tika = new StubExtractor(10, Set.of("application/pdf"), "texto");
+        StubExtractor ocr = new StubExtractor(20, Set.of("application/pdf"), "texto ocr");
+        List<ContentExtractor> called = new ArrayList<>();
+
+        String content = new ExtractorRegistry(List.of(ocr, tika))
+                .extract("application/pdf", extractor -> {
+                    called.add(extractor);
+                    return extractor.extractContent(null, "application/pdf");
+                });
+
+        assertThat(content).isEqualTo("texto");
+        assertThat(called).containsExactly(tika);
+    }
+
+    @Test
+    @DisplayName("Should fall back to the next extractor on empty text or failure and count it")
+    void shouldFallBackOnEmptyTextOrFailure() throws Exception {
+        StubExtractor empty = new StubExtractor(10, Set.of("application/pdf"), "  ");
+        StubExtractor failing = new StubExtractor(20, Set.of("application/pdf"), null);
+        StubExtractor ocr = new StubExtractor(30, Set.of("application/pdf"), "texto ocr");
+        ExtractorRegistry registry = new ExtractorRegistry(List.of(empty, failing, ocr));
+
+        String content = registry.extract("application/pdf", extractor -> extractor.extractContent(null, "application/pdf"));
+
+        assertThat(content).isEqualTo("texto ocr");
+        assertThat(registry.stats())
+                .extracting(ExtractorRegistry.RouteStats::position, ExtractorRegistry.RouteStats::invocations,
+                        ExtractorRegistry.RouteStats::hits, ExtractorRegistry.RouteStats::fallbacks,
+                        ExtractorRegistry.RouteStats::failures)
+                .containsExactly(
+                        tuple(0, 1L, 0L, 1L, 0L),
+                        tuple(1, 1L, 0L, 1L, 1L),
+                        tuple(2, 1L, 1L, 0L, 0L));
+    }
+
+    @Test
+    @DisplayName("Should suspend before an OCR fallback and resume from that position")
+    void shouldSuspendBeforeOcrFallbackAndResume() throws Exception {
+        StubExtractor tika = new StubExtractor(10, Set.of("application/pdf"), "  ");
+        StubExtractor ocr = new StubExtractor(20, Set.of("application/pdf"), "texto ocr");
+        ExtractorRegistry registry = new ExtractorRegistry(List.of(ocr, tika));
+        List<ContentExtractor> called = new ArrayList<>();
+        ExtractorRegistry.ExtractorCall call = extractor -> {
+            called.add(extractor);
+            return extractor.extractContent(null, "application/pdf");
+        };
+
+        ExtractorRegistry.Outcome suspended = registry.extract("application/pdf", 0, extractor -> extractor == ocr, call);
+
+        assertThat(suspended.suspended()).isTrue();
+        assertThat(suspended.resumeAt()).isEqualTo(1);
+        assertThat(called).containsExactly(tika);
+
+        ExtractorRegistry.Outcome resumed = registry.extract("application/pdf", suspended.resumeAt(),
+                extractor -> extractor == ocr, call);
+
+        assertThat(resumed.suspended()).isFalse();
+        assertThat(resumed.content()).isEqualTo("texto ocr");
+        assertThat(called).containsExactly(tika, ocr);
+    }
+
+    @Test
+    @DisplayName("Should propagate the failure of the last extractor in the route")
+    void shouldPropagateLastFailure() {
+        StubExtractor failing = new StubExtractor(10, Set.of("application/pdf"), null);
+        ExtractorRegistry registry = new ExtractorRegistry(List.of(failing));
+
+        assertThatThrownBy(() -> registry.extract("application/pdf",
+                extractor -> extractor.extractContent(null, "application/pdf")))
+                .isInstanceOf(ExtractionException.class)
+                .hasMessage("falhou");
+    }
+
+    @Test
+    @DisplayName("Should fail when no extractor supports the content type")
+    void shouldFailWithoutRoute() {
+        ExtractorRegistry registry = new ExtractorRegistry(List.of());
+
+        assertThatThrownBy(() -> registry.extract("application/xyz", extractor -> "nunca"))
+                .isInstanceOf(ExtractionException.class)
+                .hasMessageContaining("No extractor found");
+    }
+
+    private static class StubExtractor implements ContentExtractor {
+
+        private final int priority;
+        private final Set<String> contentTypes;
+        private final String result;
+
+        StubExtractor(int priority, Set<String> contentTypes, String result) {
+            this.priority = priority;
+            this.contentTypes = contentTypes;
+            this.result = result;
+        }
+
+        @Override
+        public String extractContent(InputStream inputStream, String contentType) throws ExtractionException {
+            if (result == null) {
+                throw new ExtractionException("falhou");
+            }
+            return result;
+        }
+
+        @Override
+        public boolean supportsThisContentType(String contentType) {
+            return contentType != null && contentTypes.contains(contentType.toLowerCase());
+        }
+
+        @Override
+        public Set<String> getSupportedContentTypes() {
+            return contentTypes;
+        }
+
+        @Override
+        public int getPriority() {
+            return priority;
+        }
+    }
+}
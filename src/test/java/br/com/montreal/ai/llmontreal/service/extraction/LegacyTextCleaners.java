@@ -0,0 +1,41 @@
+package br.com.montreal.ai.llmontreal.service.extraction;
+
+// Regex-chain cleaners that TextNormalizer replaced, kept as the reference for equivalence tests and benchmarks
+final class LegacyTextCleaners {
+
+    private LegacyTextCleaners() {
+    }
+
+    static String tika(String text) {
+        if (text == null) {
+            return "";
+        }
+
+        return text
+                .replaceAll("[\\p{Cntrl}&&[^\n\r\t]]", "")
+                .replaceAll("[ \\t]+", " ")
+                .replaceAll("\r\n", "\n")
+                .replaceAll("\r", "\n")
+                .replaceAll("\n{3,}", "\n\n")
+                .trim();
+    }
+
+    static String tesseract(String text) {
+        if (text == null) {
+            return "";
+        }
+
+        return text
+                .replaceAll("[\\p{Cntrl}&&[^\n\r\t]]", "")
+                .replaceAll("[ \\t]+", " ")
+                .replace("\r\n", "\n")
+                .replace("\r", "\n")
+                .replaceAll("\n{3,}", "\n\n")
+                .lines()
+                .map(String::trim)
+                .filter(line -> !line.isEmpty())
+                .reduce((a, b) -> a + "\n" + b)
+                .orElse("")
+                .trim();
+    }
+}
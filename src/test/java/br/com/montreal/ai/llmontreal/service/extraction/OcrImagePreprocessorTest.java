@@ -0,0 +1,93 @@
+package br.com.montreal.ai.llmontreal.service.extraction;
+
+import br.com.montreal.ai.llmontreal.service.extraction.OcrImagePreprocessor.ColorMode;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("OcrImagePreprocessor Unit Tests")
+class OcrImagePreprocessorTest {
+
+    @Test
+    @DisplayName("Should return the original image when disabled")
+    void shouldReturnOriginalImageWhenDisabled() {
+        OcrImagePreprocessor preprocessor = new OcrImagePreprocessor(false, 300, 11.7, ColorMode.BINARY, true, 0.5);
+        BufferedImage image = page(8000, 6000, BufferedImage.TYPE_INT_RGB);
+
+        assertThat(preprocessor.process(image)).isSameAs(image);
+        assertThat(preprocessor.getConfigFingerprint()).isEqualTo("pre=off");
+    }
+
+    @Test
+    @DisplayName("Should downscale large photos to the target DPI page size and convert to grayscale")
+    void shouldDownscaleLargePhotos() {
+        OcrImagePreprocessor preprocessor = new OcrImagePreprocessor(true, 300, 11.7, ColorMode.GRAYSCALE, false, 0.5);
+
+        BufferedImage result = preprocessor.process(page(6000, 8000, BufferedImage.TYPE_INT_RGB));
+
+        assertThat(result.getHeight()).isEqualTo(3510);
+        assertThat(result.getWidth()).isEqualTo(2633);
+        assertThat(result.getType()).isEqualTo(BufferedImage.TYPE_BYTE_GRAY);
+    }
+
+    @Test
+    @DisplayName("Should not upscale images that are already small enough")
+    void shouldNotUpscaleSmallImages() {
+        OcrImagePreprocessor preprocessor = new OcrImagePreprocessor(true, 300, 11.7, ColorMode.NONE, false, 0.5);
+        BufferedImage image = page(800, 600, BufferedImage.TYPE_INT_RGB);
+
+        assertThat(preprocessor.process(image)).isSameAs(image);
+    }
+
+    @Test
+    @DisplayName("Should binarize with dark text on white background")
+    void shouldBinarizeImage() {
+        OcrImagePreprocessor preprocessor = new OcrImagePreprocessor(true, 300, 11.7, ColorMode.BINARY, false, 0.5);
+
+        BufferedImage result = preprocessor.process(page(400, 300, BufferedImage.TYPE_INT_RGB));
+
+        assertThat(result.getType()).isEqualTo(BufferedImage.TYPE_BYTE_BINARY);
+        assertThat(result.getRGB(5, 5) & 0xFFFFFF).isEqualTo(0xFFFFFF);
+        assertThat(result.getRGB(100, 150) & 0xFFFFFF).isEqualTo(0x000000);
+    }
+
+    @Test
+    @DisplayName("Should render transparent areas as white when converting to grayscale")
+    void shouldRenderTransparencyAsWhite() {
+        OcrImagePreprocessor preprocessor = new OcrImagePreprocessor(true, 300, 11.7, ColorMode.GRAYSCALE, false, 0.5);
+        BufferedImage transparent = new BufferedImage(100, 100, BufferedImage.TYPE_INT_ARGB);
+
+        BufferedImage result = preprocessor.process(transparent);
+
+        assertThat(result.getRaster().getSample(50, 50, 0)).isEqualTo(255);
+    }
+
+    @Test
+    @DisplayName("Should change the configuration fingerprint when preprocessing settings change")
+    void shouldChangeFingerprintWithSettings() {
+        String grayscale = new OcrImagePreprocessor(true, 300, 11.7, ColorMode.GRAYSCALE, false, 0.5).getConfigFingerprint();
+        String binary = new OcrImagePreprocessor(true, 300, 11.7, ColorMode.BINARY, false, 0.5).getConfigFingerprint();
+        String lowDpi = new OcrImagePreprocessor(true, 200, 11.7, ColorMode.GRAYSCALE, false, 0.5).getConfigFingerprint();
+
+        assertThat(grayscale).isNotEqualTo(binary).isNotEqualTo(lowDpi);
+    }
+
+    private BufferedImage page(int width, int height, int type) {
+        BufferedImage image = new BufferedImage(width, height, type);
+        Graphics2D graphics = image.createGraphics();
+        try {
+            graphics.setColor(Color.WHITE);
+            graphics.fillRect(0, 0, width, height);
+            graphics.setColor(new Color(30, 30, 30));
+            graphics.fillRect(width / 5, height / 3, width / 2, height / 3);
+        } finally {
+            graphics.dispose();
+        }
+        return image;
+    }
+}
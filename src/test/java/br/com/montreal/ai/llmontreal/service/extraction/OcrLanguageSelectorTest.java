@@ -0,0 +1,102 @@
+package br.com.montreal.ai.llmontreal.service.extraction;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.awt.image.BufferedImage;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("OcrLanguageSelector Unit Tests")
+class OcrLanguageSelectorTest {
+
+    private static final String PORTUGUESE = "O relatório foi enviado para a diretoria e não houve resposta. " +
+            "Os documentos são analisados pelo setor jurídico, que também pode pedir mais informações " +
+            "quando as cláusulas estão incompletas ou já foram alteradas.";
+
+    private static final String ENGLISH = "The report was sent to the board and there has been no answer. " +
+            "These documents are reviewed by the legal team, which should ask for more information " +
+            "when the clauses have been changed or are not complete.";
+
+    private final BufferedImage page = new BufferedImage(1200, 1600, BufferedImage.TYPE_BYTE_GRAY);
+
+    @Test
+    @DisplayName("Should pick Portuguese when the probe text is Portuguese")
+    void shouldPickPortuguese() throws Exception {
+        OcrLanguageSelector selector = new OcrLanguageSelector("por+eng", true, 0.5, 8, 0.8);
+
+        OcrLanguageSelector.Choice choice = selector.choose(page, (image, language) -> PORTUGUESE);
+
+        assertThat(choice.language()).isEqualTo("por");
+        assertThat(choice.detected()).isTrue();
+        assertThat(selector.stats().chosenLanguages()).containsEntry("por", 1L);
+    }
+
+    @Test
+    @DisplayName("Should pick English when the probe text is English")
+    void shouldPickEnglish() throws Exception {
+        OcrLanguageSelector selector = new OcrLanguageSelector("por+eng", true, 0.5, 8, 0.8);
+
+        OcrLanguageSelector.Choice choice = selector.choose(page, (image, language) -> ENGLISH);
+
+        assertThat(choice.language()).isEqualTo("eng");
+        assertThat(choice.confidence()).isGreaterThanOrEqualTo(0.8);
+    }
+
+    @Test
+    @DisplayName("Should probe with the combined set on a reduced band of the page")
+    void shouldProbeWithCombinedSetOnReducedImage() throws Exception {
+        OcrLanguageSelector selector = new OcrLanguageSelector("por+eng", true, 0.5, 8, 0.8);
+        List<String> probedLanguages = new ArrayList<>();
+        List<BufferedImage> probedImages = new ArrayList<>();
+
+        selector.choose(page, (image, language) -> {
+            probedLanguages.add(language);
+            probedImages.add(image);
+            return ENGLISH;
+        });
+
+        assertThat(probedLanguages).containsExactly("por+eng");
+        assertThat(probedImages.get(0).getWidth()).isEqualTo(600);
+        assertThat(probedImages.get(0).getHeight()).isLessThan(page.getHeight() / 4);
+    }
+
+    @Test
+    @DisplayName("Should fall back to the combined set when the probe is inconclusive")
+    void shouldFallBackWhenInconclusive() throws Exception {
+        OcrLanguageSelector selector = new OcrLanguageSelector("por+eng", true, 0.5, 8, 0.8);
+
+        OcrLanguageSelector.Choice tooShort = selector.choose(page, (image, language) -> "the report");
+        OcrLanguageSelector.Choice mixed = selector.choose(page, (image, language) -> PORTUGUESE + " " + ENGLISH);
+
+        assertThat(tooShort.language()).isEqualTo("por+eng");
+        assertThat(tooShort.detected()).isFalse();
+        assertThat(mixed.language()).isEqualTo("por+eng");
+        assertThat(selector.stats().fallbacks()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should not count words shared by the candidate languages")
+    void shouldIgnoreSharedStopwords() {
+        OcrLanguageSelector selector = new OcrLanguageSelector("por+spa", true, 0.5, 8, 0.8);
+
+        assertThat(selector.countStopwords("para entre sobre")).isEmpty();
+        assertThat(selector.countStopwords("não são os")).containsEntry("por", 3);
+    }
+
+    @Test
+    @DisplayName("Should stay inactive with a single language or languages it cannot score")
+    void shouldStayInactiveWithoutAChoice() throws Exception {
+        OcrLanguageSelector single = new OcrLanguageSelector("eng", true, 0.5, 8, 0.8);
+        OcrLanguageSelector unknown = new OcrLanguageSelector("por+deu", true, 0.5, 8, 0.8);
+        OcrLanguageSelector disabled = new OcrLanguageSelector("por+eng", false, 0.5, 8, 0.8);
+
+        assertThat(single.isActive()).isFalse();
+        assertThat(unknown.isActive()).isFalse();
+        assertThat(disabled.isActive()).isFalse();
+        assertThat(disabled.choose(page, (image, language) -> ENGLISH).language()).isEqualTo("por+eng");
+        assertThat(disabled.stats().probes()).isZero();
+    }
+}
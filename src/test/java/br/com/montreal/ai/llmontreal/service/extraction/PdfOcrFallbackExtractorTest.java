@@ -0,0 +1,198 @@
+package br.com.montreal.ai.llmontreal.service.extraction;
+
+import br.com.montreal.ai.llmontreal.exception.ExtractionException;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.PDPage;
+import org.apache.pdfbox.pdmodel.common.PDRectangle;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PdfOcrFallbackExtractor Unit Tests")
+class PdfOcrFallbackExtractorTest {
+
+    private static final String PDF = "application/pdf";
+
+    @Mock
+    private TesseractContentExtractor tesseractExtractor;
+
+    @Mock
+    private ExtractionCheckpointStore checkpointStore;
+
+    @Mock
+    private ExtractionProgressTracker progressTracker;
+
+    private ObjectProvider<ExtractionCheckpointStore> noCheckpointStore;
+    private ObjectProvider<ExtractionProgressTracker> noProgressTracker;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        noCheckpointStore = providerOf(ExtractionCheckpointStore.class, null);
+        noProgressTracker = providerOf(ExtractionProgressTracker.class, null);
+        lenient().when(tesseractExtractor.extractText(any(BufferedImage.class), any()))
+                .thenAnswer(invocation -> "page-" + invocation.<BufferedImage>getArgument(0).getWidth());
+    }
+
+    @Test
+    @DisplayName("Should support only PDFs when enabled")
+    void shouldSupportOnlyPdfsWhenEnabled() {
+        PdfOcrFallbackExtractor enabled = new PdfOcrFallbackExtractor(tesseractExtractor, Runnable::run, true, 72, 10, 1,
+                noCheckpointStore, noProgressTracker);
+        PdfOcrFallbackExtractor disabled = new PdfOcrFallbackExtractor(tesseractExtractor, Runnable::run, false, 72, 10, 1,
+                noCheckpointStore, noProgressTracker);
+
+        assertThat(enabled.supportsThisContentType("application/pdf")).isTrue();
+        assertThat(enabled.getPriority()).isGreaterThan(10);
+        assertThat(enabled.supportsThisContentType("image/png")).isFalse();
+        assertThat(enabled.supportsThisContentType(null)).isFalse();
+        assertThat(disabled.supportsThisContentType("application/pdf")).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should OCR every page and stitch text in page order")
+    void shouldOcrEveryPageInPageOrder() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            PdfOcrFallbackExtractor extractor = new PdfOcrFallbackExtractor(tesseractExtractor, executor, true, 72, 10, 4,
+                noCheckpointStore, noProgressTracker);
+
+            String content = extractor.extractContent(new ByteArrayInputStream(createPdf(100, 200, 300, 400, 500)), PDF);
+
+            assertThat(content).isEqualTo("page-100\n\npage-200\n\npage-300\n\npage-400\n\npage-500");
+            verify(tesseractExtractor, times(5)).extractText(any(BufferedImage.class), any());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("Should skip blank pages when stitching text")
+    void shouldSkipBlankPages() throws Exception {
+        when(tesseractExtractor.extractText(any(BufferedImage.class), any()))
+                .thenAnswer(invocation -> invocation.<BufferedImage>getArgument(0).getWidth() == 200
+                        ? "" : "page-" + invocation.<BufferedImage>getArgument(0).getWidth());
+        PdfOcrFallbackExtractor extractor = new PdfOcrFallbackExtractor(tesseractExtractor, Runnable::run, true, 72, 10, 2,
+                noCheckpointStore, noProgressTracker);
+
+        String content = extractor.extractContent(new ByteArrayInputStream(createPdf(100, 200, 300)), PDF);
+
+        assertThat(content).isEqualTo("page-100\n\npage-300");
+    }
+
+    @Test
+    @DisplayName("Should reject PDFs with more pages than allowed")
+    void shouldRejectPdfsOverPageLimit() throws Exception {
+        PdfOcrFallbackExtractor extractor = new PdfOcrFallbackExtractor(tesseractExtractor, Runnable::run, true, 72, 2, 1,
+                noCheckpointStore, noProgressTracker);
+
+        assertThatThrownBy(() -> extractor.extractContent(new ByteArrayInputStream(createPdf(100, 100, 100)), PDF))
+                .isInstanceOf(ExtractionException.class)
+                .hasMessageContaining("3 pages");
+
+        verifyNoInteractions(tesseractExtractor);
+    }
+
+    @Test
+    @DisplayName("Should propagate OCR failures as ExtractionException")
+    void shouldPropagateOcrFailures() throws Exception {
+        when(tesseractExtractor.extractText(any(BufferedImage.class), any()))
+                .thenThrow(new ExtractionException("OCR failed"));
+        PdfOcrFallbackExtractor extractor = new PdfOcrFallbackExtractor(tesseractExtractor, Runnable::run, true, 72, 10, 1,
+                noCheckpointStore, noProgressTracker);
+
+        assertThatThrownBy(() -> extractor.extractContent(new ByteArrayInputStream(createPdf(100)), PDF))
+                .isInstanceOf(ExtractionException.class)
+                .hasMessage("OCR failed");
+    }
+
+    @Test
+    @DisplayName("Should fail with ExtractionException for invalid PDF data")
+    void shouldFailForInvalidPdf() {
+        PdfOcrFallbackExtractor extractor = new PdfOcrFallbackExtractor(tesseractExtractor, Runnable::run, true, 72, 10, 1,
+                noCheckpointStore, noProgressTracker);
+
+        assertThatThrownBy(() -> extractor.extractContent(new ByteArrayInputStream("not a pdf".getBytes()), PDF))
+                .isInstanceOf(ExtractionException.class);
+    }
+
+    @Test
+    @DisplayName("Should resume from checkpointed pages and only OCR the remaining ones")
+    void shouldResumeFromCheckpointedPages() throws Exception {
+        when(checkpointStore.isEnabled()).thenReturn(true);
+        when(checkpointStore.checkpointKey(anyString(), anyString(), anyString())).thenReturn("key");
+        when(checkpointStore.completedPages("key")).thenReturn(Map.of(0, "restored-0", 1, "restored-1"));
+        PdfOcrFallbackExtractor extractor = new PdfOcrFallbackExtractor(tesseractExtractor, Runnable::run, true, 72, 10, 1,
+                providerOf(ExtractionCheckpointStore.class, checkpointStore),
+                providerOf(ExtractionProgressTracker.class, progressTracker));
+
+        byte[] pdf = createPdf(100, 200, 300);
+
+        String content = ExtractionProgressTracker.forDocument(7L,
+                () -> extractor.extractContent(new ByteArrayInputStream(pdf), PDF));
+
+        assertThat(content).isEqualTo("restored-0\n\nrestored-1\n\npage-300");
+        verify(tesseractExtractor, times(1)).extractText(any(BufferedImage.class), any());
+        verify(checkpointStore).savePage("key", 2, "page-300");
+        verify(checkpointStore).clear("key");
+        verify(progressTracker).report(7L, 2, 3);
+        verify(progressTracker).report(7L, 3, 3);
+    }
+
+    @Test
+    @DisplayName("Should keep checkpoints of finished pages when a later page fails")
+    void shouldKeepCheckpointsWhenPageFails() throws Exception {
+        when(checkpointStore.isEnabled()).thenReturn(true);
+        when(checkpointStore.checkpointKey(anyString(), anyString(), anyString())).thenReturn("key");
+        when(checkpointStore.completedPages("key")).thenReturn(Map.of());
+        when(tesseractExtractor.extractText(any(BufferedImage.class), any()))
+                .thenReturn("page-100")
+                .thenThrow(new ExtractionException("OCR failed"));
+        PdfOcrFallbackExtractor extractor = new PdfOcrFallbackExtractor(tesseractExtractor, Runnable::run, true, 72, 10, 1,
+                providerOf(ExtractionCheckpointStore.class, checkpointStore),
+                providerOf(ExtractionProgressTracker.class, progressTracker));
+
+        assertThatThrownBy(() -> extractor.extractContent(new ByteArrayInputStream(createPdf(100, 200)), PDF))
+                .isInstanceOf(ExtractionException.class);
+
+        verify(checkpointStore).savePage("key", 0, "page-100");
+        verify(checkpointStore, never()).clear(anyString());
+    }
+
+    private <T> ObjectProvider<T> providerOf(Class<T> type, T bean) {
+        StaticListableBeanFactory beanFactory = new StaticListableBeanFactory();
+        if (bean != null) {
+            beanFactory.addBean(type.getSimpleName(), bean);
+        }
+        return beanFactory.getBeanProvider(type);
+    }
+
+    private byte[] createPdf(int... pageWidths) throws IOException {
+        try (PDDocument document = new PDDocument(); ByteArrayOutputStream out = new ByteArrayOutputStream()) {
+            for (int width : pageWidths) {
+                document.addPage(new PDPage(new PDRectangle(width, 100)));
+            }
+            document.save(out);
+            return out.toByteArray();
+        }
+    }
+}
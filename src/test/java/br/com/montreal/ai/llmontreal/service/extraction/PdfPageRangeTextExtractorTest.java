@@ -0,0 +1,112 @@
+package br.com.montreal.ai.llmontreal.service.extraction;
+
+import br.com.montreal.ai.llmontreal.exception.ExtractionException;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.PDPage;
+import org.apache.pdfbox.pdmodel.PDPageContentStream;
+import org.apache.pdfbox.pdmodel.font.PDType1Font;
+import org.apache.pdfbox.pdmodel.font.Standard14Fonts;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("PdfPageRangeTextExtractor Unit Tests")
+class PdfPageRangeTextExtractorTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    @DisplayName("Should split only PDFs at or above the page threshold")
+    void shouldSplitOnlyAboveThreshold() {
+        PdfPageRangeTextExtractor extractor = new PdfPageRangeTextExtractor(Runnable::run, true, 100, 50, 0);
+        PdfPageRangeTextExtractor disabled = new PdfPageRangeTextExtractor(Runnable::run, false, 100, 50, 0);
+
+        assertThat(extractor.supports("application/pdf")).isTrue();
+        assertThat(extractor.supports("text/plain")).isFalse();
+        assertThat(extractor.shouldSplit(99)).isFalse();
+        assertThat(extractor.shouldSplit(100)).isTrue();
+        assertThat(disabled.supports("application/pdf")).isFalse();
+        assertThat(disabled.shouldSplit(600)).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should extract page ranges concurrently and reassemble them in order")
+    void shouldReassembleRangesInOrder() throws Exception {
+        Path pdf = createPdf(11);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            PdfPageRangeTextExtractor extractor = new PdfPageRangeTextExtractor(executor, true, 1, 3, 0);
+
+            assertThat(extractor.countPages(pdf)).isEqualTo(11);
+
+            StringWriter out = new StringWriter();
+            extractor.extractText(pdf, 11, out);
+            String content = out.toString();
+
+            for (int i = 1; i <= 11; i++) {
+                assertThat(content).contains("Pagina numero " + i + " ");
+            }
+            assertThat(content.indexOf("Pagina numero 3 ")).isLessThan(content.indexOf("Pagina numero 4 "));
+            assertThat(content.indexOf("Pagina numero 9 ")).isLessThan(content.indexOf("Pagina numero 10 "));
+            assertThat(content.indexOf("Pagina numero 10 ")).isLessThan(content.indexOf("Pagina numero 11 "));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("Should fail with ExtractionException when a range cannot be read")
+    void shouldFailWhenRangeCannotBeRead() throws Exception {
+        Path invalid = Files.writeString(tempDir.resolve("invalid.pdf"), "not a pdf");
+        PdfPageRangeTextExtractor extractor = new PdfPageRangeTextExtractor(Runnable::run, true, 1, 1, 0);
+
+        assertThatThrownBy(() -> extractor.extractText(invalid, 2, new StringWriter()))
+                .isInstanceOf(ExtractionException.class)
+                .hasMessageContaining("Page-range PDF extraction failed");
+    }
+
+    @Test
+    @DisplayName("Should stop writing fragments once the sink limit is reached")
+    void shouldStopAtSinkLimit() throws Exception {
+        Path pdf = createPdf(6);
+        PdfPageRangeTextExtractor extractor = new PdfPageRangeTextExtractor(Runnable::run, true, 1, 2, 0);
+
+        try (ExtractionSink sink = new ExtractionSink(1000, 30)) {
+            assertThatThrownBy(() -> extractor.extractText(pdf, 6, sink))
+                    .isInstanceOf(ExtractionSink.LimitReachedException.class);
+
+            assertThat(sink.isLimitReached()).isTrue();
+            assertThat(sink.length()).isEqualTo(30);
+        }
+    }
+
+    private Path createPdf(int pages) throws IOException {
+        Path file = tempDir.resolve("document.pdf");
+        try (PDDocument document = new PDDocument()) {
+            for (int i = 1; i <= pages; i++) {
+                PDPage page = new PDPage();
+                document.addPage(page);
+                try (PDPageContentStream content = new PDPageContentStream(document, page)) {
+                    content.beginText();
+                    content.setFont(new PDType1Font(Standard14Fonts.FontName.HELVETICA), 12);
+                    content.newLineAtOffset(72, 700);
+                    content.showText("Pagina numero " + i + " fim");
+                    content.endText();
+                }
+            }
+            document.save(file.toFile());
+        }
+        return file;
+    }
+}
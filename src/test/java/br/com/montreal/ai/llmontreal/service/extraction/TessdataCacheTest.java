@@ -0,0 +1,86 @@
+package br.com.montreal.ai.llmontreal.service.extraction;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("TessdataCache Unit Tests")
+class TessdataCacheTest {
+
+    @TempDir
+    Path sourceDir;
+
+    @TempDir
+    Path cacheDir;
+
+    private Resource[] resources;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        Path por = Files.write(sourceDir.resolve("por.traineddata"), "dados por".repeat(1000).getBytes());
+        Path eng = Files.write(sourceDir.resolve("eng.traineddata"), "dados eng".repeat(1000).getBytes());
+        resources = new Resource[]{new FileSystemResource(por), new FileSystemResource(eng)};
+    }
+
+    @Test
+    @DisplayName("Should copy on the first sync and reuse the cached files afterwards")
+    void shouldReuseCachedFiles() throws Exception {
+        TessdataCache.SyncResult first = new TessdataCache(cacheDir).sync(resources);
+        TessdataCache.SyncResult second = new TessdataCache(cacheDir).sync(resources);
+
+        assertThat(first.copied()).isEqualTo(2);
+        assertThat(second.copied()).isZero();
+        assertThat(second.reused()).isEqualTo(2);
+        assertThat(cacheDir.resolve("por.traineddata")).hasSameBinaryContentAs(sourceDir.resolve("por.traineddata"));
+    }
+
+    @Test
+    @DisplayName("Should copy again a cached file that fails checksum validation")
+    void shouldReplaceCorruptedFile() throws Exception {
+        new TessdataCache(cacheDir).sync(resources);
+        Path cached = cacheDir.resolve("eng.traineddata");
+        byte[] corrupted = Files.readAllBytes(cached);
+        corrupted[10] = 'X';
+        Files.write(cached, corrupted);
+        Files.setLastModifiedTime(cached, FileTime.fromMillis(Files.getLastModifiedTime(cached).toMillis() + 5_000));
+
+        TessdataCache.SyncResult result = new TessdataCache(cacheDir).sync(resources);
+
+        assertThat(result.copied()).isEqualTo(1);
+        assertThat(cached).hasSameBinaryContentAs(sourceDir.resolve("eng.traineddata"));
+    }
+
+    @Test
+    @DisplayName("Should keep a touched file whose checksum still matches")
+    void shouldKeepTouchedFileWithMatchingChecksum() throws Exception {
+        new TessdataCache(cacheDir).sync(resources);
+        Path cached = cacheDir.resolve("por.traineddata");
+        Files.setLastModifiedTime(cached, FileTime.fromMillis(Files.getLastModifiedTime(cached).toMillis() + 5_000));
+
+        TessdataCache.SyncResult result = new TessdataCache(cacheDir).sync(resources);
+
+        assertThat(result.copied()).isZero();
+        assertThat(result.reused()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should copy again when the source file changes")
+    void shouldRefreshChangedSource() throws Exception {
+        new TessdataCache(cacheDir).sync(resources);
+        Files.write(sourceDir.resolve("por.traineddata"), "nova versão".repeat(2000).getBytes());
+
+        TessdataCache.SyncResult result = new TessdataCache(cacheDir).sync(resources);
+
+        assertThat(result.copied()).isEqualTo(1);
+        assertThat(cacheDir.resolve("por.traineddata")).hasSameBinaryContentAs(sourceDir.resolve("por.traineddata"));
+    }
+}
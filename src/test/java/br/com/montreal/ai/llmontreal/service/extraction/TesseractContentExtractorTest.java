@@ -29,7 +29,13 @@ class TesseractContentExtractorTest {
                 "",
                 "eng", // apenas inglês para testes mais rápidos
                 3,
-                3
+                3,
+                1,
+                1000,
+                "",
+                new OcrImagePreprocessor(true, 300, 11.7, OcrImagePreprocessor.ColorMode.GRAYSCALE, false, 0.5),
+                new OcrLanguageSelector("eng", true, 0.5, 8, 0.8),
+                EngineInitializer.inline()
         );
     }
 
@@ -0,0 +1,178 @@
+package br.com.montreal.ai.llmontreal.service.extraction;
+
+import br.com.montreal.ai.llmontreal.exception.ExtractionException;
+import br.com.montreal.ai.llmontreal.exception.ExtractionTimeoutException;
+import net.sourceforge.tess4j.ITesseract;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.awt.image.BufferedImage;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@DisplayName("TesseractEnginePool Unit Tests")
+class TesseractEnginePoolTest {
+
+    @Test
+    @DisplayName("Should never hand the same engine to two threads at once")
+    void shouldNeverShareEngineBetweenThreads() throws Exception {
+        Set<ITesseract> inUse = ConcurrentHashMap.newKeySet();
+        AtomicInteger concurrentUses = new AtomicInteger();
+        AtomicInteger maxConcurrentUses = new AtomicInteger();
+        TesseractEnginePool pool = new TesseractEnginePool(2, 5000, () -> mock(ITesseract.class));
+
+        ExecutorService executor = Executors.newFixedThreadPool(6);
+        try {
+            List<Future<String>> results = new ArrayList<>();
+            for (int i = 0; i < 24; i++) {
+                results.add(executor.submit(() -> pool.execute(engine -> {
+                    assertThat(inUse.add(engine)).isTrue();
+                    maxConcurrentUses.accumulateAndGet(concurrentUses.incrementAndGet(), Math::max);
+                    sleep(5);
+                    concurrentUses.decrementAndGet();
+                    inUse.remove(engine);
+                    return "ok";
+                })));
+            }
+
+            for (Future<String> result : results) {
+                assertThat(result.get(10, TimeUnit.SECONDS)).isEqualTo("ok");
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(maxConcurrentUses.get()).isLessThanOrEqualTo(2);
+        assertThat(pool.stats().checkouts()).isEqualTo(24);
+        assertThat(pool.stats().available()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should time out when no engine becomes available")
+    void shouldTimeOutWhenPoolIsExhausted() throws Exception {
+        TesseractEnginePool pool = new TesseractEnginePool(1, 50, () -> mock(ITesseract.class));
+        CountDownLatch engineTaken = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        Thread holder = new Thread(() -> {
+            try {
+                pool.execute(engine -> {
+                    engineTaken.countDown();
+                    await(release);
+                    return null;
+                });
+            } catch (Exception ignored) {
+                // o teste só precisa manter o motor ocupado
+            }
+        });
+        holder.start();
+        engineTaken.await(5, TimeUnit.SECONDS);
+
+        try {
+            assertThatThrownBy(() -> pool.execute(engine -> "never"))
+                    .isInstanceOf(ExtractionException.class)
+                    .hasMessageContaining("Timed out");
+            assertThat(pool.stats().timeouts()).isEqualTo(1);
+        } finally {
+            release.countDown();
+            holder.join(5000);
+        }
+    }
+
+    @Test
+    @DisplayName("Should return engines to the pool when OCR fails")
+    void shouldReturnEngineWhenTaskFails() throws Exception {
+        ITesseract engine = mock(ITesseract.class);
+        when(engine.doOCR(any(BufferedImage.class)))
+                .thenThrow(new net.sourceforge.tess4j.TesseractException("boom"));
+        TesseractEnginePool pool = new TesseractEnginePool(1, 100, () -> engine);
+
+        assertThatThrownBy(() -> pool.execute(e -> e.doOCR(new BufferedImage(1, 1, BufferedImage.TYPE_BYTE_GRAY))))
+                .isInstanceOf(net.sourceforge.tess4j.TesseractException.class);
+
+        assertThat(pool.stats().available()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should replace an engine stuck past the extraction deadline instead of returning it")
+    void shouldDropEngineStuckPastDeadline() throws Exception {
+        List<ITesseract> created = new ArrayList<>();
+        TesseractEnginePool pool = new TesseractEnginePool(1, 100, () -> {
+            ITesseract engine = mock(ITesseract.class);
+            created.add(engine);
+            return engine;
+        });
+        ExtractionWatchdog watchdog = new ExtractionWatchdog(50, "", 16);
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch stuckCallReturned = new CountDownLatch(1);
+
+        try {
+            assertThatThrownBy(() -> watchdog.runWithDeadline("image/png", () -> {
+                try {
+                    return pool.execute(engine -> {
+                        awaitUninterruptibly(release);
+                        return "tarde demais";
+                    });
+                } catch (net.sourceforge.tess4j.TesseractException e) {
+                    throw new ExtractionException(e.getMessage(), e);
+                } finally {
+                    stuckCallReturned.countDown();
+                }
+            })).isInstanceOf(ExtractionTimeoutException.class);
+
+            assertThat(pool.stats().dropped()).isEqualTo(1);
+            assertThat(pool.stats().available()).isEqualTo(1);
+            ITesseract replacement = pool.execute(engine -> engine);
+            assertThat(replacement).isSameAs(created.get(1));
+        } finally {
+            release.countDown();
+        }
+
+        assertThat(stuckCallReturned.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(pool.stats().available()).isEqualTo(1);
+        ITesseract afterStuckCall = pool.execute(engine -> engine);
+        assertThat(afterStuckCall).isSameAs(created.get(1));
+        watchdog.shutdown();
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void awaitUninterruptibly(CountDownLatch latch) {
+        // simula uma chamada nativa que ignora a interrupção
+        while (true) {
+            try {
+                latch.await();
+                return;
+            } catch (InterruptedException ignored) {
+                // segue esperando
+            }
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
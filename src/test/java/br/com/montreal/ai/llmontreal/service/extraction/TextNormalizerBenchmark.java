@@ -0,0 +1,85 @@
+package br.com.montreal.ai.llmontreal.service.extraction;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+// ./mvnw test-compile exec:java -Dexec.classpathScope=test \
+//     -Dexec.mainClass=br.com.montreal.ai.llmontreal.service.extraction.TextNormalizerBenchmark
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TextNormalizerBenchmark {
+
+    private static final String[] WORDS = {
+            "contrato", "cláusula", "pagamento", "prazo", "documento", "Montreal", "extração", "OCR"
+    };
+
+    @Param({"10000", "1000000"})
+    private int size;
+
+    private String text;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(7);
+        StringBuilder builder = new StringBuilder(size + 32);
+
+        while (builder.length() < size) {
+            builder.append(WORDS[random.nextInt(WORDS.length)]);
+            switch (random.nextInt(12)) {
+                case 0 -> builder.append("\r\n");
+                case 1 -> builder.append("\n\n\n\n");
+                case 2 -> builder.append(" \t  ");
+                case 3 -> builder.append('\u000c');
+                case 4 -> builder.append("  \n   \n");
+                default -> builder.append(' ');
+            }
+        }
+
+        text = builder.toString();
+    }
+
+    @Benchmark
+    public String legacyTika() {
+        return LegacyTextCleaners.tika(text);
+    }
+
+    @Benchmark
+    public String normalize() {
+        return TextNormalizer.normalize(text);
+    }
+
+    @Benchmark
+    public String legacyTesseract() {
+        return LegacyTextCleaners.tesseract(text);
+    }
+
+    @Benchmark
+    public String normalizeDroppingBlankLines() {
+        return TextNormalizer.normalizeDroppingBlankLines(text);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(TextNormalizerBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
@@ -0,0 +1,62 @@
+package br.com.montreal.ai.llmontreal.service.extraction;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("TextNormalizer Unit Tests")
+class TextNormalizerTest {
+
+    private static final char[] ALPHABET = {
+            'a', 'b', 'é', ' ', ' ', '\t', '\n', '\n', '\r', '\u0001', '\u000b', '\u001f', '\u007f', '\u0085', ' ', ' '
+    };
+
+    @Test
+    @DisplayName("Should strip control characters and collapse whitespace")
+    void shouldStripControlCharactersAndCollapseWhitespace() {
+        String text = "  Titulo\u0000 do\t\t documento \u0007\r\n\r\n\r\n\r\nCorpo   do\ttexto  \n\n\n";
+
+        assertThat(TextNormalizer.normalize(text)).isEqualTo("Titulo do documento \n\nCorpo do texto");
+    }
+
+    @Test
+    @DisplayName("Should trim lines and drop blank lines")
+    void shouldTrimLinesAndDropBlankLines() {
+        String text = "  linha um  \r\n   \r\n\n\tlinha\u0001 dois\rlinha tres \n";
+
+        assertThat(TextNormalizer.normalizeDroppingBlankLines(text)).isEqualTo("linha um\nlinha dois\nlinha tres");
+    }
+
+    @Test
+    @DisplayName("Should return empty string for null or blank input")
+    void shouldReturnEmptyForNullOrBlankInput() {
+        assertThat(TextNormalizer.normalize(null)).isEmpty();
+        assertThat(TextNormalizer.normalize(" \r\n\t\u0002")).isEmpty();
+        assertThat(TextNormalizer.normalizeDroppingBlankLines(null)).isEmpty();
+        assertThat(TextNormalizer.normalizeDroppingBlankLines("\n \n")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should produce the same output as the previous regex cleaners")
+    void shouldMatchLegacyCleaners() {
+        Random random = new Random(42);
+
+        for (int i = 0; i < 50_000; i++) {
+            String text = randomText(random, random.nextInt(40));
+
+            assertThat(TextNormalizer.normalize(text)).isEqualTo(LegacyTextCleaners.tika(text));
+            assertThat(TextNormalizer.normalizeDroppingBlankLines(text)).isEqualTo(LegacyTextCleaners.tesseract(text));
+        }
+    }
+
+    private String randomText(Random random, int length) {
+        StringBuilder text = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            text.append(ALPHABET[random.nextInt(ALPHABET.length)]);
+        }
+        return text.toString();
+    }
+}
@@ -1,6 +1,11 @@
 package br.com.montreal.ai.llmontreal.service.extraction;
 
 import br.com.montreal.ai.llmontreal.exception.ExtractionException;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.PDPage;
+import org.apache.pdfbox.pdmodel.PDPageContentStream;
+import org.apache.pdfbox.pdmodel.font.PDType1Font;
+import org.apache.pdfbox.pdmodel.font.Standard14Fonts;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -8,11 +13,19 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
 
 import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
 import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
 
 @DisplayName("TikaContentExtractor Unit Tests")
 class TikaContentExtractorTest {
@@ -21,7 +34,10 @@ class TikaContentExtractorTest {
 
     @BeforeEach
     void setUp() {
-        extractor = new TikaContentExtractor();
+        extractor = new TikaContentExtractor(
+                new PdfPageRangeTextExtractor(Runnable::run, true, 3, 2, 0),
+                new ExtractionSinkFactory(64, 10_000),
+                EngineInitializer.inline());
     }
 
     @ParameterizedTest
@@ -85,5 +101,75 @@ class TikaContentExtractorTest {
         int priority = extractor.getPriority();
         assertThat(priority).isEqualTo(10);
     }
-}
 
+    @Test
+    @DisplayName("Should extract small PDFs in a single Tika pass")
+    void shouldExtractSmallPdfWithTika() throws Exception {
+        String result = extractor.extractContent(new ByteArrayInputStream(createPdf(2)), "application/pdf");
+
+        assertThat(result).contains("Conteudo da pagina 1", "Conteudo da pagina 2");
+    }
+
+    @Test
+    @DisplayName("Should extract large PDFs by page range keeping page order")
+    void shouldExtractLargePdfByPageRange() throws Exception {
+        String result = extractor.extractContent(new ByteArrayInputStream(createPdf(5)), "application/pdf");
+
+        assertThat(result).containsSubsequence(
+                "Conteudo da pagina 1",
+                "Conteudo da pagina 2",
+                "Conteudo da pagina 3",
+                "Conteudo da pagina 4",
+                "Conteudo da pagina 5");
+    }
+
+    @Test
+    @DisplayName("Should stream PDFs below the size threshold into Tika without counting pages")
+    void shouldStreamSmallPdfWithoutCountingPages() throws Exception {
+        PdfPageRangeTextExtractor pageRangeExtractor = spy(new PdfPageRangeTextExtractor(Runnable::run, true, 3, 2, 1024 * 1024));
+        TikaContentExtractor thresholdExtractor = new TikaContentExtractor(
+                pageRangeExtractor,
+                new ExtractionSinkFactory(64, 10_000),
+                EngineInitializer.inline());
+
+        String result = thresholdExtractor.extractContent(new ByteArrayInputStream(createPdf(5)), "application/pdf");
+
+        assertThat(result).containsSubsequence("Conteudo da pagina 1", "Conteudo da pagina 5");
+        verify(pageRangeExtractor, never()).countPages(any());
+        verify(pageRangeExtractor, never()).extractText(any(), anyInt(), any());
+    }
+
+    @Test
+    @DisplayName("Should truncate extracted text at the configured hard cap")
+    void shouldTruncateAtHardCap() throws Exception {
+        TikaContentExtractor cappedExtractor = new TikaContentExtractor(
+                new PdfPageRangeTextExtractor(Runnable::run, false, 3, 2, 0),
+                new ExtractionSinkFactory(16, 100),
+                EngineInitializer.inline());
+        String testContent = "linha de texto extraído\n".repeat(1000);
+
+        String result = cappedExtractor.extractContent(
+                new ByteArrayInputStream(testContent.getBytes(StandardCharsets.UTF_8)), "text/plain");
+
+        assertThat(result).startsWith("linha de texto extraído");
+        assertThat(result.length()).isLessThanOrEqualTo(100);
+    }
+
+    private byte[] createPdf(int pages) throws IOException {
+        try (PDDocument document = new PDDocument(); ByteArrayOutputStream out = new ByteArrayOutputStream()) {
+            for (int i = 1; i <= pages; i++) {
+                PDPage page = new PDPage();
+                document.addPage(page);
+                try (PDPageContentStream content = new PDPageContentStream(document, page)) {
+                    content.beginText();
+                    content.setFont(new PDType1Font(Standard14Fonts.FontName.HELVETICA), 12);
+                    content.newLineAtOffset(72, 700);
+                    content.showText("Conteudo da pagina " + i);
+                    content.endText();
+                }
+            }
+            document.save(out);
+            return out.toByteArray();
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package br.com.montreal.ai.llmontreal.service.extraction.worker;
+
+import br.com.montreal.ai.llmontreal.exception.ExtractionException;
+import br.com.montreal.ai.llmontreal.service.extraction.EngineInitializer;
+import br.com.montreal.ai.llmontreal.service.extraction.ExtractionSinkFactory;
+import br.com.montreal.ai.llmontreal.service.extraction.PdfPageRangeTextExtractor;
+import br.com.montreal.ai.llmontreal.service.extraction.TikaContentExtractor;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.env.StandardEnvironment;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("ExtractionWorkerPool Unit Tests")
+class ExtractionWorkerPoolTest {
+
+    private TikaContentExtractor tikaExtractor;
+    private ExtractionWorkerPool pool;
+
+    @BeforeEach
+    void setUp() {
+        tikaExtractor = new TikaContentExtractor(
+                new PdfPageRangeTextExtractor(Runnable::run, false, 100, 50, 0),
+                new ExtractionSinkFactory(4_000_000, 20_000_000),
+                EngineInitializer.inline());
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (pool != null) {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("Should extract text in a forked worker and recycle it after the job limit")
+    void shouldExtractInForkedWorkerAndRecycle() throws Exception {
+        pool = new ExtractionWorkerPool(new StandardEnvironment(), true, 1, 1, "-Xmx256m", "", 60_000);
+
+        String first = pool.extract(tikaExtractor, textStream("Primeiro documento"), "text/plain");
+        String second = pool.extract(tikaExtractor, textStream("Segundo documento"), "text/plain");
+
+        assertThat(first).contains("Primeiro documento");
+        assertThat(second).contains("Segundo documento");
+        assertThat(pool.stats().started()).isEqualTo(2);
+        assertThat(pool.stats().recycled()).isEqualTo(2);
+        assertThat(pool.stats().crashed()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should surface extractor failures and keep the worker for the next job")
+    void shouldSurfaceFailuresAndReuseWorker() throws Exception {
+        pool = new ExtractionWorkerPool(new StandardEnvironment(), true, 1, 10, "-Xmx256m", "", 60_000);
+
+        assertThatThrownBy(() -> pool.extract(tikaExtractor, textStream("x"), "application/zip"))
+                .isInstanceOf(ExtractionException.class)
+                .hasMessageContaining("not supported");
+
+        String content = pool.extract(tikaExtractor, textStream("Conteudo valido"), "text/plain");
+
+        assertThat(content).contains("Conteudo valido");
+        assertThat(pool.stats().started()).isEqualTo(1);
+        assertThat(pool.stats().jobs()).isEqualTo(2);
+    }
+
+    private ByteArrayInputStream textStream(String text) {
+        return new ByteArrayInputStream(text.getBytes(StandardCharsets.UTF_8));
+    }
+}
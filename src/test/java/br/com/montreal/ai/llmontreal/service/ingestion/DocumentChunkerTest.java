@@ -0,0 +1,91 @@
+package br.com.montreal.ai.llmontreal.service.ingestion;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("DocumentChunker Unit Tests")
+class DocumentChunkerTest {
+
+    private final DocumentChunker chunker = new DocumentChunker(200, 50);
+
+    @Test
+    @DisplayName("Should cover the whole text with overlapping chunks whose offsets match the content")
+    void shouldCoverTextWithOverlappingChunks() {
+        String text = paragraphs(6);
+
+        List<DocumentChunker.Chunk> chunks = chunker.split(text);
+
+        assertThat(chunks).hasSizeGreaterThan(3);
+        assertThat(chunks.get(0).start()).isZero();
+        assertThat(chunks.get(chunks.size() - 1).end()).isEqualTo(text.stripTrailing().length());
+
+        for (int i = 0; i < chunks.size(); i++) {
+            DocumentChunker.Chunk chunk = chunks.get(i);
+            assertThat(chunk.index()).isEqualTo(i);
+            assertThat(chunk.content()).isEqualTo(text.substring(chunk.start(), chunk.end()));
+            assertThat(chunk.content().length()).isLessThanOrEqualTo(200);
+
+            if (i > 0) {
+                DocumentChunker.Chunk previous = chunks.get(i - 1);
+                assertThat(chunk.start()).isGreaterThan(previous.start()).isLessThan(previous.end());
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Should end chunks at sentence boundaries and start them at word boundaries")
+    void shouldRespectWordAndSentenceBoundaries() {
+        String text = paragraphs(4);
+
+        List<DocumentChunker.Chunk> chunks = chunker.split(text);
+
+        for (DocumentChunker.Chunk chunk : chunks.subList(0, chunks.size() - 1)) {
+            assertThat(chunk.content()).endsWith(".");
+        }
+        for (DocumentChunker.Chunk chunk : chunks.subList(1, chunks.size())) {
+            assertThat(Character.isWhitespace(text.charAt(chunk.start() - 1))).isTrue();
+        }
+    }
+
+    @Test
+    @DisplayName("Should hard-cut text without any boundary and still make progress")
+    void shouldHardCutTextWithoutBoundaries() {
+        List<DocumentChunker.Chunk> chunks = chunker.split("x".repeat(450));
+
+        assertThat(chunks).extracting(DocumentChunker.Chunk::start).containsExactly(0, 150, 300);
+        assertThat(chunks).extracting(DocumentChunker.Chunk::end).containsExactly(200, 350, 450);
+    }
+
+    @Test
+    @DisplayName("Should return a single chunk for short text and none for blank text")
+    void shouldHandleShortAndBlankText() {
+        assertThat(chunker.split("  Contrato curto.  "))
+                .containsExactly(new DocumentChunker.Chunk(0, 2, 17, "Contrato curto."));
+        assertThat(chunker.split("   \n ")).isEmpty();
+        assertThat(chunker.split(null)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should reject an overlap larger than half the chunk size")
+    void shouldRejectInvalidConfiguration() {
+        assertThatThrownBy(() -> new DocumentChunker(200, 150)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new DocumentChunker(10, 0)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static String paragraphs(int count) {
+        StringBuilder text = new StringBuilder();
+        for (int p = 0; p < count; p++) {
+            for (int s = 0; s < 4; s++) {
+                text.append("A cláusula ").append(p * 4 + s)
+                        .append(" define as obrigações das partes e o prazo de vigência do contrato. ");
+            }
+            text.append("\n\n");
+        }
+        return text.toString();
+    }
+}
@@ -0,0 +1,149 @@
+package br.com.montreal.ai.llmontreal.service.ingestion;
+
+import br.com.montreal.ai.llmontreal.entity.DocumentChunk;
+import br.com.montreal.ai.llmontreal.event.DocumentExtractionCompletedEvent;
+import br.com.montreal.ai.llmontreal.exception.OllamaException;
+import br.com.montreal.ai.llmontreal.repository.DocumentChunkRepository;
+import br.com.montreal.ai.llmontreal.repository.DocumentRepository;
+import br.com.montreal.ai.llmontreal.service.ollama.OllamaEmbeddingClient;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("DocumentIngestionService Unit Tests")
+class DocumentIngestionServiceTest {
+
+    private static final Long DOC_ID = 42L;
+
+    @Mock
+    private DocumentRepository documentRepository;
+
+    @Mock
+    private DocumentChunkRepository chunkRepository;
+
+    @Mock
+    private OllamaEmbeddingClient embeddingClient;
+
+    @Captor
+    private ArgumentCaptor<List<DocumentChunk>> savedChunks;
+
+    private DocumentIngestionService ingestionService;
+
+    @BeforeEach
+    void setUp() {
+        ingestionService = service(Runnable::run);
+        lenient().when(embeddingClient.getModel()).thenReturn("nomic-embed-text");
+    }
+
+    @Test
+    @DisplayName("Should chunk, embed in batches and mark the document as ingested after extraction")
+    void shouldIngestDocumentAfterExtraction() {
+        when(embeddingClient.embed(anyList()))
+                .thenAnswer(invocation -> vectors(invocation.<List<String>>getArgument(0).size()));
+
+        ingestionService.onExtractionCompleted(DocumentExtractionCompletedEvent.success(this, DOC_ID, content()));
+
+        verify(chunkRepository).deleteByDocumentId(DOC_ID);
+        verify(chunkRepository).saveAll(savedChunks.capture());
+        List<DocumentChunk> chunks = savedChunks.getValue();
+        assertThat(chunks).hasSizeGreaterThan(2);
+        assertThat(chunks).allSatisfy(chunk -> {
+            assertThat(chunk.getDocumentId()).isEqualTo(DOC_ID);
+            assertThat(chunk.getContent()).isEqualTo(content().substring(chunk.getStartOffset(), chunk.getEndOffset()));
+            assertThat(chunk.getEmbeddingVector()).containsExactly(0.25f, -1.5f, 0f);
+            assertThat(chunk.getEmbeddingModel()).isEqualTo("nomic-embed-text");
+        });
+
+        // batch size 2
+        verify(embeddingClient, times((chunks.size() + 1) / 2)).embed(anyList());
+        verify(documentRepository).markIngested(DOC_ID, null);
+        verify(documentRepository).markIngested(eq(DOC_ID), any(LocalDateTime.class));
+
+        DocumentIngestionService.IngestionStats stats = ingestionService.stats();
+        assertThat(stats.documentsIngested()).isEqualTo(1);
+        assertThat(stats.chunksStored()).isEqualTo(chunks.size());
+        assertThat(stats.inFlight()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should keep the chunks but leave the document for the backfill when a batch fails")
+    void shouldLeaveDocumentPendingWhenEmbeddingFails() {
+        when(embeddingClient.embed(anyList()))
+                .thenAnswer(invocation -> vectors(2))
+                .thenThrow(new OllamaException("Ollama error: connection refused"));
+
+        boolean ingested = ingestionService.ingest(DOC_ID, content());
+
+        assertThat(ingested).isFalse();
+        verify(embeddingClient, times(2)).embed(anyList());
+        verify(chunkRepository).saveAll(savedChunks.capture());
+        assertThat(savedChunks.getValue()).extracting(DocumentChunk::getEmbedding)
+                .first().isNotNull();
+        assertThat(savedChunks.getValue()).extracting(DocumentChunk::getEmbedding)
+                .last().isNull();
+        verify(documentRepository, never()).markIngested(eq(DOC_ID), any(LocalDateTime.class));
+
+        DocumentIngestionService.IngestionStats stats = ingestionService.stats();
+        assertThat(stats.documentsFailed()).isEqualTo(1);
+        assertThat(stats.failedBatches()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should mark blank content as ingested without calling Ollama")
+    void shouldIngestBlankContentWithoutEmbedding() {
+        boolean ingested = ingestionService.ingest(DOC_ID, "   ");
+
+        assertThat(ingested).isTrue();
+        verifyNoInteractions(embeddingClient);
+        verify(documentRepository).markIngested(eq(DOC_ID), any(LocalDateTime.class));
+    }
+
+    @Test
+    @DisplayName("Should ignore failed extractions and count documents rejected by a full queue")
+    void shouldIgnoreFailuresAndCountRejections() {
+        DocumentIngestionService saturated = service(task -> {
+            throw new RejectedExecutionException("queue full");
+        });
+
+        ingestionService.onExtractionCompleted(DocumentExtractionCompletedEvent.failure(this, DOC_ID, "corrupted"));
+        saturated.onExtractionCompleted(DocumentExtractionCompletedEvent.success(this, DOC_ID, content()));
+
+        verifyNoInteractions(chunkRepository, embeddingClient);
+        assertThat(saturated.stats().rejected()).isEqualTo(1);
+    }
+
+    private DocumentIngestionService service(Executor executor) {
+        return new DocumentIngestionService(documentRepository, chunkRepository, new DocumentChunker(200, 50),
+                embeddingClient, executor, true, 2);
+    }
+
+    private static List<float[]> vectors(int count) {
+        return IntStream.range(0, count)
+                .mapToObj(i -> new float[]{0.25f, -1.5f, 0f})
+                .toList();
+    }
+
+    private static String content() {
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < 12; i++) {
+            text.append("O contrato ").append(i).append(" prevê multa por rescisão antecipada e reajuste anual. ");
+        }
+        return text.toString();
+    }
+}
@@ -0,0 +1,67 @@
+package br.com.montreal.ai.llmontreal.service.ingestion;
+
+import br.com.montreal.ai.llmontreal.entity.enums.DocumentStatus;
+import br.com.montreal.ai.llmontreal.repository.DocumentRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("IngestionBackfillJob Unit Tests")
+class IngestionBackfillJobTest {
+
+    @Mock
+    private DocumentRepository documentRepository;
+
+    @Mock
+    private DocumentIngestionService ingestionService;
+
+    private IngestionBackfillJob backfillJob;
+
+    @BeforeEach
+    void setUp() {
+        backfillJob = new IngestionBackfillJob(documentRepository, ingestionService, Runnable::run, true, 2, 0);
+        lenient().when(ingestionService.isEnabled()).thenReturn(true);
+    }
+
+    @Test
+    @DisplayName("Should move past documents that keep failing and start a new pass when nothing is left")
+    void shouldAdvanceCursorAndStartNewPass() {
+        when(documentRepository.findIdsPendingIngestion(DocumentStatus.COMPLETED, 0L, PageRequest.of(0, 2)))
+                .thenReturn(List.of(3L, 5L), List.of(3L));
+        when(documentRepository.findIdsPendingIngestion(DocumentStatus.COMPLETED, 5L, PageRequest.of(0, 2)))
+                .thenReturn(List.of());
+        when(ingestionService.ingest(3L)).thenReturn(false);
+        when(ingestionService.ingest(5L)).thenReturn(true);
+
+        backfillJob.tick();
+        backfillJob.tick();
+        backfillJob.tick();
+
+        verify(ingestionService, times(2)).ingest(3L);
+        verify(ingestionService, times(1)).ingest(5L);
+        verify(documentRepository, times(2))
+                .findIdsPendingIngestion(DocumentStatus.COMPLETED, 0L, PageRequest.of(0, 2));
+    }
+
+    @Test
+    @DisplayName("Should not query anything while ingestion is disabled")
+    void shouldSkipWhenIngestionDisabled() {
+        when(ingestionService.isEnabled()).thenReturn(false);
+
+        backfillJob.tick();
+
+        verify(documentRepository, never()).findIdsPendingIngestion(any(), anyLong(), any());
+        verify(ingestionService, never()).ingest(anyLong());
+    }
+}
@@ -0,0 +1,105 @@
+package br.com.montreal.ai.llmontreal.service.ollama;
+
+import br.com.montreal.ai.llmontreal.dto.kafka.KafkaChatResponseDTO;
+import br.com.montreal.ai.llmontreal.dto.kafka.KafkaSummaryRequestDTO;
+import br.com.montreal.ai.llmontreal.dto.kafka.KafkaSummaryResponseDTO;
+import br.com.montreal.ai.llmontreal.entity.Document;
+import br.com.montreal.ai.llmontreal.repository.ChatSessionRepository;
+import br.com.montreal.ai.llmontreal.repository.DocumentRepository;
+import br.com.montreal.ai.llmontreal.service.ChatService;
+import jakarta.persistence.EntityNotFoundException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.Acknowledgment;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("OllamaConsumerService Unit Tests")
+class OllamaConsumerServiceTest {
+
+    @Mock
+    private WebClient webClient;
+
+    @Mock
+    private ChatService chatService;
+
+    @Mock
+    private KafkaTemplate<String, KafkaChatResponseDTO> kafkaChatTemplate;
+
+    @Mock
+    private KafkaTemplate<String, KafkaSummaryResponseDTO> kafkaSummaryTemplate;
+
+    @Mock
+    private DocumentRepository documentRepository;
+
+    @Mock
+    private ChatSessionRepository chatSessionRepository;
+
+    @Mock
+    private OllamaLogApiCallService logApiCallService;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private Acknowledgment acknowledgment;
+
+    private OllamaConsumerService consumerService;
+
+    private final KafkaSummaryRequestDTO request = KafkaSummaryRequestDTO.builder()
+            .correlationId("req-1")
+            .documentId(1L)
+            .build();
+
+    @BeforeEach
+    void setUp() {
+        consumerService = new OllamaConsumerService(webClient, chatService, kafkaChatTemplate, kafkaSummaryTemplate,
+                documentRepository, chatSessionRepository, logApiCallService, eventPublisher);
+        ReflectionTestUtils.setField(consumerService, "ollamaModel", "test-model");
+    }
+
+    @Test
+    @DisplayName("Should acknowledge a handed-off request only after it finishes in virtual-thread mode")
+    void shouldAcknowledgeAfterHandedOffRequestFinishes() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        ReflectionTestUtils.setField(consumerService, "virtualThreads", true);
+        ReflectionTestUtils.setField(consumerService, "ollamaCallExecutor",
+                (TaskExecutor) task -> Thread.ofVirtual().start(task));
+        when(documentRepository.findById(1L)).thenAnswer(invocation -> {
+            release.await(5, TimeUnit.SECONDS);
+            return Optional.<Document>empty();
+        });
+
+        consumerService.summarizeDocumentContent(request, acknowledgment);
+
+        verify(acknowledgment, after(200).never()).acknowledge();
+        release.countDown();
+        verify(acknowledgment, timeout(5000)).acknowledge();
+    }
+
+    @Test
+    @DisplayName("Should leave a failed request unacknowledged for the error handler on the listener thread")
+    void shouldNotAcknowledgeFailedRequestOnListenerThread() {
+        ReflectionTestUtils.setField(consumerService, "virtualThreads", false);
+        when(documentRepository.findById(1L)).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> consumerService.summarizeDocumentContent(request, acknowledgment))
+                .isInstanceOf(EntityNotFoundException.class);
+        verify(acknowledgment, never()).acknowledge();
+    }
+}
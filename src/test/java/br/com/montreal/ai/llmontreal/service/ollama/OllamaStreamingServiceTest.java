@@ -0,0 +1,221 @@
+package br.com.montreal.ai.llmontreal.service.ollama;
+
+import br.com.montreal.ai.llmontreal.dto.ChatMessageResponseDTO;
+import br.com.montreal.ai.llmontreal.dto.ChatTokenDTO;
+import br.com.montreal.ai.llmontreal.dto.OllamaApiResponseDTO;
+import br.com.montreal.ai.llmontreal.dto.OllamaRequestDTO;
+import br.com.montreal.ai.llmontreal.entity.ChatMessage;
+import br.com.montreal.ai.llmontreal.entity.ChatSession;
+import br.com.montreal.ai.llmontreal.entity.Document;
+import br.com.montreal.ai.llmontreal.entity.enums.Author;
+import br.com.montreal.ai.llmontreal.exception.ErrorResponseDTO;
+import br.com.montreal.ai.llmontreal.repository.DocumentRepository;
+import br.com.montreal.ai.llmontreal.service.ChatService;
+import jakarta.persistence.EntityNotFoundException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import reactor.core.publisher.Flux;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("OllamaStreamingService Unit Tests")
+class OllamaStreamingServiceTest {
+
+    private static final Long DOC_ID = 1L;
+    private static final Long SESSION_ID = 7L;
+    private static final String CORRELATION_ID = "req-1";
+
+    @Mock
+    private WebClient webClient;
+
+    @Mock
+    private WebClient.RequestBodyUriSpec requestBodyUriSpec;
+
+    @Mock
+    private WebClient.RequestBodySpec requestBodySpec;
+
+    @Mock
+    @SuppressWarnings("rawtypes")
+    private WebClient.RequestHeadersSpec requestHeadersSpec;
+
+    @Mock
+    private WebClient.ResponseSpec responseSpec;
+
+    @Mock
+    private ChatService chatService;
+
+    @Mock
+    private DocumentRepository documentRepository;
+
+    @Mock
+    private OllamaLogApiCallService logApiCallService;
+
+    @Mock
+    private SseEmitter emitter;
+
+    private OllamaStreamingService streamingService;
+
+    @BeforeEach
+    void setUp() {
+        streamingService = new OllamaStreamingService(webClient, chatService, documentRepository, logApiCallService) {
+            @Override
+            SseEmitter createEmitter() {
+                return emitter;
+            }
+
+            @Override
+            Scheduler scheduler() {
+                return Schedulers.immediate();
+            }
+        };
+        ReflectionTestUtils.setField(streamingService, "ollamaModel", "deepseek-r1:1.5b");
+        ReflectionTestUtils.setField(streamingService, "idleTimeoutMs", 5_000L);
+    }
+
+    @Test
+    @DisplayName("Should forward each token and persist the full answer when Ollama is done")
+    void shouldForwardTokensAndPersistAnswer() throws Exception {
+        givenDocumentWithSession();
+        givenOllamaStream(Flux.just(chunk("Olá", false), chunk(" mundo", false), chunk("", true)));
+        when(chatService.addMessageToContext(eq(SESSION_ID), anyString(), any(Author.class)))
+                .thenAnswer(invocation -> ChatMessage.builder()
+                        .message(invocation.getArgument(1))
+                        .author(invocation.getArgument(2))
+                        .createdAt(LocalDateTime.now())
+                        .build());
+
+        SseEmitter result = streamingService.streamChat(request(), DOC_ID, CORRELATION_ID);
+
+        assertThat(result).isSameAs(emitter);
+        List<Object> events = sentData();
+        assertThat(events).containsSubsequence(new ChatTokenDTO("Olá"), new ChatTokenDTO(" mundo"));
+        assertThat(events.get(events.size() - 1)).isInstanceOfSatisfying(ChatMessageResponseDTO.class,
+                response -> assertThat(response.response()).isEqualTo("Olá mundo"));
+        verify(chatService).addMessageToContext(SESSION_ID, "Qual o assunto?", Author.USER);
+        verify(chatService).addMessageToContext(SESSION_ID, "Olá mundo", Author.MODEL);
+        verify(emitter).complete();
+        verify(logApiCallService).updateApiCallLog(eq(CORRELATION_ID), anyLong(), eq(200), isNull());
+
+        ArgumentCaptor<OllamaRequestDTO> body = ArgumentCaptor.forClass(OllamaRequestDTO.class);
+        verify(requestBodySpec).bodyValue(body.capture());
+        assertThat(body.getValue().stream()).isTrue();
+
+        OllamaStreamingService.StreamStats stats = streamingService.stats();
+        assertThat(stats.completed()).isEqualTo(1);
+        assertThat(stats.active()).isZero();
+        assertThat(stats.maxTimeToFirstTokenMs()).isGreaterThanOrEqualTo(0);
+    }
+
+    @Test
+    @DisplayName("Should send an error event and keep the history untouched when Ollama fails")
+    void shouldSendErrorEventWhenOllamaFails() throws Exception {
+        givenDocumentWithSession();
+        givenOllamaStream(Flux.concat(Flux.just(chunk("Olá", false)),
+                Flux.error(new IllegalStateException("connection reset"))));
+
+        streamingService.streamChat(request(), DOC_ID, CORRELATION_ID);
+
+        assertThat(sentData()).last().isInstanceOfSatisfying(ErrorResponseDTO.class,
+                error -> assertThat(error.errorMessage()).isEqualTo("connection reset"));
+        verify(chatService, never()).addMessageToContext(anyLong(), anyString(), eq(Author.MODEL));
+        verify(logApiCallService).updateApiCallLog(eq(CORRELATION_ID), anyLong(), eq(500), eq("connection reset"));
+        verify(emitter).complete();
+        assertThat(streamingService.stats().failed()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should cancel the Ollama generation when the client disconnects")
+    void shouldCancelGenerationWhenClientLeaves() throws Exception {
+        givenDocumentWithSession();
+        AtomicBoolean upstreamCancelled = new AtomicBoolean();
+        givenOllamaStream(Flux.just(chunk("Olá", false), chunk(" mundo", false), chunk("", true))
+                .doOnCancel(() -> upstreamCancelled.set(true)));
+        doThrow(new IOException("Broken pipe")).when(emitter).send(any(SseEmitter.SseEventBuilder.class));
+
+        streamingService.streamChat(request(), DOC_ID, CORRELATION_ID);
+
+        assertThat(upstreamCancelled).isTrue();
+        verify(emitter, times(1)).send(any(SseEmitter.SseEventBuilder.class));
+        verify(chatService, never()).addMessageToContext(anyLong(), anyString(), eq(Author.MODEL));
+        assertThat(streamingService.stats().cancelled()).isEqualTo(1);
+        assertThat(streamingService.stats().failed()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should reject the stream before calling Ollama when the document does not exist")
+    void shouldRejectUnknownDocument() {
+        when(documentRepository.findById(DOC_ID)).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> streamingService.streamChat(request(), DOC_ID, CORRELATION_ID))
+                .isInstanceOf(EntityNotFoundException.class);
+
+        verifyNoInteractions(webClient, chatService);
+        assertThat(streamingService.stats().streams()).isZero();
+    }
+
+    private void givenDocumentWithSession() {
+        Document doc = Document.builder()
+                .id(DOC_ID)
+                .extractedContent("Contrato de prestação de serviços")
+                .build();
+        ChatSession session = ChatSession.builder()
+                .id(SESSION_ID)
+                .document(doc)
+                .isActive(true)
+                .build();
+
+        when(documentRepository.findById(DOC_ID)).thenReturn(Optional.of(doc));
+        when(chatService.getOrCreateSession(any(), eq(doc))).thenReturn(session);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void givenOllamaStream(Flux<OllamaApiResponseDTO> chunks) {
+        when(webClient.post()).thenReturn(requestBodyUriSpec);
+        when(requestBodyUriSpec.uri("/api/generate")).thenReturn(requestBodySpec);
+        when(requestBodySpec.bodyValue(any())).thenReturn(requestHeadersSpec);
+        when(requestHeadersSpec.retrieve()).thenReturn(responseSpec);
+        when(responseSpec.bodyToFlux(OllamaApiResponseDTO.class)).thenReturn(chunks);
+    }
+
+    private List<Object> sentData() throws IOException {
+        ArgumentCaptor<SseEmitter.SseEventBuilder> events = ArgumentCaptor.forClass(SseEmitter.SseEventBuilder.class);
+        verify(emitter, atLeastOnce()).send(events.capture());
+        return events.getAllValues().stream()
+                .flatMap(event -> event.build().stream())
+                .map(ResponseBodyEmitter.DataWithMediaType::getData)
+                .filter(data -> !(data instanceof String))
+                .toList();
+    }
+
+    private static OllamaRequestDTO request() {
+        return OllamaRequestDTO.builder()
+                .model("deepseek-r1:1.5b")
+                .prompt("Qual o assunto?")
+                .build();
+    }
+
+    private static OllamaApiResponseDTO chunk(String response, boolean done) {
+        return new OllamaApiResponseDTO("deepseek-r1:1.5b", LocalDateTime.now().toString(), response, done);
+    }
+}
@@ -0,0 +1,76 @@
+package br.com.montreal.ai.llmontreal.service.storage;
+
+import br.com.montreal.ai.llmontreal.exception.BlobStorageException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("LocalFileSystemBlobStore Unit Tests")
+class LocalFileSystemBlobStoreTest {
+
+    private static final String HELLO_SHA256 = "2cf24dba5fb0a30e26e83b2ac5b9e29e1b161e5c1fa7425e73043362938b9824";
+
+    @TempDir
+    Path tempDir;
+
+    private LocalFileSystemBlobStore blobStore;
+
+    @BeforeEach
+    void setUp() {
+        blobStore = new LocalFileSystemBlobStore(tempDir.toString());
+    }
+
+    @Test
+    @DisplayName("Should store content keyed by its SHA-256 hash")
+    void shouldStoreContentKeyedBySha256() throws Exception {
+        StoredBlob blob = blobStore.store(new ByteArrayInputStream("hello".getBytes(StandardCharsets.UTF_8)));
+
+        assertThat(blob.key()).isEqualTo(HELLO_SHA256);
+        assertThat(blob.sha256()).isEqualTo(HELLO_SHA256);
+        assertThat(blob.size()).isEqualTo(5L);
+        assertThat(blobStore.exists(HELLO_SHA256)).isTrue();
+        assertThat(tempDir.resolve("2c").resolve("f2").resolve(HELLO_SHA256)).exists();
+    }
+
+    @Test
+    @DisplayName("Should read back the stored content")
+    void shouldReadBackStoredContent() throws Exception {
+        StoredBlob blob = blobStore.store(new ByteArrayInputStream("hello".getBytes(StandardCharsets.UTF_8)));
+
+        try (InputStream in = blobStore.open(blob.key())) {
+            assertThat(new String(in.readAllBytes(), StandardCharsets.UTF_8)).isEqualTo("hello");
+        }
+    }
+
+    @Test
+    @DisplayName("Should keep a single copy of duplicate content and leave no temp files")
+    void shouldDeduplicateIdenticalContent() throws Exception {
+        StoredBlob first = blobStore.store(new ByteArrayInputStream("hello".getBytes(StandardCharsets.UTF_8)));
+        StoredBlob second = blobStore.store(new ByteArrayInputStream("hello".getBytes(StandardCharsets.UTF_8)));
+
+        assertThat(second.key()).isEqualTo(first.key());
+
+        try (Stream<Path> tempFiles = Files.list(tempDir.resolve("tmp"))) {
+            assertThat(tempFiles).isEmpty();
+        }
+    }
+
+    @Test
+    @DisplayName("Should reject keys that are not SHA-256 hashes")
+    void shouldRejectInvalidKeys() {
+        assertThatThrownBy(() -> blobStore.open("../../etc/passwd"))
+                .isInstanceOf(BlobStorageException.class)
+                .hasMessageContaining("Invalid blob key");
+    }
+}